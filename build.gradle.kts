@@ -11,6 +11,7 @@ plugins {
     alias(libs.plugins.runPaper)
     alias(libs.plugins.resourceFactory)
     alias(libs.plugins.accessWiden)
+    alias(libs.plugins.jmh)
 }
 
 group = "org.virgil"
@@ -115,6 +116,25 @@ dependencies {
             compileOnly("org.slf4j:slf4j-api:1.7.36")
         }
     }
+
+    apply `benchmark dependencies`@{
+        // Benchmarks run outside the server, so everything the plugin only compiles against is needed at runtime
+        configurations.jmhImplementation {
+            extendsFrom(configurations.compileOnly.get(), configurations[mixinSourceSet.compileOnlyConfigurationName])
+        }
+        jmhImplementation(mixinSourceSet.output)
+    }
+}
+
+// ./gradlew jmh -PjmhIncludes=Explosion
+jmh {
+    val jmhIncludes = providers.gradleProperty("jmhIncludes").orNull
+    jmhVersion = libs.versions.jmh
+    profilers.add("gc")
+    resultFormat = "JSON"
+    // One JSON file per suite so runs of different suites do not overwrite each other
+    resultsFile = layout.buildDirectory.file("reports/jmh/${jmhIncludes?.replace(Regex("[^A-Za-z0-9]+"), "_") ?: "results"}.json")
+    jmhIncludes?.let { includes.add(it) }
 }
 
 accessWideners {
@@ -146,6 +166,10 @@ tasks {
         dependsOn(applyAccessWideners)
     }
     
+    named<JavaCompile>("compileJmhJava") {
+        dependsOn("compileMixinJava")
+    }
+
     named<JavaCompile>("compileJava") {
         // Main must compile AFTER mixin (to access ConfigBridge which is in mixin source set)
         dependsOn("compileMixinJava")
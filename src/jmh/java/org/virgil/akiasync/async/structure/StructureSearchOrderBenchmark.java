@@ -0,0 +1,120 @@
+package org.virgil.akiasync.async.structure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+// biomeAware is the order the locator builds today; layered and hybrid are candidate replacements for the
+// "search-pattern" option and are defined here until one of them is adopted
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StructureSearchOrderBenchmark {
+
+    private static final String[] BIOMES = {
+        "minecraft:plains", "minecraft:forest", "minecraft:desert", "minecraft:ocean",
+        "minecraft:taiga", "minecraft:savanna", "minecraft:dark_forest", "minecraft:river"
+    };
+    private static final Set<String> VILLAGE_BIOMES = Set.of(
+        "minecraft:plains", "minecraft:desert", "minecraft:savanna",
+        "minecraft:taiga", "minecraft:snowy_plains", "minecraft:snowy_taiga"
+    );
+    private static final List<String> STRUCTURES = List.of("minecraft:village_plains", "minecraft:village_desert", "minecraft:village_savanna");
+
+    @Param({"16", "50", "100"})
+    public int radius;
+
+    // Blackhole CPU tokens burned per biome lookup, standing in for ServerLevel.getBiome
+    @Param({"0", "64"})
+    public long lookupCost;
+
+    private final ChunkPos center = new ChunkPos(-37, 112);
+    private final BlockPos start = center.getMiddleBlockPosition(64);
+    private OptimizedStructureLocator.BiomeLookup biomes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long cost = lookupCost;
+        biomes = pos -> {
+            Blackhole.consumeCPU(cost);
+            int patch = Math.floorMod((pos.getX() >> 7) * 73_856_093 ^ (pos.getZ() >> 7) * 19_349_663, BIOMES.length);
+            return BIOMES[patch];
+        };
+    }
+
+    @Benchmark
+    public List<ChunkPos> spiral() {
+        return OptimizedStructureLocator.getSpiralSearchOrder(center, radius);
+    }
+
+    @Benchmark
+    public List<ChunkPos> biomeAware() {
+        return OptimizedStructureLocator.getBiomeAwareSearchOrder(biomes, center, VILLAGE_BIOMES, radius);
+    }
+
+    @Benchmark
+    public List<ChunkPos> layered() {
+        List<ChunkPos> order = new ArrayList<>((2 * radius + 1) * (2 * radius + 1));
+        List<ChunkPos> deferred = new ArrayList<>();
+        List<ChunkPos> spiral = OptimizedStructureLocator.getSpiralSearchOrder(center, radius);
+        int ringEnd = 1;
+        for (int i = 0, ring = 0; i < spiral.size(); i++) {
+            ChunkPos pos = spiral.get(i);
+            if (OptimizedStructureLocator.getBiomeCompatibilityScore(biomes, pos, VILLAGE_BIOMES) >= 1.0f) {
+                order.add(pos);
+            } else {
+                deferred.add(pos);
+            }
+            if (i + 1 == ringEnd) {
+                order.addAll(deferred);
+                deferred.clear();
+                ring++;
+                ringEnd += 8 * ring;
+            }
+        }
+        order.addAll(deferred);
+        return order;
+    }
+
+    @Benchmark
+    public List<ChunkPos> hybrid() {
+        List<ChunkPos> spiral = OptimizedStructureLocator.getSpiralSearchOrder(center, radius);
+        List<ChunkPos> compatible = new ArrayList<>(spiral.size());
+        List<ChunkPos> other = new ArrayList<>(spiral.size());
+        for (ChunkPos pos : spiral) {
+            if (OptimizedStructureLocator.getBiomeCompatibilityScore(biomes, pos, VILLAGE_BIOMES) >= 1.0f) {
+                compatible.add(pos);
+            } else {
+                other.add(pos);
+            }
+        }
+        compatible.addAll(other);
+        return compatible;
+    }
+
+    @Benchmark
+    public String cacheKey() {
+        return OptimizedStructureLocator.buildCacheKey(STRUCTURES, start, radius);
+    }
+}
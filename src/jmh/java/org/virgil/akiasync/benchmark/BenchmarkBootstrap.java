@@ -0,0 +1,67 @@
+package org.virgil.akiasync.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import org.virgil.akiasync.mixin.bridge.Bridge;
+import org.virgil.akiasync.mixin.bridge.BridgeManager;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+public final class BenchmarkBootstrap {
+
+    private static boolean bootstrapped;
+
+    private BenchmarkBootstrap() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void minecraft() {
+        if (bootstrapped) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+
+    public static synchronized void bridge(Map<String, Object> answers) {
+        if (BridgeManager.getBridge() != null) {
+            return;
+        }
+        BridgeManager.setBridge((Bridge) Proxy.newProxyInstance(Bridge.class.getClassLoader(), new Class<?>[]{Bridge.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("toString")) {
+                    return "BenchmarkBridge";
+                }
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (method.getName().equals("equals")) {
+                    return proxy == args[0];
+                }
+                Object answer = answers.get(method.getName());
+                if (answer != null) {
+                    return answer;
+                }
+                Class<?> type = method.getReturnType();
+                if (type == boolean.class) {
+                    return false;
+                }
+                if (type == int.class) {
+                    return 0;
+                }
+                if (type == long.class) {
+                    return 0L;
+                }
+                if (type == double.class) {
+                    return 0.0;
+                }
+                if (type == float.class) {
+                    return 0.0f;
+                }
+                return null;
+            }));
+    }
+}
@@ -0,0 +1,111 @@
+package org.virgil.akiasync.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+
+// Mirrors the cache-hit path of EntityLookupCacheMixin, which cannot be loaded outside a mixin environment
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityLookupFilterBenchmark {
+
+    @Param({"8", "64", "512"})
+    public int cached;
+
+    @Param({"none", "alive", "quarter"})
+    public String predicate;
+
+    private List<Entity> cachedEntities;
+    private Entity except;
+    private Predicate<? super Entity> filter;
+    private AABB cachedBox;
+    private AABB queryBox;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedEntities = SyntheticEntities.markers(cached);
+        except = cachedEntities.get(cached / 2);
+        filter = switch (predicate) {
+            case "alive" -> Entity::isAlive;
+            case "quarter" -> entity -> (entity.getId() & 3) != 0;
+            default -> null;
+        };
+        cachedBox = new AABB(-8.0, 56.0, -8.0, 8.0, 72.0, 8.0);
+        queryBox = new AABB(-8.0, 56.0, -8.0, 8.0, 72.0, 8.0);
+    }
+
+    @Benchmark
+    public List<Entity> currentArrayList() {
+        if (!cachedBox.equals(queryBox)) {
+            return null;
+        }
+        List<Entity> filtered = new ArrayList<>();
+        for (Entity entity : cachedEntities) {
+            if (entity != except && (filter == null || filter.test(entity))) {
+                filtered.add(entity);
+            }
+        }
+        return filtered;
+    }
+
+    @Benchmark
+    public List<Entity> presizedArrayList() {
+        if (!cachedBox.equals(queryBox)) {
+            return null;
+        }
+        List<Entity> filtered = new ArrayList<>(cachedEntities.size());
+        for (Entity entity : cachedEntities) {
+            if (entity != except && (filter == null || filter.test(entity))) {
+                filtered.add(entity);
+            }
+        }
+        return filtered;
+    }
+
+    @Benchmark
+    public List<Entity> objectArrayList() {
+        if (!cachedBox.equals(queryBox)) {
+            return null;
+        }
+        ObjectArrayList<Entity> filtered = new ObjectArrayList<>(cachedEntities.size());
+        for (int i = 0, size = cachedEntities.size(); i < size; i++) {
+            Entity entity = cachedEntities.get(i);
+            if (entity != except && (filter == null || filter.test(entity))) {
+                filtered.add(entity);
+            }
+        }
+        return filtered;
+    }
+
+    @Benchmark
+    public List<Entity> stream() {
+        if (!cachedBox.equals(queryBox)) {
+            return null;
+        }
+        return cachedEntities.stream()
+            .filter(entity -> entity != except && (filter == null || filter.test(entity)))
+            .toList();
+    }
+}
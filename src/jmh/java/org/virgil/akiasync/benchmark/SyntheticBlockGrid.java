@@ -0,0 +1,96 @@
+package org.virgil.akiasync.benchmark;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+public final class SyntheticBlockGrid implements BlockGetter {
+
+    public enum Fill {
+        AIR, STONE, OBSIDIAN, WATER, MIXED;
+
+        public static Fill fromLabel(String label) {
+            return valueOf(label.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int MIN_Y = -64;
+    private static final int HEIGHT = 384;
+
+    private final BlockPos origin;
+    private final int radius;
+    private final int side;
+    private final BlockState[] states;
+    private final BlockState outside;
+
+    public SyntheticBlockGrid(Fill fill, BlockPos origin, int radius, long seed) {
+        this.origin = origin;
+        this.radius = radius;
+        this.side = radius * 2 + 1;
+        this.states = new BlockState[side * side * side];
+        this.outside = Blocks.AIR.defaultBlockState();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < states.length; i++) {
+            states[i] = pick(fill, random);
+        }
+    }
+
+    private static BlockState pick(Fill fill, SplittableRandom random) {
+        return switch (fill) {
+            case AIR -> Blocks.AIR.defaultBlockState();
+            case STONE -> Blocks.STONE.defaultBlockState();
+            case OBSIDIAN -> Blocks.OBSIDIAN.defaultBlockState();
+            case WATER -> Blocks.WATER.defaultBlockState();
+            case MIXED -> {
+                int roll = random.nextInt(100);
+                if (roll < 30) {
+                    yield Blocks.AIR.defaultBlockState();
+                }
+                if (roll < 70) {
+                    yield Blocks.STONE.defaultBlockState();
+                }
+                if (roll < 85) {
+                    yield Blocks.WATER.defaultBlockState();
+                }
+                yield Blocks.OBSIDIAN.defaultBlockState();
+            }
+        };
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        int dx = pos.getX() - origin.getX() + radius;
+        int dy = pos.getY() - origin.getY() + radius;
+        int dz = pos.getZ() - origin.getZ() + radius;
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= side || dy >= side || dz >= side) {
+            return outside;
+        }
+        return states[(dx * side + dy) * side + dz];
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public int getMinY() {
+        return MIN_Y;
+    }
+}
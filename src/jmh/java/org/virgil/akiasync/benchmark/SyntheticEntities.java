@@ -0,0 +1,63 @@
+package org.virgil.akiasync.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.virgil.akiasync.mixin.util.REFLECTIONS;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Marker;
+import net.minecraft.world.phys.Vec3;
+
+public final class SyntheticEntities {
+
+    private static final MethodHandle ALLOCATE_INSTANCE;
+    static {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            ALLOCATE_INSTANCE = MethodHandles.lookup()
+                .findVirtual(unsafeClass, "allocateInstance", MethodType.methodType(Object.class, Class.class))
+                .bindTo(field.get(null));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SyntheticEntities() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<Entity> markers(int count) {
+        return markers(1, count);
+    }
+
+    public static List<Entity> markers(int firstId, int count) {
+        List<Entity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(allocate(Marker.class, firstId + i, BlockPos.ZERO));
+        }
+        return entities;
+    }
+
+    // Entities need a live level to construct normally; only the id and position matter to the code under test
+    public static <T extends Entity> T allocate(Class<T> type, int id, BlockPos pos) {
+        BenchmarkBootstrap.minecraft();
+        T entity;
+        try {
+            entity = type.cast((Object) ALLOCATE_INSTANCE.invokeExact(type));
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot allocate synthetic " + type.getSimpleName(), e);
+        }
+        entity.setId(id);
+        REFLECTIONS.setField(entity, "blockPosition", pos.immutable());
+        REFLECTIONS.setField(entity, "position", Vec3.atBottomCenterOf(pos));
+        return entity;
+    }
+}
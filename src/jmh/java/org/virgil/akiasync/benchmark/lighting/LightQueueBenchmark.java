@@ -0,0 +1,68 @@
+package org.virgil.akiasync.benchmark.lighting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.core.BlockPos;
+
+// enqueueThenClear isolates enqueue and dedup; replay adds the drain, so drain cost is the difference between the two
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LightQueueBenchmark {
+
+    @Param({"single", "clear32", "explosion"})
+    public String stream;
+
+    @Param({"boxed", "primitive-locked", "primitive-swap"})
+    public String queue;
+
+    private BlockPos[] updates;
+    private LightQueues.LightQueue lightQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        updates = LightUpdateStreams.record(LightUpdateStreams.Scenario.fromLabel(stream), 0x11647L);
+        lightQueue = LightQueues.create(queue);
+    }
+
+    @Benchmark
+    public int enqueueThenClear() {
+        int accepted = enqueueAll();
+        lightQueue.clear();
+        return accepted;
+    }
+
+    @Benchmark
+    public int replay(Blackhole blackhole) {
+        int accepted = enqueueAll();
+        return accepted + lightQueue.drain(blackhole::consume);
+    }
+
+    private int enqueueAll() {
+        int accepted = 0;
+        for (BlockPos pos : updates) {
+            // LightEngineAsyncMixin.getLightLevel always answers 15, so every update lands in the top layer
+            if (lightQueue.enqueue(pos, 15)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
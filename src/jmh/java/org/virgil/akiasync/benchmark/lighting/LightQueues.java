@@ -0,0 +1,221 @@
+package org.virgil.akiasync.benchmark.lighting;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+
+final class LightQueues {
+
+    static final int LEVELS = 16;
+    private static final long MAX_AGE_MILLIS = 5000;
+
+    interface LightQueue {
+        boolean enqueue(BlockPos pos, int lightLevel);
+
+        int drain(Consumer<BlockPos> checkBlock);
+
+        void clear();
+    }
+
+    private LightQueues() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static LightQueue create(String label) {
+        return switch (label) {
+            case "boxed" -> new Boxed();
+            case "primitive-locked" -> new PrimitiveLocked();
+            case "primitive-swap" -> new PrimitiveSwap();
+            default -> throw new IllegalArgumentException("Unknown light queue: " + label);
+        };
+    }
+
+    // Same structures and per-update work as LightEngineAsyncMixin's layered path
+    static final class Boxed implements LightQueue {
+        @SuppressWarnings("unchecked")
+        private final Queue<BlockPos>[] queues = new Queue[LEVELS];
+        private final AtomicInteger[] sizes = new AtomicInteger[LEVELS];
+        private final Map<BlockPos, Long> metadata = new ConcurrentHashMap<>();
+        private final Set<BlockPos> pending = ConcurrentHashMap.newKeySet();
+
+        Boxed() {
+            for (int i = 0; i < LEVELS; i++) {
+                queues[i] = new ConcurrentLinkedQueue<>();
+                sizes[i] = new AtomicInteger();
+            }
+        }
+
+        @Override
+        public boolean enqueue(BlockPos pos, int lightLevel) {
+            BlockPos immutablePos = pos.immutable();
+            if (!pending.add(immutablePos)) {
+                return false;
+            }
+            queues[lightLevel].offer(immutablePos);
+            sizes[lightLevel].incrementAndGet();
+            metadata.put(immutablePos, ((long) lightLevel << 32) | System.currentTimeMillis());
+            return true;
+        }
+
+        @Override
+        public int drain(Consumer<BlockPos> checkBlock) {
+            int processed = 0;
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                BlockPos pos;
+                while ((pos = queues[level].poll()) != null) {
+                    Long meta = metadata.remove(pos);
+                    if (meta != null && System.currentTimeMillis() - (meta & 0xFFFFFFFFL) > MAX_AGE_MILLIS) {
+                        pending.remove(pos);
+                        sizes[level].decrementAndGet();
+                        continue;
+                    }
+                    checkBlock.accept(pos);
+                    processed++;
+                    pending.remove(pos);
+                    sizes[level].decrementAndGet();
+                }
+            }
+            return processed;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < LEVELS; i++) {
+                queues[i].clear();
+                sizes[i].set(0);
+            }
+            metadata.clear();
+            pending.clear();
+        }
+    }
+
+    // Packed longs behind one lock: dedup set, per-level FIFO and enqueue time share the same critical section
+    static final class PrimitiveLocked implements LightQueue {
+        private final LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[LEVELS];
+        private final Long2LongOpenHashMap enqueuedAt = new Long2LongOpenHashMap();
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        PrimitiveLocked() {
+            for (int i = 0; i < LEVELS; i++) {
+                queues[i] = new LongArrayFIFOQueue();
+            }
+            enqueuedAt.defaultReturnValue(-1L);
+        }
+
+        @Override
+        public synchronized boolean enqueue(BlockPos pos, int lightLevel) {
+            long packed = pos.asLong();
+            if (enqueuedAt.putIfAbsent(packed, System.currentTimeMillis()) != -1L) {
+                return false;
+            }
+            queues[lightLevel].enqueue(packed);
+            return true;
+        }
+
+        @Override
+        public int drain(Consumer<BlockPos> checkBlock) {
+            int processed = 0;
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                while (true) {
+                    long packed;
+                    long time;
+                    synchronized (this) {
+                        if (queues[level].isEmpty()) {
+                            break;
+                        }
+                        packed = queues[level].dequeueLong();
+                        time = enqueuedAt.remove(packed);
+                    }
+                    if (time < 0 || System.currentTimeMillis() - time > MAX_AGE_MILLIS) {
+                        continue;
+                    }
+                    checkBlock.accept(cursor.set(packed));
+                    processed++;
+                }
+            }
+            return processed;
+        }
+
+        @Override
+        public synchronized void clear() {
+            for (LongArrayFIFOQueue queue : queues) {
+                queue.clear();
+            }
+            enqueuedAt.clear();
+        }
+    }
+
+    // Producer appends into per-level buffers; the drainer swaps the whole generation out under the lock and works lock-free
+    static final class PrimitiveSwap implements LightQueue {
+        private LongArrayList[] buffers = newBuffers();
+        private LongArrayList[] spare = newBuffers();
+        private final LongOpenHashSet pending = new LongOpenHashSet();
+        private long generationStart;
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        private static LongArrayList[] newBuffers() {
+            LongArrayList[] buffers = new LongArrayList[LEVELS];
+            for (int i = 0; i < LEVELS; i++) {
+                buffers[i] = new LongArrayList();
+            }
+            return buffers;
+        }
+
+        @Override
+        public synchronized boolean enqueue(BlockPos pos, int lightLevel) {
+            if (!pending.add(pos.asLong())) {
+                return false;
+            }
+            if (pending.size() == 1) {
+                generationStart = System.currentTimeMillis();
+            }
+            buffers[lightLevel].add(pos.asLong());
+            return true;
+        }
+
+        @Override
+        public int drain(Consumer<BlockPos> checkBlock) {
+            LongArrayList[] generation;
+            long started;
+            synchronized (this) {
+                generation = buffers;
+                buffers = spare;
+                spare = generation;
+                started = generationStart;
+                pending.clear();
+            }
+            int processed = 0;
+            boolean expired = System.currentTimeMillis() - started > MAX_AGE_MILLIS;
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                LongArrayList buffer = generation[level];
+                if (!expired) {
+                    for (int i = 0, size = buffer.size(); i < size; i++) {
+                        checkBlock.accept(cursor.set(buffer.getLong(i)));
+                        processed++;
+                    }
+                }
+                buffer.clear();
+            }
+            return processed;
+        }
+
+        @Override
+        public synchronized void clear() {
+            for (int i = 0; i < LEVELS; i++) {
+                buffers[i].clear();
+                spare[i].clear();
+            }
+            pending.clear();
+        }
+    }
+}
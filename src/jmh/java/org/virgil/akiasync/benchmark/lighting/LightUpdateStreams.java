@@ -0,0 +1,80 @@
+package org.virgil.akiasync.benchmark.lighting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import net.minecraft.core.BlockPos;
+
+// Synthetic recordings of checkBlock calls; every changed block is checked by both the block and the sky light engine
+final class LightUpdateStreams {
+
+    enum Scenario {
+        SINGLE, CLEAR32, EXPLOSION;
+
+        static Scenario fromLabel(String label) {
+            return valueOf(label.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int ENGINES = 2;
+    private static final int CLEAR_SIDE = 32;
+    private static final int CLEAR_DEPTH = 4;
+    private static final int EXPLOSIONS = 64;
+    private static final int EXPLOSION_RADIUS = 4;
+    private static final int EXPLOSION_SPREAD = 24;
+
+    private LightUpdateStreams() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static BlockPos[] record(Scenario scenario, long seed) {
+        List<BlockPos> changed = switch (scenario) {
+            case SINGLE -> List.of(new BlockPos(8, 70, 8));
+            case CLEAR32 -> clearArea();
+            case EXPLOSION -> explosions(seed);
+        };
+        BlockPos[] stream = new BlockPos[changed.size() * ENGINES];
+        int index = 0;
+        for (BlockPos pos : changed) {
+            for (int engine = 0; engine < ENGINES; engine++) {
+                stream[index++] = pos;
+            }
+        }
+        return stream;
+    }
+
+    private static List<BlockPos> clearArea() {
+        List<BlockPos> changed = new ArrayList<>(CLEAR_SIDE * CLEAR_SIDE * CLEAR_DEPTH);
+        for (int y = 0; y < CLEAR_DEPTH; y++) {
+            for (int x = 0; x < CLEAR_SIDE; x++) {
+                for (int z = 0; z < CLEAR_SIDE; z++) {
+                    changed.add(new BlockPos(x, 63 - y, z));
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static List<BlockPos> explosions(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BlockPos> changed = new ArrayList<>();
+        int radiusSq = EXPLOSION_RADIUS * EXPLOSION_RADIUS;
+        for (int i = 0; i < EXPLOSIONS; i++) {
+            int cx = random.nextInt(-EXPLOSION_SPREAD, EXPLOSION_SPREAD + 1);
+            int cy = 60 + random.nextInt(-4, 5);
+            int cz = random.nextInt(-EXPLOSION_SPREAD, EXPLOSION_SPREAD + 1);
+            for (int x = -EXPLOSION_RADIUS; x <= EXPLOSION_RADIUS; x++) {
+                for (int y = -EXPLOSION_RADIUS; y <= EXPLOSION_RADIUS; y++) {
+                    for (int z = -EXPLOSION_RADIUS; z <= EXPLOSION_RADIUS; z++) {
+                        if (x * x + y * y + z * z <= radiusSq) {
+                            changed.add(new BlockPos(cx + x, cy + y, cz + z));
+                        }
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+}
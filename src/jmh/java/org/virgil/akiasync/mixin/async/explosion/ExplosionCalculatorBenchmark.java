@@ -0,0 +1,70 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.virgil.akiasync.benchmark.BenchmarkBootstrap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExplosionCalculatorBenchmark {
+
+    @Param({"4", "8"})
+    public float power;
+
+    @Param({"air", "stone", "obsidian", "water", "mixed"})
+    public String grid;
+
+    @Param({"inline", "work-stealing"})
+    public String scheduler;
+
+    @Param({"16"})
+    public int entities;
+
+    private ExplosionSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkBootstrap.minecraft();
+        if ("work-stealing".equals(scheduler)) {
+            // Each parameter combination runs in its own fork, so the optimization singletons see this bridge first
+            BenchmarkBootstrap.bridge(Map.of("isNitoriOptimizationsEnabled", true, "isWorkStealingEnabled", true));
+        }
+        snapshot = new ExplosionFixture(grid, power, entities).snapshot(power);
+    }
+
+    @Benchmark
+    public ExplosionCalculator affectedBlocks() {
+        ExplosionCalculator calculator = new ExplosionCalculator(snapshot);
+        calculator.calculateAffectedBlocks();
+        return calculator;
+    }
+
+    @Benchmark
+    public ExplosionCalculator entityDamage() {
+        ExplosionCalculator calculator = new ExplosionCalculator(snapshot);
+        calculator.calculateEntityDamage();
+        return calculator;
+    }
+
+    @Benchmark
+    public ExplosionResult calculate() {
+        return new ExplosionCalculator(snapshot).calculate();
+    }
+}
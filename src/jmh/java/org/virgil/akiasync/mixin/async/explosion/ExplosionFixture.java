@@ -0,0 +1,40 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.virgil.akiasync.benchmark.SyntheticBlockGrid;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+final class ExplosionFixture {
+
+    static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+    static final Vec3 CENTER = Vec3.atCenterOf(ORIGIN);
+    private static final long SEED = 0x5EED_7A7L;
+
+    final SyntheticBlockGrid grid;
+    final List<ExplosionSnapshot.EntitySnapshot> entities;
+    final RandomSource random;
+
+    ExplosionFixture(String fill, float power, int entityCount) {
+        this.grid = new SyntheticBlockGrid(SyntheticBlockGrid.Fill.fromLabel(fill), ORIGIN, (int) Math.ceil(power) + 2, SEED);
+        this.entities = new ArrayList<>(entityCount);
+        this.random = RandomSource.create(SEED);
+        SplittableRandom placement = new SplittableRandom(SEED);
+        for (int i = 0; i < entityCount; i++) {
+            Vec3 position = CENTER.add(placement.nextDouble(-7.0, 7.0), placement.nextDouble(-2.0, 2.0), placement.nextDouble(-7.0, 7.0));
+            AABB box = new AABB(position.x - 0.3, position.y, position.z - 0.3, position.x + 0.3, position.y + 1.8, position.z + 0.3);
+            entities.add(new ExplosionSnapshot.EntitySnapshot(new UUID(SEED, i), position, box));
+        }
+    }
+
+    ExplosionSnapshot snapshot(float power) {
+        return new ExplosionSnapshot(null, grid, random, CENTER, power, false, entities);
+    }
+}
@@ -0,0 +1,45 @@
+package org.virgil.akiasync.mixin.async.explosion;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.virgil.akiasync.benchmark.BenchmarkBootstrap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExplosionSnapshotBenchmark {
+
+    @Param({"4", "8"})
+    public float power;
+
+    @Param({"air", "stone", "obsidian", "water", "mixed"})
+    public String grid;
+
+    private ExplosionFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkBootstrap.minecraft();
+        fixture = new ExplosionFixture(grid, power, 0);
+    }
+
+    @Benchmark
+    public ExplosionSnapshot construct() {
+        return fixture.snapshot(power);
+    }
+}
@@ -0,0 +1,130 @@
+package org.virgil.akiasync.mixin.brain;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.benchmark.BenchmarkBootstrap;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+
+// One operation processes every mob once; divide the score by "mobs" for per-mob cost
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiFamilyBenchmark {
+
+    private static final long TIMEOUT_MICROS = 50_000L;
+
+    @Param({"blaze", "evoker", "guardian", "piglin", "pillager", "witch", "universal", "villager"})
+    public String family;
+
+    @Param({"1", "100", "5000"})
+    public int mobs;
+
+    private List<Callable<Object>> tasks;
+    private CompletableFuture<?>[] pending;
+
+    // Anything but "computed" did no async work for that mob; there is no inline fallback inside the measured path
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long computed;
+        public long timedOut;
+        public long rejected;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            computed = 0;
+            timedOut = 0;
+            rejected = 0;
+            failed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkBootstrap.minecraft();
+        tasks = new AiWorkloadFixture(0xA1L).tasks(AiWorkloadFixture.Family.fromLabel(family), mobs);
+        // Windows no larger than the AI lane queue keep COALESCE admission from rejecting the tail of the batch
+        int window = Math.max(1, AkiScheduler.lane(SchedulerLane.AI).getQueueCapacity());
+        pending = new CompletableFuture<?>[Math.min(mobs, window)];
+    }
+
+    @Benchmark
+    public void inline(Blackhole blackhole) throws Exception {
+        for (Callable<Object> task : tasks) {
+            blackhole.consume(task.call());
+        }
+    }
+
+    @Benchmark
+    public void asyncRoundTrip(Blackhole blackhole, Outcomes outcomes) {
+        for (Callable<Object> task : tasks) {
+            blackhole.consume(await(AsyncBrainExecutor.runSync(task, TIMEOUT_MICROS, TimeUnit.MICROSECONDS), outcomes));
+        }
+    }
+
+    @Benchmark
+    public void asyncBatched(Blackhole blackhole, Outcomes outcomes) {
+        for (int base = 0; base < mobs; base += pending.length) {
+            int size = Math.min(pending.length, mobs - base);
+            for (int i = 0; i < size; i++) {
+                pending[i] = AsyncBrainExecutor.runSync(tasks.get(base + i), TIMEOUT_MICROS, TimeUnit.MICROSECONDS);
+            }
+            for (int i = 0; i < size; i++) {
+                @SuppressWarnings("unchecked")
+                CompletableFuture<Object> future = (CompletableFuture<Object>) pending[i];
+                blackhole.consume(await(future, outcomes));
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future, Outcomes outcomes) {
+        try {
+            Object result = future.get(TIMEOUT_MICROS, TimeUnit.MICROSECONDS);
+            outcomes.computed++;
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcomes.timedOut++;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                outcomes.timedOut++;
+            } else if (e.getCause() instanceof RejectedExecutionException) {
+                outcomes.rejected++;
+            } else {
+                outcomes.failed++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcomes.failed++;
+        } catch (RuntimeException e) {
+            outcomes.failed++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,186 @@
+package org.virgil.akiasync.mixin.brain;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.virgil.akiasync.mixin.brain.blaze.BlazeCpuCalculator;
+import org.virgil.akiasync.mixin.brain.blaze.BlazeSnapshot;
+import org.virgil.akiasync.mixin.brain.evoker.EvokerCpuCalculator;
+import org.virgil.akiasync.mixin.brain.evoker.EvokerSnapshot;
+import org.virgil.akiasync.mixin.brain.guardian.GuardianCpuCalculator;
+import org.virgil.akiasync.mixin.brain.guardian.GuardianSnapshot;
+import org.virgil.akiasync.mixin.brain.piglin.PiglinCpuCalculator;
+import org.virgil.akiasync.mixin.brain.piglin.PiglinSnapshot;
+import org.virgil.akiasync.mixin.brain.pillager.PillagerCpuCalculator;
+import org.virgil.akiasync.mixin.brain.pillager.PillagerSnapshot;
+import org.virgil.akiasync.mixin.brain.universal.UniversalAiCpuCalculator;
+import org.virgil.akiasync.mixin.brain.universal.UniversalAiSnapshot;
+import org.virgil.akiasync.mixin.brain.villager.BrainCpuCalculator;
+import org.virgil.akiasync.mixin.brain.villager.BrainSnapshot;
+import org.virgil.akiasync.mixin.brain.witch.WitchCpuCalculator;
+import org.virgil.akiasync.mixin.brain.witch.WitchSnapshot;
+
+import com.mojang.serialization.Dynamic;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.ai.memory.WalkTarget;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
+import net.minecraft.world.entity.npc.Villager;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+
+final class AiWorkloadFixture {
+
+    enum Family {
+        BLAZE, EVOKER, GUARDIAN, PIGLIN, PILLAGER, WITCH, UNIVERSAL, VILLAGER;
+
+        static Family fromLabel(String label) {
+            return valueOf(label.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int PLAYERS = 8;
+    private static final int POIS = 16;
+    private static final int NEARBY_MOBS = 12;
+    private static final int SPREAD = 512;
+
+    private final SplittableRandom random;
+
+    AiWorkloadFixture(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    List<Callable<Object>> tasks(Family family, int mobs) {
+        List<Callable<Object>> tasks = new ArrayList<>(mobs);
+        for (int i = 0; i < mobs; i++) {
+            BlockPos pos = new BlockPos(random.nextInt(-SPREAD, SPREAD), 64, random.nextInt(-SPREAD, SPREAD));
+            tasks.add(task(family, i + 1, pos));
+        }
+        return tasks;
+    }
+
+    private Callable<Object> task(Family family, int id, BlockPos pos) {
+        return switch (family) {
+            case BLAZE -> {
+                BlazeSnapshot snapshot = snapshot(BlazeSnapshot.class, 0.0, players(pos, BlazeSnapshot.PlayerInfo::new), pos.above(2), pos);
+                yield () -> BlazeCpuCalculator.runCpuOnly(snapshot);
+            }
+            case EVOKER -> {
+                EvokerSnapshot snapshot = snapshot(EvokerSnapshot.class, 8.0, 0.0, players(pos, EvokerSnapshot.PlayerInfo::new), 9, pos);
+                yield () -> EvokerCpuCalculator.runCpuOnly(snapshot);
+            }
+            case GUARDIAN -> {
+                GuardianSnapshot snapshot = snapshot(GuardianSnapshot.class, players(pos, GuardianSnapshot.PlayerInfo::new), pos);
+                yield () -> GuardianCpuCalculator.runCpuOnly(snapshot);
+            }
+            case PIGLIN -> {
+                List<PiglinSnapshot.PlayerGoldInfo> players = new ArrayList<>(PLAYERS);
+                for (int i = 0; i < PLAYERS; i++) {
+                    players.add(new PiglinSnapshot.PlayerGoldInfo(new UUID(id, i), near(pos, 16), random.nextBoolean()));
+                }
+                PiglinSnapshot snapshot = snapshot(PiglinSnapshot.class, inventory(), players, positions(pos, 4, 12), false, pos);
+                yield () -> PiglinCpuCalculator.runCpuOnly(snapshot);
+            }
+            case PILLAGER -> {
+                List<PillagerSnapshot.PlayerHealthInfo> players = new ArrayList<>(PLAYERS);
+                for (int i = 0; i < PLAYERS; i++) {
+                    players.add(new PillagerSnapshot.PlayerHealthInfo(new UUID(id, i), near(pos, 32), (float) random.nextDouble()));
+                }
+                PillagerSnapshot snapshot = snapshot(PillagerSnapshot.class, 24.0, false, players, near(pos, 32), positions(pos, POIS, 32), pos);
+                yield () -> PillagerCpuCalculator.runCpuOnly(snapshot);
+            }
+            case WITCH -> {
+                WitchSnapshot snapshot = snapshot(WitchSnapshot.class, players(pos, WitchSnapshot.PlayerInfo::new), pos);
+                yield () -> WitchCpuCalculator.runCpuOnly(snapshot);
+            }
+            case UNIVERSAL -> {
+                List<UniversalAiSnapshot.MobInfo> mobs = new ArrayList<>(NEARBY_MOBS);
+                for (int i = 0; i < NEARBY_MOBS; i++) {
+                    mobs.add(new UniversalAiSnapshot.MobInfo(near(pos, 16)));
+                }
+                UniversalAiSnapshot snapshot = snapshot(UniversalAiSnapshot.class, 20.0, (double) pos.getY(),
+                    players(pos, UniversalAiSnapshot.PlayerInfo::new), mobs, List.<BlockPos>of(), pos);
+                yield () -> UniversalAiCpuCalculator.runCpuOnly(snapshot);
+            }
+            case VILLAGER -> {
+                BrainSnapshot snapshot = snapshot(BrainSnapshot.class, new HashMap<>(villagerBrain(id, pos).getMemories()), 0L);
+                Map<BlockPos, PoiRecord> pois = new HashMap<>();
+                // BrainCpuCalculator only reads the keys of the POI snapshot
+                for (BlockPos poi : positions(pos, POIS, 48)) {
+                    pois.put(poi, null);
+                }
+                yield () -> BrainCpuCalculator.runCpuOnly(snapshot, pois);
+            }
+        };
+    }
+
+    private Brain<Villager> villagerBrain(int id, BlockPos pos) {
+        Brain<Villager> brain = Brain.<Villager>provider(
+            List.of(MemoryModuleType.WALK_TARGET, MemoryModuleType.LIKED_PLAYER, MemoryModuleType.HOME,
+                MemoryModuleType.JOB_SITE, MemoryModuleType.MEETING_POINT),
+            List.of()
+        ).makeBrain(new Dynamic<>(NbtOps.INSTANCE, new CompoundTag()));
+        brain.setMemory(MemoryModuleType.WALK_TARGET, new WalkTarget(near(pos, 16), 0.5f, 1));
+        brain.setMemory(MemoryModuleType.LIKED_PLAYER, new UUID(id, 0));
+        brain.setMemory(MemoryModuleType.HOME, GlobalPos.of(Level.OVERWORLD, near(pos, 32)));
+        brain.setMemory(MemoryModuleType.JOB_SITE, GlobalPos.of(Level.OVERWORLD, near(pos, 32)));
+        brain.setMemory(MemoryModuleType.MEETING_POINT, GlobalPos.of(Level.OVERWORLD, near(pos, 48)));
+        return brain;
+    }
+
+    private interface PlayerFactory<P> {
+        P create(UUID id, BlockPos pos);
+    }
+
+    private <P> List<P> players(BlockPos center, PlayerFactory<P> factory) {
+        List<P> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(factory.create(new UUID(center.asLong(), i), near(center, 32)));
+        }
+        return players;
+    }
+
+    private List<BlockPos> positions(BlockPos center, int count, int radius) {
+        List<BlockPos> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positions.add(near(center, radius));
+        }
+        return positions;
+    }
+
+    private BlockPos near(BlockPos center, int radius) {
+        return center.offset(random.nextInt(-radius, radius + 1), random.nextInt(-4, 5), random.nextInt(-radius, radius + 1));
+    }
+
+    private ItemStack[] inventory() {
+        ItemStack[] items = new ItemStack[8];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = random.nextInt(3) == 0 ? ItemStack.EMPTY : new ItemStack(i % 2 == 0 ? Items.GOLD_INGOT : Items.GOLD_NUGGET, 1 + random.nextInt(16));
+        }
+        return items;
+    }
+
+    // Snapshot constructors are private because production code only builds them through capture(), which needs a live level
+    private static <T> T snapshot(Class<T> type, Object... args) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.virgil.akiasync.mixin.optimization.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.core.BlockPos;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockPosIterationBenchmark {
+
+    @Param({"5", "8", "16"})
+    public int range;
+
+    private final BlockPos center = new BlockPos(128, 64, -256);
+    private LongList positions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        positions = BlockPosIterationCache.INSTANCE.getOrCompute(range, range, range);
+    }
+
+    @Benchmark
+    public long cachedIterable() {
+        long sum = 0;
+        for (BlockPos pos : new BlockPosIterationCache.BlockPosIterable(center, BlockPosIterationCache.INSTANCE.getOrCompute(range, range, range))) {
+            sum += pos.asLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long precomputedIterable() {
+        long sum = 0;
+        for (BlockPos pos : new BlockPosIterationCache.BlockPosIterable(center, positions)) {
+            sum += pos.asLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long betweenClosed() {
+        long sum = 0;
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-range, -range, -range), center.offset(range, range, range))) {
+            sum += pos.asLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long withinManhattan() {
+        long sum = 0;
+        for (BlockPos pos : BlockPos.withinManhattan(center, range, range, range)) {
+            sum += pos.asLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long nestedLoop() {
+        long sum = 0;
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = -range; x <= range; x++) {
+            for (int y = -range; y <= range; y++) {
+                for (int z = -range; z <= range; z++) {
+                    sum += pos.set(center.getX() + x, center.getY() + y, center.getZ() + z).asLong();
+                }
+            }
+        }
+        return sum;
+    }
+}
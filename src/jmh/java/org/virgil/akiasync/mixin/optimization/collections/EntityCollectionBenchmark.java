@@ -0,0 +1,188 @@
+package org.virgil.akiasync.mixin.optimization.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.virgil.akiasync.benchmark.SyntheticEntities;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.world.entity.Entity;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCollectionBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    public abstract static class Fixture {
+        @Param({"100", "1000", "10000"})
+        public int size;
+
+        List<Entity> source;
+        OptimizedEntityCollection<Entity> optimized;
+        ArrayList<Entity> arrayList;
+        volatile ObjectArrayList<Entity> objectArrayList;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = SyntheticEntities.markers(size);
+            optimized = new OptimizedEntityCollection<>();
+            source.forEach(optimized::add);
+            arrayList = new ArrayList<>(source);
+            objectArrayList = new ObjectArrayList<>(source);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Iteration extends Fixture {
+    }
+
+    @State(Scope.Group)
+    public static class Mutation extends Fixture {
+        int cursor;
+
+        Entity next() {
+            Entity entity = source.get(cursor);
+            cursor = (cursor + 1) % source.size();
+            return entity;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Failures {
+        public long failures;
+    }
+
+    @Benchmark
+    public void optimizedForEach(Iteration state, Blackhole blackhole) {
+        state.optimized.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void optimizedForEachBatch(Iteration state, Blackhole blackhole) {
+        state.optimized.forEachBatch(blackhole::consume, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public void arrayListForEach(Iteration state, Blackhole blackhole) {
+        state.arrayList.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void objectArrayListIndexed(Iteration state, Blackhole blackhole) {
+        ObjectArrayList<Entity> list = state.objectArrayList;
+        Object[] elements = list.elements();
+        for (int i = 0, size = list.size(); i < size; i++) {
+            blackhole.consume(elements[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("optimizedMutation")
+    @GroupThreads(3)
+    public void optimizedReader(Mutation state, Failures failures, Blackhole blackhole) {
+        try {
+            state.optimized.forEach(blackhole::consume);
+        } catch (RuntimeException e) {
+            failures.failures++;
+        }
+    }
+
+    @Benchmark
+    @Group("optimizedMutation")
+    @GroupThreads(1)
+    public void optimizedWriter(Mutation state, Failures failures) {
+        try {
+            Entity entity = state.next();
+            state.optimized.remove(entity);
+            state.optimized.add(entity);
+        } catch (RuntimeException e) {
+            failures.failures++;
+        }
+    }
+
+    @Benchmark
+    @Group("optimizedBatchMutation")
+    @GroupThreads(3)
+    public void optimizedBatchReader(Mutation state, Failures failures, Blackhole blackhole) {
+        try {
+            state.optimized.forEachBatch(blackhole::consume, BATCH_SIZE);
+        } catch (RuntimeException e) {
+            failures.failures++;
+        }
+    }
+
+    @Benchmark
+    @Group("optimizedBatchMutation")
+    @GroupThreads(1)
+    public void optimizedBatchWriter(Mutation state, Failures failures) {
+        optimizedWriter(state, failures);
+    }
+
+    @Benchmark
+    @Group("arrayListMutation")
+    @GroupThreads(3)
+    public void arrayListReader(Mutation state, Blackhole blackhole) {
+        Entity[] snapshot;
+        synchronized (state.arrayList) {
+            snapshot = state.arrayList.toArray(new Entity[0]);
+        }
+        for (Entity entity : snapshot) {
+            blackhole.consume(entity);
+        }
+    }
+
+    @Benchmark
+    @Group("arrayListMutation")
+    @GroupThreads(1)
+    public void arrayListWriter(Mutation state) {
+        Entity entity = state.next();
+        synchronized (state.arrayList) {
+            state.arrayList.remove(entity);
+            state.arrayList.add(entity);
+        }
+    }
+
+    @Benchmark
+    @Group("objectArrayListMutation")
+    @GroupThreads(3)
+    public void objectArrayListReader(Mutation state, Blackhole blackhole) {
+        ObjectArrayList<Entity> list = state.objectArrayList;
+        Object[] elements = list.elements();
+        for (int i = 0, size = list.size(); i < size; i++) {
+            blackhole.consume(elements[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("objectArrayListMutation")
+    @GroupThreads(1)
+    public void objectArrayListWriter(Mutation state) {
+        Entity entity = state.next();
+        ObjectArrayList<Entity> copy = new ObjectArrayList<>(state.objectArrayList);
+        copy.remove(entity);
+        copy.add(entity);
+        state.objectArrayList = copy;
+    }
+}
@@ -1,15 +1,40 @@
 package org.virgil.akiasync;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.bukkit.plugin.java.JavaPlugin;
 import org.virgil.akiasync.bridge.AkiAsyncBridge;
 import org.virgil.akiasync.cache.CacheManager;
 import org.virgil.akiasync.command.DebugCommand;
 import org.virgil.akiasync.command.ReloadCommand;
+import org.virgil.akiasync.command.ProfileCommand;
+import org.virgil.akiasync.command.StatsCommand;
+import org.virgil.akiasync.command.TopCommand;
 import org.virgil.akiasync.command.VersionCommand;
+import org.virgil.akiasync.compat.FoliaRegionBatcher;
+import org.virgil.akiasync.compat.FoliaSchedulerAdapter;
 import org.virgil.akiasync.config.ConfigManager;
 import org.virgil.akiasync.executor.AsyncExecutorManager;
 import org.virgil.akiasync.listener.ConfigReloadListener;
+import org.virgil.akiasync.metrics.PrometheusExporter;
+import org.virgil.akiasync.metrics.RegressionSentinel;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.cancel.CancellationRegistry;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.bridge.BridgeManager;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+import org.virgil.akiasync.mixin.metrics.AllocationTracker;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.metrics.FallbackDiagnostics;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import org.virgil.akiasync.mixin.metrics.TickTimeService;
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+import org.virgil.akiasync.mixin.optimization.thread.BlockingIoExecutor;
 
 @SuppressWarnings("unused")
 public final class AkiAsyncPlugin extends JavaPlugin {
@@ -19,7 +44,9 @@ public final class AkiAsyncPlugin extends JavaPlugin {
     private AsyncExecutorManager executorManager;
     private AkiAsyncBridge bridge;
     private CacheManager cacheManager;
-    private java.util.concurrent.ScheduledExecutorService metricsScheduler;
+    private ScheduledFuture<?> metricsTask;
+    private PrometheusExporter prometheusExporter;
+    private RegressionSentinel regressionSentinel;
     
     @Override
     public void onEnable() {
@@ -27,6 +54,9 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         
         configManager = new ConfigManager(this);
         configManager.loadConfig();
+        if (!new java.io.File(getDataFolder(), "akiasync.jfc").exists()) {
+            saveResource("akiasync.jfc", false);
+        }
         
         cacheManager = new CacheManager(this);
         executorManager = new AsyncExecutorManager(this);
@@ -37,18 +67,17 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         getLogger().info("[AkiAsync] Bridge registered successfully");
         
         if (configManager.isTNTOptimizationEnabled()) {
-            org.virgil.akiasync.mixin.async.TNTThreadPool.init(configManager.getTNTThreads());
-            getLogger().info("[AkiAsync] TNT explosion optimization enabled with " + configManager.getTNTThreads() + " threads");
+            getLogger().info("[AkiAsync] TNT explosion optimization enabled (tick-critical lane)");
         }
         
         if (configManager.isAsyncVillagerBreedEnabled()) {
-            getLogger().info("[AkiAsync] Villager breed async check enabled with " + configManager.getVillagerBreedThreads() + " threads");
+            getLogger().info("[AkiAsync] Villager breed async check enabled (ai lane)");
         }
         
         if (configManager.isStructureLocationAsyncEnabled()) {
             org.virgil.akiasync.mixin.async.StructureLocatorBridge.initialize();
             org.virgil.akiasync.async.structure.OptimizedStructureLocator.initialize(this);
-            getLogger().info("[AkiAsync] Async structure location enabled with " + configManager.getStructureLocationThreads() + " threads");
+            getLogger().info("[AkiAsync] Async structure location enabled (background lane)");
             if (configManager.isStructureAlgorithmOptimizationEnabled()) {
                 getLogger().info("[AkiAsync] Structure search algorithm optimization enabled (" + configManager.getStructureSearchPattern() + " pattern)");
             }
@@ -56,9 +85,7 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         
         if (configManager.isDataPackOptimizationEnabled()) {
             org.virgil.akiasync.async.datapack.DataPackLoadOptimizer.getInstance(this);
-            getLogger().info("[AkiAsync] DataPack loading optimization enabled with " + 
-                configManager.getDataPackFileLoadThreads() + " file threads, " + 
-                configManager.getDataPackZipProcessThreads() + " zip threads");
+            getLogger().info("[AkiAsync] DataPack loading optimization enabled (io lane)");
         }
         
         BridgeManager.validateAndDisplayConfigurations();
@@ -68,25 +95,34 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         registerCommand("aki-reload", new ReloadCommand());
         registerCommand("aki-debug", new DebugCommand(this));
         registerCommand("aki-version", new VersionCommand(this));
+        registerCommand("aki-stats", new StatsCommand(this));
+        registerCommand("aki-profile", new ProfileCommand(this));
+        registerCommand("aki-top", new TopCommand(this));
         
         if (configManager.isPerformanceMetricsEnabled()) {
             startCombinedMetrics();
         }
         
+        prometheusExporter = new PrometheusExporter(this);
+        prometheusExporter.start();
+        
+        regressionSentinel = new RegressionSentinel(this);
+        regressionSentinel.start();
+        
         getLogger().info("========================================");
         getLogger().info("  AkiAsync - Async Optimization Plugin");
         getLogger().info("========================================");
         getLogger().info("Version: " + getDescription().getVersion());
-        getLogger().info("Commands: /aki-reload | /aki-debug | /aki-version");
+        getLogger().info("Commands: /aki-reload | /aki-debug | /aki-version | /aki-stats | /aki-profile | /aki-top");
         getLogger().info("");
         getLogger().info("[+] Core Features:");
         getLogger().info("  [+] Async Entity Tracker: " + (configManager.isEntityTrackerEnabled() ? "Enabled" : "Disabled"));
         getLogger().info("  [+] Async Mob Spawning: " + (configManager.isMobSpawningEnabled() ? "Enabled" : "Disabled"));
-        getLogger().info("  [+] Entity Tick Parallel: " + (configManager.isEntityTickParallel() ? "Enabled" : "Disabled") + " (" + configManager.getEntityTickThreads() + " threads)");
-        getLogger().info("  [+] Async Lighting: " + (configManager.isAsyncLightingEnabled() ? "Enabled" : "Disabled") + " (" + configManager.getLightingThreadPoolSize() + " threads)");
+        getLogger().info("  [+] Entity Tick Parallel: " + (configManager.isEntityTickParallel() ? "Enabled" : "Disabled"));
+        getLogger().info("  [+] Async Lighting: " + (configManager.isAsyncLightingEnabled() ? "Enabled" : "Disabled"));
         getLogger().info("");
         getLogger().info("[*] Performance Settings:");
-        getLogger().info("  [*] Thread Pool Size: " + configManager.getThreadPoolSize());
+        getLogger().info("  [*] Core Budget: " + AkiScheduler.getCoreBudget() + " (" + AkiScheduler.describeLanes() + ")");
         getLogger().info("  [*] Max Entities/Chunk: " + configManager.getMaxEntitiesPerChunk());
         getLogger().info("  [*] Brain Throttle: " + (configManager.isBrainThrottleEnabled() ? "Enabled" : "Disabled") + " (" + configManager.getBrainThrottleInterval() + " ticks)");
         getLogger().info("  [*] Update Interval: " + configManager.getUpdateIntervalTicks() + " ticks");
@@ -103,13 +139,19 @@ public final class AkiAsyncPlugin extends JavaPlugin {
     public void onDisable() {
         BridgeManager.clearBridge();
         
-        if (metricsScheduler != null) {
-            metricsScheduler.shutdownNow();
+        stopMetricsScheduler();
+        if (prometheusExporter != null) {
+            prometheusExporter.stop();
+        }
+        if (regressionSentinel != null) {
+            regressionSentinel.stop();
         }
-        
-        org.virgil.akiasync.mixin.async.TNTThreadPool.shutdown();
         
         org.virgil.akiasync.mixin.async.villager.VillagerBreedExecutor.shutdown();
+        CancellationRegistry.clear();
+        HookProfiler.stop();
+        AiCostLeaderboard.stop();
+        TickTimeline.close();
 
         org.virgil.akiasync.mixin.async.StructureLocatorBridge.shutdown();
         
@@ -129,24 +171,16 @@ public final class AkiAsyncPlugin extends JavaPlugin {
     }
     
     private void startCombinedMetrics() {
-        metricsScheduler = java.util.concurrent.Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "AkiAsync-Combined-Metrics");
-            t.setDaemon(true);
-            t.setPriority(Thread.MIN_PRIORITY);
-            return t;
-        });
-        
         final long[] lastGeneralCompleted = {0};
         final long[] lastGeneralTotal = {0};
         
-        metricsScheduler.scheduleAtFixedRate(() -> {
+        metricsTask = AkiScheduler.scheduleAtFixedRate(() -> {
             try {
                 if (!configManager.isDebugLoggingEnabled()) {
                     return;
                 }
                 
-                java.util.concurrent.ThreadPoolExecutor generalExecutor = 
-                    (java.util.concurrent.ThreadPoolExecutor) executorManager.getExecutorService();
+                LaneExecutor generalExecutor = executorManager.getLane(SchedulerLane.TICK_CRITICAL);
                 
                 long genCompleted = generalExecutor.getCompletedTaskCount();
                 long genTotal = generalExecutor.getTaskCount();
@@ -162,18 +196,45 @@ public final class AkiAsyncPlugin extends JavaPlugin {
                     "[General Pool] Submitted: %d | Completed: %d (%.2f/s) | Active: %d/%d | Queue: %d",
                     genSubmittedPeriod, genCompletedPeriod, generalThroughput,
                     generalExecutor.getActiveCount(), generalExecutor.getPoolSize(),
-                    generalExecutor.getQueue().size()
+                    generalExecutor.getQueueSize()
                 ));
                 getLogger().info(String.format(
                     "[Lifetime]     Completed: %d/%d tasks",
                     genCompleted, genTotal
                 ));
+                logSubsystemMetrics();
                 getLogger().info("===========================================================");
                 
             } catch (Exception e) {
                 getLogger().warning("[Metrics] Error: " + e.getMessage());
             }
-        }, 60, 60, java.util.concurrent.TimeUnit.SECONDS);
+        }, 60, 60, TimeUnit.SECONDS);
+    }
+    
+    private void logSubsystemMetrics() {
+        for (String line : executorManager.getStatistics().split("\n")) {
+            getLogger().info("[Scheduler]    " + line.trim());
+        }
+        for (String line : MainThreadApplyQueue.getStatistics().split("\n")) {
+            getLogger().info("[Apply]        " + line.trim());
+        }
+        getLogger().info("[Brain]        " + AsyncBrainPipeline.getStatistics());
+        getLogger().info("[BlockingIO]   " + BlockingIoExecutor.get().getStatistics());
+        getLogger().info("[TickTime]     " + TickTimeService.getStatistics());
+        getLogger().info("[Cancel]       " + CancellationRegistry.getStatistics());
+        getLogger().info("[Fallback]     " + FallbackDiagnostics.getStatistics());
+        getLogger().info("[Timeline]     " + TickTimeline.getStatistics());
+        for (String line : AllocationTracker.getLastPeriod()) {
+            getLogger().info("[Alloc]        " + line);
+        }
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            if (AsyncMetrics.getExecutionSnapshot(subsystem).getCount() > 0) {
+                getLogger().info("[Latency]      " + AsyncMetrics.describeLatency(subsystem));
+            }
+        }
+        if (FoliaSchedulerAdapter.isFolia()) {
+            getLogger().info("[Folia]        " + FoliaRegionBatcher.get(this).getStatistics());
+        }
     }
     
     public static AkiAsyncPlugin getInstance() {
@@ -196,6 +257,14 @@ public final class AkiAsyncPlugin extends JavaPlugin {
         return bridge;
     }
     
+    public PrometheusExporter getPrometheusExporter() {
+        return prometheusExporter;
+    }
+    
+    public RegressionSentinel getRegressionSentinel() {
+        return regressionSentinel;
+    }
+    
     public void restartMetricsScheduler() {
         stopMetricsScheduler();
         
@@ -203,9 +272,9 @@ public final class AkiAsyncPlugin extends JavaPlugin {
     }
     
     public void stopMetricsScheduler() {
-        if (metricsScheduler != null) {
-            metricsScheduler.shutdownNow();
-            metricsScheduler = null;
+        if (metricsTask != null) {
+            metricsTask.cancel(false);
+            metricsTask = null;
         }
     }
     
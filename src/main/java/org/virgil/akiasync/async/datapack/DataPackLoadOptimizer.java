@@ -1,14 +1,16 @@
 package org.virgil.akiasync.async.datapack;
 
 import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.List;
 import java.util.ArrayList;
@@ -19,8 +21,8 @@ public class DataPackLoadOptimizer {
     private static DataPackLoadOptimizer instance;
     private final AkiAsyncPlugin plugin;
     
-    private final ExecutorService fileLoadExecutor;
-    private final ExecutorService zipProcessExecutor;
+    private final Executor ioExecutor;
+    private ScheduledFuture<?> cleanupTask;
     
     private final Map<String, CachedFileSystem> fileSystemCache;
     private final Map<String, CachedFileEntry> fileCache;
@@ -30,8 +32,6 @@ public class DataPackLoadOptimizer {
     private final AtomicLong cacheHits = new AtomicLong(0);
     
     private volatile boolean optimizationEnabled;
-    private volatile int fileLoadThreads;
-    private volatile int zipProcessThreads;
     private volatile int batchSize;
     private volatile long cacheExpirationMs;
     private volatile boolean debugLogging;
@@ -43,19 +43,7 @@ public class DataPackLoadOptimizer {
         
         updateConfiguration();
         
-        this.fileLoadExecutor = Executors.newFixedThreadPool(fileLoadThreads, r -> {
-            Thread t = new Thread(r, "AkiAsync-DataPack-FileLoad-" + System.currentTimeMillis());
-            t.setDaemon(true);
-            t.setPriority(Thread.NORM_PRIORITY - 1);
-            return t;
-        });
-        
-        this.zipProcessExecutor = Executors.newFixedThreadPool(zipProcessThreads, r -> {
-            Thread t = new Thread(r, "AkiAsync-DataPack-ZipProcess-" + System.currentTimeMillis());
-            t.setDaemon(true);
-            t.setPriority(Thread.NORM_PRIORITY);
-            return t;
-        });
+        this.ioExecutor = org.virgil.akiasync.mixin.optimization.thread.BlockingIoExecutor.get();
         
         startCleanupTask();
     }
@@ -74,15 +62,11 @@ public class DataPackLoadOptimizer {
     public void updateConfiguration() {
         if (plugin.getBridge() != null) {
             this.optimizationEnabled = plugin.getBridge().isDataPackOptimizationEnabled();
-            this.fileLoadThreads = plugin.getBridge().getDataPackFileLoadThreads();
-            this.zipProcessThreads = plugin.getBridge().getDataPackZipProcessThreads();
             this.batchSize = plugin.getBridge().getDataPackBatchSize();
             this.cacheExpirationMs = plugin.getBridge().getDataPackCacheExpirationMinutes() * 60 * 1000;
             this.debugLogging = plugin.getBridge().isDataPackDebugEnabled();
         } else {
             this.optimizationEnabled = true;
-            this.fileLoadThreads = 4;
-            this.zipProcessThreads = 2;
             this.batchSize = 100;
             this.cacheExpirationMs = 30 * 60 * 1000;
             this.debugLogging = false;
@@ -99,42 +83,44 @@ public class DataPackLoadOptimizer {
         
         long startTime = System.nanoTime();
         
+        if (debugLogging) {
+            plugin.getLogger().info(String.format(
+                "[AkiAsync-DataPack] Starting optimized loading of %d files from %s",
+                filePaths.size(), zipPath.getFileName()
+            ));
+        }
+        
         return CompletableFuture.supplyAsync(() -> {
             try {
-                if (debugLogging) {
-                    plugin.getLogger().info(String.format(
-                        "[AkiAsync-DataPack] Starting optimized loading of %d files from %s",
-                        filePaths.size(), zipPath.getFileName()
-                    ));
-                }
-                
-                CachedFileSystem cachedFs = getOrCreateFileSystem(zipPath);
-                
-                List<FileLoadResult> results = processBatchedFiles(cachedFs.fileSystem, filePaths);
-                
-                long endTime = System.nanoTime();
-                long loadTime = (endTime - startTime) / 1_000_000;
-                
-                totalFilesProcessed.addAndGet(filePaths.size());
-                totalLoadTime.addAndGet(loadTime);
-                
-                if (debugLogging) {
-                    plugin.getLogger().info(String.format(
-                        "[AkiAsync-DataPack] Completed loading %d files in %dms (avg: %.2fms/file)",
-                        filePaths.size(), loadTime, (double) loadTime / filePaths.size()
-                    ));
-                }
-                
-                return results;
-                
-            } catch (Exception e) {
-                plugin.getLogger().warning("[AkiAsync-DataPack] Error in optimized file loading: " + e.getMessage());
-                return loadFilesTraditional(zipPath, filePaths).join();
+                return getOrCreateFileSystem(zipPath);
+            } catch (IOException e) {
+                throw new CompletionException(e);
             }
-        }, zipProcessExecutor);
+        }, ioExecutor)
+        .thenCompose(cachedFs -> processBatchedFiles(cachedFs.fileSystem, filePaths))
+        .thenApply(results -> {
+            long endTime = System.nanoTime();
+            long loadTime = (endTime - startTime) / 1_000_000;
+            
+            totalFilesProcessed.addAndGet(filePaths.size());
+            totalLoadTime.addAndGet(loadTime);
+            
+            if (debugLogging) {
+                plugin.getLogger().info(String.format(
+                    "[AkiAsync-DataPack] Completed loading %d files in %dms (avg: %.2fms/file)",
+                    filePaths.size(), loadTime, (double) loadTime / filePaths.size()
+                ));
+            }
+            
+            return results;
+        })
+        .exceptionallyCompose(e -> {
+            plugin.getLogger().warning("[AkiAsync-DataPack] Error in optimized file loading: " + e.getMessage());
+            return loadFilesTraditional(zipPath, filePaths);
+        });
     }
     
-    private List<FileLoadResult> processBatchedFiles(FileSystem fileSystem, List<String> filePaths) {
+    private CompletableFuture<List<FileLoadResult>> processBatchedFiles(FileSystem fileSystem, List<String> filePaths) {
         List<CompletableFuture<FileLoadResult>> futures = new ArrayList<>();
         
         for (int i = 0; i < filePaths.size(); i += batchSize) {
@@ -143,22 +129,24 @@ public class DataPackLoadOptimizer {
             
             CompletableFuture<FileLoadResult> batchFuture = CompletableFuture.supplyAsync(() -> {
                 return processBatch(fileSystem, batch);
-            }, fileLoadExecutor);
+            }, ioExecutor).exceptionally(e -> {
+                plugin.getLogger().warning("[AkiAsync-DataPack] Batch processing error: " + e.getMessage());
+                return null;
+            });
             
             futures.add(batchFuture);
         }
         
-        List<FileLoadResult> allResults = new ArrayList<>();
-        for (CompletableFuture<FileLoadResult> future : futures) {
-            try {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<FileLoadResult> allResults = new ArrayList<>();
+            for (CompletableFuture<FileLoadResult> future : futures) {
                 FileLoadResult batchResult = future.join();
-                allResults.add(batchResult);
-            } catch (Exception e) {
-                plugin.getLogger().warning("[AkiAsync-DataPack] Batch processing error: " + e.getMessage());
+                if (batchResult != null) {
+                    allResults.add(batchResult);
+                }
             }
-        }
-        
-        return allResults;
+            return allResults;
+        });
     }
     
     private FileLoadResult processBatch(FileSystem fileSystem, List<String> filePaths) {
@@ -172,8 +160,10 @@ public class DataPackLoadOptimizer {
                 if (cachedEntry != null && !cachedEntry.isExpired(cacheExpirationMs)) {
                     result.addCachedFile(filePath, cachedEntry.content);
                     cacheHits.incrementAndGet();
+                    AkiJfr.cache("datapack", true);
                     continue;
                 }
+                AkiJfr.cache("datapack", false);
                 
                 Path path = fileSystem.getPath(filePath);
                 if (java.nio.file.Files.exists(path)) {
@@ -242,7 +232,7 @@ public class DataPackLoadOptimizer {
             
             results.add(result);
             return results;
-        }, fileLoadExecutor);
+        }, ioExecutor);
     }
     
     /**
@@ -256,11 +246,8 @@ public class DataPackLoadOptimizer {
      * 启动清理任务
      */
     private void startCleanupTask() {
-        Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "AkiAsync-DataPack-Cleanup");
-            t.setDaemon(true);
-            return t;
-        }).scheduleAtFixedRate(this::performCleanup, 10, 10, java.util.concurrent.TimeUnit.MINUTES);
+        cleanupTask = org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.scheduleAtFixedRate(
+            this::performCleanup, 10, 10, java.util.concurrent.TimeUnit.MINUTES);
     }
     
     private void performCleanup() {
@@ -327,20 +314,9 @@ public class DataPackLoadOptimizer {
      * 关闭优化器
      */
     public void shutdown() {
-        fileLoadExecutor.shutdown();
-        zipProcessExecutor.shutdown();
-        
-        try {
-            if (!fileLoadExecutor.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS)) {
-                fileLoadExecutor.shutdownNow();
-            }
-            if (!zipProcessExecutor.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS)) {
-                zipProcessExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            fileLoadExecutor.shutdownNow();
-            zipProcessExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
+        if (cleanupTask != null) {
+            cleanupTask.cancel(false);
+            cleanupTask = null;
         }
         
         clearCache();
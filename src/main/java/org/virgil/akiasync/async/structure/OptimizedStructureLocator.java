@@ -37,6 +37,11 @@ public class OptimizedStructureLocator {
         initializeBiomeCompatibility();
     }
     
+    @FunctionalInterface
+    interface BiomeLookup {
+        String biomeAt(BlockPos pos);
+    }
+    
     public static void initialize(org.virgil.akiasync.AkiAsyncPlugin plugin) {
         if (cacheManager == null) {
             cacheManager = StructureCacheManager.getInstance(plugin);
@@ -86,7 +91,7 @@ public class OptimizedStructureLocator {
         return result;
     }
     
-    private static List<ChunkPos> getSpiralSearchOrder(ChunkPos center, int radius) {
+    static List<ChunkPos> getSpiralSearchOrder(ChunkPos center, int radius) {
         List<ChunkPos> positions = new ArrayList<>();
         
         positions.add(center);
@@ -124,17 +129,21 @@ public class OptimizedStructureLocator {
     
     private static List<ChunkPos> getBiomeAwareSearchOrder(
             ServerLevel level, ChunkPos center, HolderSet<Structure> structures, int radius) {
+        return getBiomeAwareSearchOrder(pos -> getBiomeName(level, pos), center, getCompatibleBiomes(structures), radius);
+    }
+    
+    static List<ChunkPos> getBiomeAwareSearchOrder(
+            BiomeLookup biomes, ChunkPos center, Set<String> compatibleBiomes, int radius) {
         
         List<ChunkPos> spiralOrder = getSpiralSearchOrder(center, radius);
         
-        Set<String> compatibleBiomes = getCompatibleBiomes(structures);
         if (compatibleBiomes.isEmpty()) {
             return spiralOrder;
         }
         
         spiralOrder.sort((pos1, pos2) -> {
-            float score1 = getBiomeCompatibilityScore(level, pos1, compatibleBiomes);
-            float score2 = getBiomeCompatibilityScore(level, pos2, compatibleBiomes);
+            float score1 = getBiomeCompatibilityScore(biomes, pos1, compatibleBiomes);
+            float score2 = getBiomeCompatibilityScore(biomes, pos2, compatibleBiomes);
             return Float.compare(score2, score1);
         });
         
@@ -203,14 +212,13 @@ public class OptimizedStructureLocator {
         return compatibleBiomes;
     }
     
-    private static float getBiomeCompatibilityScore(ServerLevel level, ChunkPos chunkPos, Set<String> compatibleBiomes) {
+    static float getBiomeCompatibilityScore(BiomeLookup biomes, ChunkPos chunkPos, Set<String> compatibleBiomes) {
         if (compatibleBiomes.isEmpty()) {
             return 1.0f;
         }
         
         BlockPos samplePos = chunkPos.getMiddleBlockPosition(64);
-        Biome biome = level.getBiome(samplePos).value();
-        String biomeName = getBiomeName(level, samplePos);
+        String biomeName = biomes.biomeAt(samplePos);
         
         return compatibleBiomes.contains(biomeName) ? 1.0f : 0.1f;
     }
@@ -235,10 +243,18 @@ public class OptimizedStructureLocator {
     }
     
     private static String getCacheKey(HolderSet<Structure> structures, BlockPos startPos, int radius) {
+        List<String> names = new ArrayList<>(structures.size());
+        for (Holder<Structure> holder : structures) {
+            names.add(holder.getRegisteredName());
+        }
+        return buildCacheKey(names, startPos, radius);
+    }
+    
+    static String buildCacheKey(List<String> structureNames, BlockPos startPos, int radius) {
         StringBuilder sb = new StringBuilder();
         
-        for (Holder<Structure> holder : structures) {
-            sb.append(holder.getRegisteredName()).append(",");
+        for (String name : structureNames) {
+            sb.append(name).append(",");
         }
         
         ChunkPos chunkPos = new ChunkPos(startPos);
@@ -4,10 +4,12 @@ import net.minecraft.core.BlockPos;
 import org.virgil.akiasync.AkiAsyncPlugin;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+
 public class StructureCacheManager {
     
     private static StructureCacheManager instance;
@@ -20,7 +22,7 @@ public class StructureCacheManager {
     private volatile long expirationMinutes;
     private volatile boolean cachingEnabled;
     
-    private final ScheduledExecutorService cleanupExecutor;
+    private ScheduledFuture<?> cleanupTask;
     
     private volatile long cacheHits = 0;
     private volatile long cacheMisses = 0;
@@ -30,11 +32,6 @@ public class StructureCacheManager {
         this.plugin = plugin;
         this.structureCache = new ConcurrentHashMap<>();
         this.negativeCache = new ConcurrentHashMap<>();
-        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "AkiAsync-StructureCache-Cleanup");
-            t.setDaemon(true);
-            return t;
-        });
         
         updateConfiguration();
         startCleanupTask();
@@ -75,10 +72,12 @@ public class StructureCacheManager {
                 return null;
             }
             cacheHits++;
+            AkiJfr.cache("structure", true);
             return entry.position;
         }
         
         cacheMisses++;
+        AkiJfr.cache("structure", false);
         return null;
     }
     
@@ -153,14 +152,9 @@ public class StructureCacheManager {
     }
     
     public void shutdown() {
-        cleanupExecutor.shutdown();
-        try {
-            if (!cleanupExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                cleanupExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            cleanupExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
+        if (cleanupTask != null) {
+            cleanupTask.cancel(false);
+            cleanupTask = null;
         }
         
         clearCache();
@@ -217,7 +211,7 @@ public class StructureCacheManager {
     }
     
     private void startCleanupTask() {
-        cleanupExecutor.scheduleAtFixedRate(this::performCleanup, 5, 5, TimeUnit.MINUTES);
+        cleanupTask = AkiScheduler.scheduleAtFixedRate(this::performCleanup, 5, 5, TimeUnit.MINUTES);
     }
     
     private void performCleanup() {
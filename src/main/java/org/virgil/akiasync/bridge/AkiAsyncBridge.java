@@ -6,6 +6,8 @@ import org.virgil.akiasync.AkiAsyncPlugin;
 import org.virgil.akiasync.config.ConfigManager;
 import org.virgil.akiasync.compat.FoliaSchedulerAdapter;
 import org.virgil.akiasync.compat.FoliaEntityAdapter;
+import org.virgil.akiasync.mixin.async.apply.ApplySubsystem;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
 
 public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     
@@ -13,12 +15,17 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     private ConfigManager config;
     private final ExecutorService generalExecutor;
     private final ExecutorService lightingExecutor;
+    private final ExecutorService structureExecutor;
+    private final java.util.concurrent.Executor structureLocateExecutor;
     
     public AkiAsyncBridge(AkiAsyncPlugin plugin, ExecutorService generalExecutor, ExecutorService lightingExecutor) {
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
         this.generalExecutor = generalExecutor;
         this.lightingExecutor = lightingExecutor;
+        this.structureExecutor = org.virgil.akiasync.mixin.async.StructureLocatorBridge.getExecutor();
+        this.structureLocateExecutor = task -> structureExecutor.execute(
+            org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.STRUCTURE_LOCATE, task));
     }
     
     @Override
@@ -67,6 +74,9 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     @Override
     public long getAsyncAITimeoutMicros() {return config.getAsyncAITimeoutMicros();}
     
+    @Override
+    public boolean isAsyncAIPipelined() {return config.isAsyncAIPipelined();}
+    
     @Override
     public boolean isVillagerOptimizationEnabled() {return config.isVillagerOptimizationEnabled();}
     
@@ -277,6 +287,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     public void updateConfiguration(ConfigManager newConfig) {
         this.config = newConfig;
         org.virgil.akiasync.util.DebugLogger.updateDebugState(newConfig.isDebugLoggingEnabled());
+        org.virgil.akiasync.mixin.bridge.BridgeManager.bumpConfigGeneration();
     }
     
     @Override
@@ -419,7 +430,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
                 System.err.println("[AkiAsync] Error in async locate command: " + e.getMessage());
                 return null;
             }
-        }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+        }, structureLocateExecutor).whenComplete((foundStructure, asyncThrowable) -> {
             handleLocateCommandResult(sourceStack, foundStructure, asyncThrowable);
         });
     }
@@ -427,7 +438,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     @Override
     public void handleLocateCommandResult(net.minecraft.commands.CommandSourceStack sourceStack, net.minecraft.core.BlockPos structurePos, Throwable throwable) {
         if (structurePos == null && throwable == null) {
-            FoliaSchedulerAdapter.runTask(plugin, () -> {
+            runOnMainThread(() -> {
                 try {
                     sourceStack.sendSuccess(() -> net.minecraft.network.chat.Component.literal(
                         "§a[AkiAsync] Structure location started asynchronously..."), false);
@@ -449,7 +460,7 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
             return;
         }
         
-        FoliaSchedulerAdapter.runTask(plugin, () -> {
+        runOnMainThread(() -> {
             try {
                 if (throwable != null) {
                     System.err.println("[AkiAsync] Locate command failed: " + throwable.getMessage());
@@ -502,13 +513,13 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
                     System.err.println("[AkiAsync] Error in async dolphin treasure hunt: " + e.getMessage());
                     return null;
                 }
-            }, generalExecutor).whenComplete((foundTreasure, asyncThrowable) -> {
+            }, structureLocateExecutor).whenComplete((foundTreasure, asyncThrowable) -> {
                 handleDolphinTreasureResult(dolphin, foundTreasure, asyncThrowable);
             });
             return;
         }
         
-        FoliaEntityAdapter.safeEntityOperation(plugin, (org.bukkit.entity.Entity) dolphin.getBukkitEntity(), (entity) -> {
+        runOnEntityThread(dolphin, () -> {
             try {
                 if (throwable != null) {
                     System.err.println("[AkiAsync] Dolphin treasure hunt failed: " + throwable.getMessage());
@@ -562,13 +573,13 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
                     System.err.println("[AkiAsync] Error in async chest exploration map creation: " + e.getMessage());
                     return null;
                 }
-            }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+            }, structureLocateExecutor).whenComplete((foundStructure, asyncThrowable) -> {
                 handleChestExplorationMapResult(stack, context, (net.minecraft.core.BlockPos) foundStructure, mapDecoration, zoom, asyncThrowable, cir);
             });
             return;
         }
         
-        FoliaSchedulerAdapter.runTask(plugin, () -> {
+        runOnMainThread(() -> {
             try {
                 if (throwable != null) {
                     System.err.println("[AkiAsync] Chest exploration map creation failed: " + throwable.getMessage());
@@ -621,13 +632,13 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
                     System.err.println("[AkiAsync] Error in async villager trade map creation: " + e.getMessage());
                     return null;
                 }
-            }, generalExecutor).whenComplete((foundStructure, asyncThrowable) -> {
+            }, structureLocateExecutor).whenComplete((foundStructure, asyncThrowable) -> {
                 handleVillagerTradeMapResult(offer, trader, (net.minecraft.core.BlockPos) foundStructure, destinationType, displayName, maxUses, villagerXp, asyncThrowable, cir);
             });
             return;
         }
         
-        FoliaEntityAdapter.safeEntityOperation(plugin, (org.bukkit.entity.Entity) trader.getBukkitEntity(), (entity) -> {
+        runOnEntityThread(trader, () -> {
             try {
                 if (throwable != null) {
                     System.err.println("[AkiAsync] Villager trade map creation failed: " + throwable.getMessage());
@@ -680,6 +691,26 @@ public class AkiAsyncBridge implements org.virgil.akiasync.mixin.bridge.Bridge {
     @Override
     public boolean isDolphinTreasureSkipKnownStructures() {return config.isLocateCommandSkipKnownStructures();}
     
+    private void runOnMainThread(Runnable task) {
+        if (FoliaSchedulerAdapter.isFolia()) {
+            FoliaSchedulerAdapter.runTask(plugin, task);
+        } else {
+            MainThreadApplyQueue.submit(ApplySubsystem.STRUCTURE, task);
+        }
+    }
+    
+    private void runOnEntityThread(net.minecraft.world.entity.Entity entity, Runnable task) {
+        if (FoliaSchedulerAdapter.isFolia()) {
+            FoliaEntityAdapter.safeEntityOperation(plugin, (org.bukkit.entity.Entity) entity.getBukkitEntity(), (bukkitEntity) -> task.run());
+        } else {
+            MainThreadApplyQueue.submit(ApplySubsystem.STRUCTURE, () -> {
+                if (!entity.isRemoved()) {
+                    task.run();
+                }
+            });
+        }
+    }
+    
     private void setReturnValue(Object cir, Object value) {
         try {
             cir.getClass().getMethod("setReturnValue", Object.class).invoke(cir, value);
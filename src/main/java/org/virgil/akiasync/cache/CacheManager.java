@@ -19,7 +19,7 @@ public class CacheManager {
         
         globalCache.clear();
         
-        plugin.getExecutorManager().getExecutorService().execute(() -> {
+        plugin.getExecutorManager().getBackgroundExecutor().execute(() -> {
             try {
                 org.virgil.akiasync.mixin.async.villager.VillagerBreedExecutor.clearOldCache(Long.MAX_VALUE);
             } catch (Exception e) {
@@ -0,0 +1,53 @@
+package org.virgil.akiasync.command;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+
+import io.papermc.paper.command.brigadier.BasicCommand;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+@NullMarked
+public class ProfileCommand implements BasicCommand {
+    private static final int DEFAULT_SAMPLE_EVERY = 8;
+    private static final int DEFAULT_REPORT_ROWS = 20;
+    private final AkiAsyncPlugin plugin;
+    public ProfileCommand(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+    }
+    @Override
+    public void execute(CommandSourceStack source, String[] args) {
+        String prefix = "[AkiAsync] ";
+        String mode = args.length > 0 ? args[0].toLowerCase() : "report";
+        switch (mode) {
+            case "start" -> {
+                int sampleEvery = args.length > 1 ? parseInt(args[1], DEFAULT_SAMPLE_EVERY) : DEFAULT_SAMPLE_EVERY;
+                HookProfiler.start(sampleEvery);
+                source.getSender().sendMessage(prefix + "Hook profiler started (sampling 1/" + HookProfiler.getSampleEvery() + " calls).");
+                plugin.getLogger().info("[AkiAsync-Profile] Hook profiler started by " + source.getSender().getName());
+            }
+            case "stop" -> {
+                HookProfiler.stop();
+                source.getSender().sendMessage(prefix + "Hook profiler stopped. Use /aki-profile report to view results.");
+            }
+            case "report" -> {
+                int rows = args.length > 1 ? parseInt(args[1], DEFAULT_REPORT_ROWS) : DEFAULT_REPORT_ROWS;
+                source.getSender().sendMessage(prefix + "========== Hook Profile ==========");
+                for (String line : HookProfiler.report(Math.max(1, rows))) {
+                    source.getSender().sendMessage(prefix + line);
+                }
+            }
+            default -> source.getSender().sendMessage(prefix + "Usage: /aki-profile <start [sample-every]|stop|report [rows]>");
+        }
+    }
+    private static int parseInt(String value, int fallback) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+    @Override
+    public @Nullable String permission() {
+        return "akiasync.profile";
+    }
+}
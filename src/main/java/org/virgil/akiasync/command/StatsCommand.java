@@ -0,0 +1,129 @@
+package org.virgil.akiasync.command;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.metrics.FallbackDiagnostics;
+import org.virgil.akiasync.mixin.metrics.LatencyHistogram;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+
+import io.papermc.paper.command.brigadier.BasicCommand;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+@NullMarked
+public class StatsCommand implements BasicCommand {
+    private final AkiAsyncPlugin plugin;
+    public StatsCommand(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+    }
+    @Override
+    public void execute(CommandSourceStack source, String[] args) {
+        String prefix = "[AkiAsync] ";
+        String mode = args.length > 0 ? args[0].toLowerCase() : "latency";
+        switch (mode) {
+            case "latency" -> {
+                source.getSender().sendMessage(prefix + "========== Latency (ms) ==========");
+                source.getSender().sendMessage(prefix + "subsystem: n | wait p50/p99 | exec p50/p90/p99/p999 | max");
+                for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+                    LatencyHistogram.Snapshot wait = AsyncMetrics.getQueueWaitSnapshot(subsystem);
+                    LatencyHistogram.Snapshot exec = AsyncMetrics.getExecutionSnapshot(subsystem);
+                    if (exec.getCount() == 0 && wait.getCount() == 0) {
+                        source.getSender().sendMessage(prefix + "  " + subsystem.getMetricName() + ": no samples");
+                        continue;
+                    }
+                    source.getSender().sendMessage(String.format(
+                        "%s  %s: %d | %.2f/%.2f | %.2f/%.2f/%.2f/%.2f | %.2f",
+                        prefix, subsystem.getMetricName(), exec.getCount(),
+                        millis(wait.percentile(50)), millis(wait.percentile(99)),
+                        millis(exec.percentile(50)), millis(exec.percentile(90)),
+                        millis(exec.percentile(99)), millis(exec.percentile(99.9)),
+                        millis(exec.getMax())
+                    ));
+                }
+            }
+            case "scheduler" -> {
+                for (String line : plugin.getExecutorManager().getStatistics().split("\n")) {
+                    source.getSender().sendMessage(prefix + line.trim());
+                }
+            }
+            case "timeline" -> {
+                source.getSender().sendMessage(prefix + TickTimeline.getStatistics());
+                if (TickTimeline.exportNow("manual")) {
+                    source.getSender().sendMessage(prefix + "Timeline window frozen, exporting Chrome trace to plugins/AkiAsync/timeline/");
+                } else {
+                    source.getSender().sendMessage(prefix + "Timeline recorder is disabled (performance.timeline.enabled).");
+                }
+            }
+            case "fallbacks" -> {
+                if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+                    FallbackDiagnostics.reset();
+                    source.getSender().sendMessage(prefix + "Fallback diagnostics reset.");
+                    return;
+                }
+                boolean showSamples = args.length > 1 && args[1].equalsIgnoreCase("samples");
+                if (args.length > 1 && !showSamples) {
+                    source.getSender().sendMessage(prefix + "Usage: /aki-stats fallbacks [samples [count]|reset]");
+                    return;
+                }
+                int limit = 5;
+                if (args.length > 2) {
+                    try {
+                        limit = Math.max(1, Integer.parseInt(args[2]));
+                    } catch (NumberFormatException e) {
+                        source.getSender().sendMessage(prefix + "Invalid sample count: " + args[2]);
+                        return;
+                    }
+                }
+                source.getSender().sendMessage(prefix + "========== Fallbacks by Cause ==========");
+                source.getSender().sendMessage(prefix + FallbackDiagnostics.getStatistics());
+                for (String line : FallbackDiagnostics.describeCounts()) {
+                    source.getSender().sendMessage(prefix + "  " + line);
+                }
+                if (!showSamples) {
+                    return;
+                }
+                java.util.List<FallbackDiagnostics.Sample> samples = FallbackDiagnostics.getRecentSamples();
+                if (samples.isEmpty()) {
+                    source.getSender().sendMessage(prefix + "No fallback samples recorded.");
+                    return;
+                }
+                source.getSender().sendMessage(prefix + "---------- Recent samples ----------");
+                long now = System.currentTimeMillis();
+                for (FallbackDiagnostics.Sample sample : samples.subList(0, Math.min(limit, samples.size()))) {
+                    source.getSender().sendMessage(String.format("%s%ds ago %s/%s: %s | wait %s | exec %s%s",
+                        prefix, (now - sample.timeMillis()) / 1000, sample.subsystem().getMetricName(), sample.cause().getLabel(),
+                        sample.detail(), FallbackDiagnostics.formatMicros(sample.queueWaitNanos()),
+                        FallbackDiagnostics.formatMicros(sample.executionNanos()),
+                        sample.thread() != null ? " | " + sample.thread() : ""));
+                    if (sample.stack() != null) {
+                        for (StackTraceElement frame : sample.stack()) {
+                            source.getSender().sendMessage(prefix + "    at " + frame);
+                        }
+                    }
+                }
+            }
+            case "baseline" -> {
+                if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+                    plugin.getRegressionSentinel().resetBaseline();
+                    source.getSender().sendMessage(prefix + "Performance baseline cleared; it will be rebuilt from live data.");
+                    return;
+                }
+                for (String line : plugin.getRegressionSentinel().describe()) {
+                    source.getSender().sendMessage(prefix + line);
+                }
+            }
+            case "reset" -> {
+                AsyncMetrics.resetLatency();
+                source.getSender().sendMessage(prefix + "Latency histograms reset.");
+            }
+            default -> source.getSender().sendMessage(prefix + "Usage: /aki-stats [latency|scheduler|timeline|fallbacks [samples [count]|reset]|baseline [reset]|reset]");
+        }
+    }
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    @Override
+    public @Nullable String permission() {
+        return "akiasync.stats";
+    }
+}
@@ -0,0 +1,174 @@
+package org.virgil.akiasync.command;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+
+import io.papermc.paper.command.brigadier.BasicCommand;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+@NullMarked
+public class TopCommand implements BasicCommand {
+    private static final int DEFAULT_ROWS = 10;
+    private static final int GRID_RADIUS = 4;
+    private static final char[] SHADES = {'.', ':', '-', '=', '+', '*', '#', '%', '@'};
+    private final AkiAsyncPlugin plugin;
+    public TopCommand(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+    }
+    @Override
+    public void execute(CommandSourceStack source, String[] args) {
+        String prefix = "[AkiAsync] ";
+        String mode = args.length > 0 ? args[0].toLowerCase(Locale.ROOT) : "types";
+        switch (mode) {
+            case "start" -> {
+                AiCostLeaderboard.start();
+                source.getSender().sendMessage(prefix + "AI cost leaderboard started. Use /aki-top types or /aki-top chunks to view results.");
+                plugin.getLogger().info("[AkiAsync-Top] AI cost leaderboard started by " + source.getSender().getName());
+            }
+            case "stop" -> {
+                AiCostLeaderboard.stop();
+                source.getSender().sendMessage(prefix + "AI cost leaderboard stopped. Collected data is kept until the next start or reset.");
+            }
+            case "reset" -> {
+                AiCostLeaderboard.reset();
+                source.getSender().sendMessage(prefix + "AI cost leaderboard cleared.");
+            }
+            case "types" -> {
+                AiCostLeaderboard.Metric metric = args.length > 2 ? AiCostLeaderboard.Metric.fromLabel(args[2]) : AiCostLeaderboard.Metric.AI_TICK;
+                if (metric == null) {
+                    source.getSender().sendMessage(prefix + "Unknown metric: " + args[2] + " (ai-tick|snapshot|path|async)");
+                    return;
+                }
+                sendTypes(source, prefix, parseInt(args, 1, DEFAULT_ROWS), metric);
+            }
+            case "chunks" -> sendChunks(source, prefix, parseInt(args, 1, DEFAULT_ROWS));
+            case "heatmap" -> sendHeatmap(source, prefix);
+            default -> source.getSender().sendMessage(prefix + "Usage: /aki-top <start|stop|reset|types [rows] [ai-tick|snapshot|path|async]|chunks [rows]|heatmap>");
+        }
+    }
+    private void sendHeader(CommandSourceStack source, String prefix, String title) {
+        long ticks = AiCostLeaderboard.getTickCount();
+        long seconds = AiCostLeaderboard.getStartedMillis() > 0 ? (System.currentTimeMillis() - AiCostLeaderboard.getStartedMillis()) / 1000 : 0;
+        source.getSender().sendMessage(prefix + "========== " + title + " ==========");
+        source.getSender().sendMessage(prefix + String.format("%s | %d ticks over %ds",
+            AiCostLeaderboard.isActive() ? "Recording" : "Stopped", ticks, seconds));
+    }
+    private void sendTypes(CommandSourceStack source, String prefix, int rows, AiCostLeaderboard.Metric metric) {
+        sendHeader(source, prefix, "AI Cost by Entity Type (" + metric.getLabel() + ")");
+        List<AiCostLeaderboard.TypeCost> top = AiCostLeaderboard.topTypes(metric, Math.max(1, rows));
+        if (top.isEmpty()) {
+            source.getSender().sendMessage(prefix + "No samples yet. Use /aki-top start first.");
+            return;
+        }
+        double tickMs = AiCostLeaderboard.getTotalTickNanos() / 1_000_000.0;
+        for (AiCostLeaderboard.TypeCost cost : top) {
+            double aiMs = cost.aiTickNanos() / 1_000_000.0;
+            source.getSender().sendMessage(prefix + String.format(
+                "%s: ai %.1fms (%.1f%% tick, %.1fus/tick x%d) | snapshot %.1fms | path %.1fms | async %.1fms",
+                cost.type(), aiMs, tickMs > 0 ? aiMs * 100.0 / tickMs : 0.0,
+                cost.ticks() > 0 ? cost.aiTickNanos() / 1000.0 / cost.ticks() : 0.0, cost.ticks(),
+                cost.snapshotNanos() / 1_000_000.0, cost.pathNanos() / 1_000_000.0, cost.asyncNanos() / 1_000_000.0
+            ));
+        }
+    }
+    private void sendChunks(CommandSourceStack source, String prefix, int rows) {
+        sendHeader(source, prefix, "AI Cost by Chunk");
+        List<AiCostLeaderboard.ChunkCost> top = AiCostLeaderboard.topChunks(Math.max(1, rows));
+        if (top.isEmpty()) {
+            source.getSender().sendMessage(prefix + "No samples yet. Use /aki-top start first.");
+            return;
+        }
+        double tickMs = AiCostLeaderboard.getTotalTickNanos() / 1_000_000.0;
+        for (AiCostLeaderboard.ChunkCost cost : top) {
+            double ms = cost.nanos() / 1_000_000.0;
+            source.getSender().sendMessage(prefix + String.format("%s [%d, %d] (block %d, %d): %.1fms (%.2f%% tick)",
+                cost.dimension(), cost.chunkX(), cost.chunkZ(), cost.chunkX() << 4, cost.chunkZ() << 4,
+                ms, tickMs > 0 ? ms * 100.0 / tickMs : 0.0));
+        }
+    }
+    private void sendHeatmap(CommandSourceStack source, String prefix) {
+        List<AiCostLeaderboard.ChunkCost> chunks = AiCostLeaderboard.topChunks(0);
+        if (chunks.isEmpty()) {
+            source.getSender().sendMessage(prefix + "No samples yet. Use /aki-top start first.");
+            return;
+        }
+        AiCostLeaderboard.ChunkCost hottest = chunks.get(0);
+        Map<Long, Long> around = new HashMap<>();
+        for (AiCostLeaderboard.ChunkCost cost : chunks) {
+            if (cost.dimension().equals(hottest.dimension())
+                && Math.abs(cost.chunkX() - hottest.chunkX()) <= GRID_RADIUS
+                && Math.abs(cost.chunkZ() - hottest.chunkZ()) <= GRID_RADIUS) {
+                around.put(pack(cost.chunkX(), cost.chunkZ()), cost.nanos());
+            }
+        }
+        source.getSender().sendMessage(prefix + String.format("========== Heatmap around %s [%d, %d] (%.1fms, north up) ==========",
+            hottest.dimension(), hottest.chunkX(), hottest.chunkZ(), hottest.nanos() / 1_000_000.0));
+        for (int dz = -GRID_RADIUS; dz <= GRID_RADIUS; dz++) {
+            StringBuilder row = new StringBuilder();
+            for (int dx = -GRID_RADIUS; dx <= GRID_RADIUS; dx++) {
+                Long nanos = around.get(pack(hottest.chunkX() + dx, hottest.chunkZ() + dz));
+                if (nanos == null) {
+                    row.append(' ');
+                } else {
+                    int shade = (int) Math.min(SHADES.length - 1, nanos * SHADES.length / Math.max(1L, hottest.nanos()));
+                    row.append(SHADES[shade]);
+                }
+                row.append(' ');
+            }
+            source.getSender().sendMessage(prefix + row);
+        }
+        Path file = plugin.getDataFolder().toPath().resolve("heatmap").resolve("ai-heatmap-" + System.currentTimeMillis() + ".csv");
+        long tickNanos = AiCostLeaderboard.getTotalTickNanos();
+        LaneExecutor.Admission admission = AkiScheduler.lane(SchedulerLane.BACKGROUND)
+            .admit("top-csv", null, () -> writeCsv(file, chunks, tickNanos));
+        if (admission.isAdmitted()) {
+            source.getSender().sendMessage(prefix + "Writing " + chunks.size() + " chunks to plugins/AkiAsync/heatmap/" + file.getFileName());
+        } else {
+            source.getSender().sendMessage(prefix + "Background lane is full, heatmap CSV was not written. Try again shortly.");
+        }
+    }
+    private void writeCsv(Path file, List<AiCostLeaderboard.ChunkCost> chunks, long tickNanos) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("dimension,chunk_x,chunk_z,ai_ms,tick_percent\n");
+                for (AiCostLeaderboard.ChunkCost cost : chunks) {
+                    writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.4f\n",
+                        cost.dimension(), cost.chunkX(), cost.chunkZ(), cost.nanos() / 1_000_000.0,
+                        tickNanos > 0 ? cost.nanos() * 100.0 / tickNanos : 0.0));
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("[AkiAsync-Top] Failed to write heatmap: " + e.getMessage());
+        }
+    }
+    private static long pack(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+    private static int parseInt(String[] args, int index, int fallback) {
+        if (args.length <= index) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(args[index]);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+    @Override
+    public @Nullable String permission() {
+        return "akiasync.top";
+    }
+}
@@ -0,0 +1,167 @@
+package org.virgil.akiasync.compat;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public final class FoliaRegionBatcher {
+
+    private static final int REGION_SECTION_SHIFT = 4;
+    private static volatile FoliaRegionBatcher instance;
+
+    private final Plugin plugin;
+    private final ConcurrentHashMap<SectionKey, Batch> pending = new ConcurrentHashMap<>();
+    private final AtomicLong submittedOperations = new AtomicLong(0);
+    private final AtomicLong scheduledTasks = new AtomicLong(0);
+    private final AtomicLong rerouted = new AtomicLong(0);
+
+    private FoliaRegionBatcher(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public static FoliaRegionBatcher get(Plugin plugin) {
+        FoliaRegionBatcher batcher = instance;
+        if (batcher == null || batcher.plugin != plugin) {
+            synchronized (FoliaRegionBatcher.class) {
+                batcher = instance;
+                if (batcher == null || batcher.plugin != plugin) {
+                    batcher = new FoliaRegionBatcher(plugin);
+                    instance = batcher;
+                }
+            }
+        }
+        return batcher;
+    }
+
+    public void submitEntity(Entity entity, Consumer<Entity> operation) {
+        submitEntity(entity, operation, null);
+    }
+
+    public void submitEntity(Entity entity, Consumer<Entity> operation, Runnable retired) {
+        Location location = entity.getLocation();
+        enqueue(entity.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, () -> {
+            if (FoliaSchedulerAdapter.isFolia() && !FoliaSchedulerAdapter.isOwnedByCurrentRegion(entity)) {
+                rerouted.incrementAndGet();
+                FoliaSchedulerAdapter.runEntityTask(plugin, entity, () -> runEntityOperation(entity, operation, retired), retired);
+                return;
+            }
+            runEntityOperation(entity, operation, retired);
+        });
+    }
+
+    private static void runEntityOperation(Entity entity, Consumer<Entity> operation, Runnable retired) {
+        if (entity.isValid() && !entity.isDead()) {
+            operation.accept(entity);
+        } else if (retired != null) {
+            retired.run();
+        }
+    }
+
+    public void submitLocation(Location location, Runnable operation) {
+        enqueue(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, () -> {
+            if (FoliaSchedulerAdapter.isFolia() && !FoliaSchedulerAdapter.isOwnedByCurrentRegion(location)) {
+                rerouted.incrementAndGet();
+                FoliaSchedulerAdapter.runLocationTask(plugin, location, operation);
+                return;
+            }
+            operation.run();
+        });
+    }
+
+    private void enqueue(World world, int chunkX, int chunkZ, Runnable operation) {
+        submittedOperations.incrementAndGet();
+        SectionKey key = FoliaSchedulerAdapter.isFolia()
+            ? new SectionKey(world.getUID(), chunkX >> REGION_SECTION_SHIFT, chunkZ >> REGION_SECTION_SHIFT)
+            : SectionKey.GLOBAL;
+        while (true) {
+            Batch batch = pending.computeIfAbsent(key, k -> new Batch(k, world, chunkX, chunkZ));
+            if (batch.add(operation)) {
+                if (batch.markScheduled()) {
+                    scheduledTasks.incrementAndGet();
+                    FoliaSchedulerAdapter.runRegionTask(plugin, batch.world, batch.chunkX, batch.chunkZ, () -> flush(batch));
+                }
+                return;
+            }
+            pending.remove(key, batch);
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<Runnable> operations = batch.close();
+        pending.remove(batch.key, batch);
+        for (Runnable operation : operations) {
+            try {
+                operation.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("[FoliaRegionBatcher] Batched operation failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public int getPendingSections() {
+        return pending.size();
+    }
+
+    public String getStatistics() {
+        long operations = submittedOperations.get();
+        long tasks = scheduledTasks.get();
+        return String.format("RegionBatcher[Operations: %d | Region tasks: %d (%.1f ops/task) | Rerouted: %d | Pending sections: %d]",
+            operations, tasks, tasks > 0 ? (double) operations / tasks : 0.0, rerouted.get(), pending.size());
+    }
+
+    public void resetStatistics() {
+        submittedOperations.set(0);
+        scheduledTasks.set(0);
+        rerouted.set(0);
+    }
+
+    private record SectionKey(UUID world, int sectionX, int sectionZ) {
+        private static final SectionKey GLOBAL = new SectionKey(new UUID(0L, 0L), 0, 0);
+    }
+
+    private static final class Batch {
+        private final SectionKey key;
+        private final World world;
+        private final int chunkX;
+        private final int chunkZ;
+        private final List<Runnable> operations = new ArrayList<>();
+        private boolean scheduled;
+        private boolean closed;
+
+        private Batch(SectionKey key, World world, int chunkX, int chunkZ) {
+            this.key = key;
+            this.world = world;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private synchronized boolean add(Runnable operation) {
+            if (closed) {
+                return false;
+            }
+            operations.add(operation);
+            return true;
+        }
+
+        private synchronized boolean markScheduled() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        private synchronized List<Runnable> close() {
+            closed = true;
+            return operations;
+        }
+    }
+}
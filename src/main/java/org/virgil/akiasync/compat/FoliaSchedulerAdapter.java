@@ -2,71 +2,132 @@ package org.virgil.akiasync.compat;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class FoliaSchedulerAdapter {
-    
+
     private static final boolean IS_FOLIA;
-    private static Method globalRegionScheduleMethod;
-    private static Method entityScheduleMethod;
-    private static Method locationScheduleMethod;
-    
+    private static MethodHandle getGlobalScheduler;
+    private static MethodHandle getRegionScheduler;
+    private static MethodHandle getEntityScheduler;
+    private static MethodHandle globalExecute;
+    private static MethodHandle globalRunDelayed;
+    private static MethodHandle regionExecuteLocation;
+    private static MethodHandle regionExecuteChunk;
+    private static MethodHandle entityExecute;
+    private static MethodHandle ownedByCurrentRegionEntity;
+    private static MethodHandle ownedByCurrentRegionLocation;
+    private static volatile Object globalScheduler;
+    private static volatile Object regionScheduler;
+
     static {
         boolean foliaDetected = false;
         try {
             Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
             foliaDetected = true;
-            
-            Class<?> foliaGlobalRegionScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.FoliaGlobalRegionScheduler");
-            globalRegionScheduleMethod = foliaGlobalRegionScheduler.getMethod("run", Plugin.class, Runnable.class);
-            
-            Class<?> foliaEntityScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.FoliaEntityScheduler");
-            entityScheduleMethod = foliaEntityScheduler.getMethod("run", Plugin.class, Runnable.class, Runnable.class);
-            
-            Class<?> foliaRegionScheduler = Class.forName("io.papermc.paper.threadedregions.scheduler.FoliaRegionScheduler");
-            locationScheduleMethod = foliaRegionScheduler.getMethod("run", Plugin.class, Location.class, Runnable.class);
-            
-        } catch (Exception e) {
+        } catch (ClassNotFoundException ignored) {
+        }
+        if (foliaDetected) {
+            try {
+                foliaDetected = lookupSchedulerHandles();
+            } catch (Throwable e) {
+                foliaDetected = false;
+                java.util.logging.Logger.getLogger("AkiAsync").severe(
+                    "[FoliaAdapter] Folia detected but its scheduler API could not be resolved, Folia scheduling disabled: " + e);
+            }
         }
         IS_FOLIA = foliaDetected;
     }
-    
+
+    private static boolean lookupSchedulerHandles() throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Class<?> globalClass = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+        Class<?> regionClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+        Class<?> entityClass = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+        Class<?> scheduledTaskClass = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+
+        getGlobalScheduler = lookup.findVirtual(org.bukkit.Server.class, "getGlobalRegionScheduler", MethodType.methodType(globalClass));
+        getRegionScheduler = lookup.findVirtual(org.bukkit.Server.class, "getRegionScheduler", MethodType.methodType(regionClass));
+        getEntityScheduler = lookup.findVirtual(Entity.class, "getScheduler", MethodType.methodType(entityClass));
+        globalExecute = lookup.findVirtual(globalClass, "execute",
+            MethodType.methodType(void.class, Plugin.class, Runnable.class));
+        globalRunDelayed = lookup.findVirtual(globalClass, "runDelayed",
+            MethodType.methodType(scheduledTaskClass, Plugin.class, Consumer.class, long.class));
+        regionExecuteLocation = lookup.findVirtual(regionClass, "execute",
+            MethodType.methodType(void.class, Plugin.class, Location.class, Runnable.class));
+        regionExecuteChunk = lookup.findVirtual(regionClass, "execute",
+            MethodType.methodType(void.class, Plugin.class, World.class, int.class, int.class, Runnable.class));
+        entityExecute = lookup.findVirtual(entityClass, "execute",
+            MethodType.methodType(boolean.class, Plugin.class, Runnable.class, Runnable.class, long.class));
+        ownedByCurrentRegionEntity = lookup.findVirtual(org.bukkit.Server.class, "isOwnedByCurrentRegion",
+            MethodType.methodType(boolean.class, Entity.class));
+        ownedByCurrentRegionLocation = lookup.findVirtual(org.bukkit.Server.class, "isOwnedByCurrentRegion",
+            MethodType.methodType(boolean.class, Location.class));
+        return true;
+    }
+
     public static boolean isFolia() {
         return IS_FOLIA;
     }
-    
+
+    private static Object globalScheduler() throws Throwable {
+        Object scheduler = globalScheduler;
+        if (scheduler == null) {
+            scheduler = getGlobalScheduler.invoke(Bukkit.getServer());
+            globalScheduler = scheduler;
+        }
+        return scheduler;
+    }
+
+    private static Object regionScheduler() throws Throwable {
+        Object scheduler = regionScheduler;
+        if (scheduler == null) {
+            scheduler = getRegionScheduler.invoke(Bukkit.getServer());
+            regionScheduler = scheduler;
+        }
+        return scheduler;
+    }
+
     public static BukkitTask runTask(Plugin plugin, Runnable task) {
         if (IS_FOLIA) {
             try {
-                Object globalScheduler = Bukkit.getServer().getClass()
-                    .getMethod("getGlobalRegionScheduler")
-                    .invoke(Bukkit.getServer());
-                
-                return (BukkitTask) globalRegionScheduleMethod.invoke(globalScheduler, plugin, task);
-            } catch (Exception e) {
+                globalExecute.invoke(globalScheduler(), plugin, task);
+            } catch (Throwable e) {
                 plugin.getLogger().warning("[FoliaAdapter] Failed to schedule global task: " + e.getMessage());
                 task.run();
-                return null;
             }
+            return null;
         } else {
             return Bukkit.getScheduler().runTask(plugin, task);
         }
     }
-    
+
     public static BukkitTask runEntityTask(Plugin plugin, Entity entity, Runnable task) {
+        return runEntityTask(plugin, entity, task, null);
+    }
+
+    public static BukkitTask runEntityTask(Plugin plugin, Entity entity, Runnable task, Runnable retired) {
         if (IS_FOLIA) {
             try {
-                Object entityScheduler = Bukkit.getServer().getClass()
-                    .getMethod("getEntityScheduler")
-                    .invoke(Bukkit.getServer());
-                
-                return (BukkitTask) entityScheduleMethod.invoke(entityScheduler, plugin, task, null);
-            } catch (Exception e) {
+                Object entityScheduler = getEntityScheduler.invoke(entity);
+                boolean scheduled = (boolean) entityExecute.invoke(entityScheduler, plugin, task, retired, 1L);
+                if (!scheduled) {
+                    plugin.getLogger().fine("[FoliaAdapter] Entity retired before task could be scheduled");
+                    if (retired != null) {
+                        retired.run();
+                    }
+                }
+                return null;
+            } catch (Throwable e) {
                 plugin.getLogger().warning("[FoliaAdapter] Failed to schedule entity task: " + e.getMessage());
                 return runLocationTask(plugin, entity.getLocation(), task);
             }
@@ -74,42 +135,67 @@ public class FoliaSchedulerAdapter {
             return Bukkit.getScheduler().runTask(plugin, task);
         }
     }
-    
+
     public static BukkitTask runLocationTask(Plugin plugin, Location location, Runnable task) {
         if (IS_FOLIA) {
             try {
-                Object regionScheduler = Bukkit.getServer().getClass()
-                    .getMethod("getRegionScheduler")
-                    .invoke(Bukkit.getServer());
-                
-                return (BukkitTask) locationScheduleMethod.invoke(regionScheduler, plugin, location, task);
-            } catch (Exception e) {
+                regionExecuteLocation.invoke(regionScheduler(), plugin, location, task);
+            } catch (Throwable e) {
                 plugin.getLogger().warning("[FoliaAdapter] Failed to schedule location task: " + e.getMessage());
                 task.run();
-                return null;
             }
+            return null;
         } else {
             return Bukkit.getScheduler().runTask(plugin, task);
         }
     }
-    
+
+    public static BukkitTask runRegionTask(Plugin plugin, World world, int chunkX, int chunkZ, Runnable task) {
+        if (IS_FOLIA) {
+            try {
+                regionExecuteChunk.invoke(regionScheduler(), plugin, world, chunkX, chunkZ, task);
+            } catch (Throwable e) {
+                plugin.getLogger().warning("[FoliaAdapter] Failed to schedule region task: " + e.getMessage());
+                task.run();
+            }
+            return null;
+        } else {
+            return Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    public static boolean isOwnedByCurrentRegion(Entity entity) {
+        if (!IS_FOLIA) {
+            return Bukkit.isPrimaryThread();
+        }
+        try {
+            return (boolean) ownedByCurrentRegionEntity.invoke(Bukkit.getServer(), entity);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    public static boolean isOwnedByCurrentRegion(Location location) {
+        if (!IS_FOLIA) {
+            return Bukkit.isPrimaryThread();
+        }
+        try {
+            return (boolean) ownedByCurrentRegionLocation.invoke(Bukkit.getServer(), location);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
     public static BukkitTask runTaskLater(Plugin plugin, Runnable task, long delayTicks) {
         if (IS_FOLIA) {
             try {
-                Object globalScheduler = Bukkit.getServer().getClass()
-                    .getMethod("getGlobalRegionScheduler")
-                    .invoke(Bukkit.getServer());
-                
-                Method runDelayedMethod = globalScheduler.getClass()
-                    .getMethod("runDelayed", Plugin.class, Runnable.class, long.class);
-                
-                return (BukkitTask) runDelayedMethod.invoke(globalScheduler, plugin, task, delayTicks);
-            } catch (Exception e) {
+                Consumer<Object> consumer = scheduledTask -> task.run();
+                globalRunDelayed.invoke(globalScheduler(), plugin, consumer, Math.max(1L, delayTicks));
+            } catch (Throwable e) {
                 plugin.getLogger().warning("[FoliaAdapter] Failed to schedule delayed task: " + e.getMessage());
-                java.util.concurrent.Executors.newSingleThreadScheduledExecutor()
-                    .schedule(task, delayTicks * 50, TimeUnit.MILLISECONDS);
-                return null;
+                org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.schedule(task, delayTicks * 50, TimeUnit.MILLISECONDS);
             }
+            return null;
         } else {
             return Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
         }
@@ -18,6 +18,7 @@ public class ConfigManager {
     private boolean brainThrottle;
     private int brainThrottleInterval;
     private long asyncAITimeoutMicros;
+    private String asyncAIMode;
     private boolean villagerOptimizationEnabled;
     private boolean villagerUsePOISnapshot;
     private boolean piglinOptimizationEnabled;
@@ -85,6 +86,23 @@ public class ConfigManager {
     private long chunkTickTimeoutMicros;
     private boolean enableDebugLogging;
     private boolean enablePerformanceMetrics;
+    private boolean prometheusExporterEnabled;
+    private String prometheusBindAddress;
+    private int prometheusPort;
+    private String prometheusPath;
+    private boolean timelineEnabled;
+    private int timelineRingCapacity;
+    private long timelineSpikeThresholdMs;
+    private long timelinePreWindowMs;
+    private long timelineCooldownSeconds;
+    private int timelineMaxExports;
+    private boolean allocationTrackingEnabled;
+    private double allocationRegressionFactor;
+    private long allocationMinKbPerTick;
+    private boolean regressionSentinelEnabled;
+    private double regressionDegradationRatio;
+    private long regressionCheckIntervalMinutes;
+    private long regressionWarmupMinutes;
     private int configVersion;
     
     private boolean structureLocationAsyncEnabled;
@@ -123,6 +141,20 @@ public class ConfigManager {
     private boolean blockPosCacheEnabled;
     private boolean optimizedCollectionsEnabled;
     
+    private int schedulerCoreBudget;
+    private java.util.Map<org.virgil.akiasync.mixin.async.scheduler.SchedulerLane, Integer> schedulerLaneWeights;
+    private java.util.Map<org.virgil.akiasync.mixin.async.scheduler.SchedulerLane, org.virgil.akiasync.mixin.async.scheduler.AdmissionPolicy> schedulerAdmissionPolicies;
+    private boolean schedulerAdaptiveEnabled;
+    private int schedulerAdaptiveIntervalSeconds;
+    private double schedulerAdaptiveTargetMspt;
+    private int schedulerAdaptiveHysteresisSamples;
+    private int schedulerAdaptiveMaxThreadsPerLane;
+    private int blockingIoMaxConcurrency;
+    private boolean blockingIoPinningDetectorEnabled;
+    private int blockingIoPinningThresholdMs;
+    private double mainThreadApplyBudgetMs;
+    private java.util.Map<org.virgil.akiasync.mixin.async.apply.ApplySubsystem, Integer> mainThreadApplyPriorities;
+    
     public ConfigManager(AkiAsyncPlugin plugin) {
         this.plugin = plugin;
     }
@@ -142,6 +174,7 @@ public class ConfigManager {
         brainThrottle = config.getBoolean("brain.throttle", true);
         brainThrottleInterval = config.getInt("brain.throttle-interval", 10);
         asyncAITimeoutMicros = config.getLong("async-ai.timeout-microseconds", 500L);
+        asyncAIMode = config.getString("async-ai.mode", "simple");
         villagerOptimizationEnabled = config.getBoolean("async-ai.villager-optimization.enabled", false);
         villagerUsePOISnapshot = config.getBoolean("async-ai.villager-optimization.use-poi-snapshot", true);
         piglinOptimizationEnabled = config.getBoolean("async-ai.piglin-optimization.enabled", false);
@@ -262,6 +295,9 @@ public class ConfigManager {
         blockPosCacheEnabled = config.getBoolean("nitori.blockpos-cache", true);
         optimizedCollectionsEnabled = config.getBoolean("nitori.optimized-collections", true);
         
+        loadSchedulerConfig();
+        loadMetricsConfig();
+        
         validateConfigVersion();
         validateConfig();
     }
@@ -352,6 +388,7 @@ public class ConfigManager {
         brainThrottle = config.getBoolean("brain.throttle", true);
         brainThrottleInterval = config.getInt("brain.throttle-interval", 10);
         asyncAITimeoutMicros = config.getLong("async-ai.timeout-microseconds", 500L);
+        asyncAIMode = config.getString("async-ai.mode", "simple");
         villagerOptimizationEnabled = config.getBoolean("async-ai.villager-optimization.enabled", false);
         villagerUsePOISnapshot = config.getBoolean("async-ai.villager-optimization.use-poi-snapshot", true);
         piglinOptimizationEnabled = config.getBoolean("async-ai.piglin-optimization.enabled", false);
@@ -479,9 +516,63 @@ public class ConfigManager {
         enablePerformanceMetrics = config.getBoolean("performance.enable-metrics", true);
         configVersion = config.getInt("version", 4);
         
+        loadSchedulerConfig();
+        loadMetricsConfig();
+        
         validateConfig();
     }
     
+    private void loadSchedulerConfig() {
+        schedulerCoreBudget = config.getInt("scheduler.core-budget", 0);
+        schedulerLaneWeights = new java.util.EnumMap<>(org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.class);
+        for (org.virgil.akiasync.mixin.async.scheduler.SchedulerLane lane : org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.values()) {
+            schedulerLaneWeights.put(lane, config.getInt("scheduler.lane-weights." + lane.getConfigKey(), lane.getDefaultWeight()));
+        }
+        schedulerAdmissionPolicies = new java.util.EnumMap<>(org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.class);
+        for (org.virgil.akiasync.mixin.async.scheduler.SchedulerLane lane : org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.values()) {
+            String value = config.getString("scheduler.admission." + lane.getConfigKey(), lane.getDefaultAdmissionPolicy().getConfigKey());
+            org.virgil.akiasync.mixin.async.scheduler.AdmissionPolicy policy = org.virgil.akiasync.mixin.async.scheduler.AdmissionPolicy.fromConfig(value, null);
+            if (policy == null) {
+                plugin.getLogger().warning("Invalid scheduler.admission." + lane.getConfigKey() + ": " + value + ", using " + lane.getDefaultAdmissionPolicy().getConfigKey());
+                policy = lane.getDefaultAdmissionPolicy();
+            }
+            schedulerAdmissionPolicies.put(lane, policy);
+        }
+        schedulerAdaptiveEnabled = config.getBoolean("scheduler.adaptive.enabled", false);
+        schedulerAdaptiveIntervalSeconds = config.getInt("scheduler.adaptive.interval-seconds", 5);
+        schedulerAdaptiveTargetMspt = config.getDouble("scheduler.adaptive.target-mspt", 45.0);
+        schedulerAdaptiveHysteresisSamples = config.getInt("scheduler.adaptive.hysteresis-samples", 3);
+        schedulerAdaptiveMaxThreadsPerLane = config.getInt("scheduler.adaptive.max-threads-per-lane", 0);
+        blockingIoMaxConcurrency = config.getInt("scheduler.blocking-io.max-concurrency", 32);
+        blockingIoPinningDetectorEnabled = config.getBoolean("scheduler.blocking-io.pinning-detector", true);
+        blockingIoPinningThresholdMs = config.getInt("scheduler.blocking-io.pinning-threshold-ms", 20);
+        mainThreadApplyBudgetMs = config.getDouble("main-thread-apply.budget-ms", 5.0);
+        mainThreadApplyPriorities = new java.util.EnumMap<>(org.virgil.akiasync.mixin.async.apply.ApplySubsystem.class);
+        for (org.virgil.akiasync.mixin.async.apply.ApplySubsystem subsystem : org.virgil.akiasync.mixin.async.apply.ApplySubsystem.values()) {
+            mainThreadApplyPriorities.put(subsystem, config.getInt("main-thread-apply.priorities." + subsystem.getConfigKey(), subsystem.getDefaultPriority()));
+        }
+    }
+    
+    private void loadMetricsConfig() {
+        prometheusExporterEnabled = config.getBoolean("performance.prometheus.enabled", false);
+        prometheusBindAddress = config.getString("performance.prometheus.bind-address", "127.0.0.1");
+        prometheusPort = config.getInt("performance.prometheus.port", 9465);
+        prometheusPath = config.getString("performance.prometheus.path", "/metrics");
+        timelineEnabled = config.getBoolean("performance.timeline.enabled", true);
+        timelineRingCapacity = config.getInt("performance.timeline.ring-capacity", 65536);
+        timelineSpikeThresholdMs = config.getLong("performance.timeline.spike-threshold-ms", 100L);
+        timelinePreWindowMs = config.getLong("performance.timeline.pre-window-ms", 2000L);
+        timelineCooldownSeconds = config.getLong("performance.timeline.cooldown-seconds", 30L);
+        timelineMaxExports = config.getInt("performance.timeline.max-exports", 20);
+        allocationTrackingEnabled = config.getBoolean("performance.allocation-tracking.enabled", true);
+        allocationRegressionFactor = config.getDouble("performance.allocation-tracking.regression-factor", 2.0);
+        allocationMinKbPerTick = config.getLong("performance.allocation-tracking.min-kb-per-tick", 256L);
+        regressionSentinelEnabled = config.getBoolean("performance.regression-sentinel.enabled", true);
+        regressionDegradationRatio = config.getDouble("performance.regression-sentinel.degradation-ratio", 1.5);
+        regressionCheckIntervalMinutes = config.getLong("performance.regression-sentinel.check-interval-minutes", 5L);
+        regressionWarmupMinutes = config.getLong("performance.regression-sentinel.warmup-minutes", 5L);
+    }
+    
     private void validateConfig() {
         if (threadPoolSize < 1) {
             plugin.getLogger().warning("Thread pool size cannot be less than 1, setting to 1");
@@ -519,6 +610,10 @@ public class ConfigManager {
             plugin.getLogger().warning("Async AI timeout too high, setting to 5000娓璼 (5ms)");
             asyncAITimeoutMicros = 5000;
         }
+        if (!"simple".equalsIgnoreCase(asyncAIMode) && !"pipelined".equalsIgnoreCase(asyncAIMode)) {
+            plugin.getLogger().warning("Unknown async AI mode '" + asyncAIMode + "', falling back to simple");
+            asyncAIMode = "simple";
+        }
         if (entityTickThreads < 1) entityTickThreads = 1;
         if (entityTickThreads > 16) entityTickThreads = 16;
         if (minEntitiesForParallel < 10) minEntitiesForParallel = 10;
@@ -561,6 +656,48 @@ public class ConfigManager {
             structureLocationThreads = 8;
         }
         
+        if (schedulerCoreBudget < 0) schedulerCoreBudget = 0;
+        if (schedulerCoreBudget > 64) {
+            plugin.getLogger().warning("Scheduler core budget cannot be more than 64, setting to 64");
+            schedulerCoreBudget = 64;
+        }
+        schedulerLaneWeights.replaceAll((lane, weight) -> Math.max(1, Math.min(weight, 16)));
+        if (schedulerAdaptiveIntervalSeconds < 1) schedulerAdaptiveIntervalSeconds = 1;
+        if (schedulerAdaptiveIntervalSeconds > 300) schedulerAdaptiveIntervalSeconds = 300;
+        if (schedulerAdaptiveTargetMspt < 5.0) schedulerAdaptiveTargetMspt = 5.0;
+        if (schedulerAdaptiveTargetMspt > 200.0) schedulerAdaptiveTargetMspt = 200.0;
+        if (schedulerAdaptiveHysteresisSamples < 1) schedulerAdaptiveHysteresisSamples = 1;
+        if (schedulerAdaptiveHysteresisSamples > 20) schedulerAdaptiveHysteresisSamples = 20;
+        if (schedulerAdaptiveMaxThreadsPerLane < 0) schedulerAdaptiveMaxThreadsPerLane = 0;
+        if (schedulerAdaptiveMaxThreadsPerLane > 64) schedulerAdaptiveMaxThreadsPerLane = 64;
+        if (blockingIoMaxConcurrency < 1) blockingIoMaxConcurrency = 1;
+        if (blockingIoMaxConcurrency > 1024) blockingIoMaxConcurrency = 1024;
+        if (blockingIoPinningThresholdMs < 1) blockingIoPinningThresholdMs = 1;
+        if (prometheusPort < 1 || prometheusPort > 65535) {
+            plugin.getLogger().warning("Invalid performance.prometheus.port: " + prometheusPort + ", using 9465");
+            prometheusPort = 9465;
+        }
+        if (prometheusBindAddress == null || prometheusBindAddress.isBlank()) prometheusBindAddress = "127.0.0.1";
+        if (prometheusPath == null || !prometheusPath.startsWith("/")) prometheusPath = "/metrics";
+        if (timelineRingCapacity < 1024 || timelineRingCapacity > 4194304) {
+            plugin.getLogger().warning("Invalid performance.timeline.ring-capacity: " + timelineRingCapacity + ", using 65536");
+            timelineRingCapacity = 65536;
+        }
+        if (timelineSpikeThresholdMs < 1) timelineSpikeThresholdMs = 100L;
+        if (timelinePreWindowMs < 0) timelinePreWindowMs = 0L;
+        if (timelineCooldownSeconds < 0) timelineCooldownSeconds = 0L;
+        if (timelineMaxExports < 1) timelineMaxExports = 1;
+        if (allocationRegressionFactor < 1.1) allocationRegressionFactor = 1.1;
+        if (allocationMinKbPerTick < 0) allocationMinKbPerTick = 0L;
+        if (regressionDegradationRatio < 1.05) regressionDegradationRatio = 1.05;
+        if (regressionCheckIntervalMinutes < 1) regressionCheckIntervalMinutes = 1L;
+        if (regressionWarmupMinutes < 0) regressionWarmupMinutes = 0L;
+        if (mainThreadApplyBudgetMs < 0.1) mainThreadApplyBudgetMs = 0.1;
+        if (mainThreadApplyBudgetMs > 50.0) {
+            plugin.getLogger().warning("Main-thread apply budget cannot be more than 50ms, setting to 50ms");
+            mainThreadApplyBudgetMs = 50.0;
+        }
+        
         validateNitoriConfig();
         if (locateCommandSearchRadius < 10) locateCommandSearchRadius = 10;
         if (locateCommandSearchRadius > 1000) locateCommandSearchRadius = 1000;
@@ -648,6 +785,24 @@ public class ConfigManager {
         return enablePerformanceMetrics;
     }
     
+    public boolean isPrometheusExporterEnabled() { return prometheusExporterEnabled; }
+    public String getPrometheusBindAddress() { return prometheusBindAddress; }
+    public int getPrometheusPort() { return prometheusPort; }
+    public String getPrometheusPath() { return prometheusPath; }
+    public boolean isTimelineEnabled() { return timelineEnabled; }
+    public int getTimelineRingCapacity() { return timelineRingCapacity; }
+    public long getTimelineSpikeThresholdMs() { return timelineSpikeThresholdMs; }
+    public long getTimelinePreWindowMs() { return timelinePreWindowMs; }
+    public long getTimelineCooldownSeconds() { return timelineCooldownSeconds; }
+    public int getTimelineMaxExports() { return timelineMaxExports; }
+    public boolean isAllocationTrackingEnabled() { return allocationTrackingEnabled; }
+    public double getAllocationRegressionFactor() { return allocationRegressionFactor; }
+    public long getAllocationMinKbPerTick() { return allocationMinKbPerTick; }
+    public boolean isRegressionSentinelEnabled() { return regressionSentinelEnabled; }
+    public double getRegressionDegradationRatio() { return regressionDegradationRatio; }
+    public long getRegressionCheckIntervalMinutes() { return regressionCheckIntervalMinutes; }
+    public long getRegressionWarmupMinutes() { return regressionWarmupMinutes; }
+    
     public boolean isMobSpawningEnabled() {
         return mobSpawningEnabled;
     }
@@ -667,6 +822,7 @@ public class ConfigManager {
     public boolean isBrainThrottleEnabled() { return brainThrottle; }
     public int getBrainThrottleInterval() { return brainThrottleInterval; }
     public long getAsyncAITimeoutMicros() { return asyncAITimeoutMicros; }
+    public boolean isAsyncAIPipelined() { return "pipelined".equalsIgnoreCase(asyncAIMode); }
     public boolean isVillagerOptimizationEnabled() { return villagerOptimizationEnabled; }
     public boolean isVillagerUsePOISnapshot() { return villagerUsePOISnapshot; }
     public boolean isPiglinOptimizationEnabled() { return piglinOptimizationEnabled; }
@@ -775,6 +931,20 @@ public class ConfigManager {
     public boolean isBlockPosCacheEnabled() { return blockPosCacheEnabled; }
     public boolean isOptimizedCollectionsEnabled() { return optimizedCollectionsEnabled; }
     
+    public int getSchedulerCoreBudget() { return schedulerCoreBudget; }
+    public java.util.Map<org.virgil.akiasync.mixin.async.scheduler.SchedulerLane, Integer> getSchedulerLaneWeights() { return schedulerLaneWeights; }
+    public java.util.Map<org.virgil.akiasync.mixin.async.scheduler.SchedulerLane, org.virgil.akiasync.mixin.async.scheduler.AdmissionPolicy> getSchedulerAdmissionPolicies() { return schedulerAdmissionPolicies; }
+    public boolean isSchedulerAdaptiveEnabled() { return schedulerAdaptiveEnabled; }
+    public int getSchedulerAdaptiveIntervalSeconds() { return schedulerAdaptiveIntervalSeconds; }
+    public double getSchedulerAdaptiveTargetMspt() { return schedulerAdaptiveTargetMspt; }
+    public int getSchedulerAdaptiveHysteresisSamples() { return schedulerAdaptiveHysteresisSamples; }
+    public int getSchedulerAdaptiveMaxThreadsPerLane() { return schedulerAdaptiveMaxThreadsPerLane; }
+    public int getBlockingIoMaxConcurrency() { return blockingIoMaxConcurrency; }
+    public boolean isBlockingIoPinningDetectorEnabled() { return blockingIoPinningDetectorEnabled; }
+    public int getBlockingIoPinningThresholdMs() { return blockingIoPinningThresholdMs; }
+    public double getMainThreadApplyBudgetMs() { return mainThreadApplyBudgetMs; }
+    public java.util.Map<org.virgil.akiasync.mixin.async.apply.ApplySubsystem, Integer> getMainThreadApplyPriorities() { return mainThreadApplyPriorities; }
+    
     public boolean getBoolean(String path, boolean defaultValue) {
         return config != null ? config.getBoolean(path, defaultValue) : defaultValue;
     }
@@ -0,0 +1,44 @@
+package org.virgil.akiasync.event;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+public class PerformanceRegressionEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+    private final String subsystem;
+    private final String metric;
+    private final double baseline;
+    private final double live;
+    private final double threshold;
+    public PerformanceRegressionEvent(String subsystem, String metric, double baseline, double live, double threshold) {
+        super(true);
+        this.subsystem = subsystem;
+        this.metric = metric;
+        this.baseline = baseline;
+        this.live = live;
+        this.threshold = threshold;
+    }
+    public String getSubsystem() {
+        return subsystem;
+    }
+    public String getMetric() {
+        return metric;
+    }
+    public double getBaseline() {
+        return baseline;
+    }
+    public double getLive() {
+        return live;
+    }
+    public double getRatio() {
+        return baseline > 0 ? live / baseline : Double.POSITIVE_INFINITY;
+    }
+    public double getThreshold() {
+        return threshold;
+    }
+    @Override
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -0,0 +1,206 @@
+package org.virgil.akiasync.executor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.config.ConfigManager;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.metrics.TickTimeService;
+
+public class AdaptiveLaneController {
+
+    private static final SchedulerLane[] MANAGED_LANES = {
+        SchedulerLane.TICK_CRITICAL,
+        SchedulerLane.AI,
+        SchedulerLane.LIGHTING
+    };
+
+    private enum Decision { GROW, SHRINK, HOLD }
+
+    private final AkiAsyncPlugin plugin;
+    private final Map<SchedulerLane, LaneState> states = new EnumMap<>(SchedulerLane.class);
+    private ScheduledFuture<?> task;
+    private int intervalSeconds;
+    private double targetMspt;
+    private int hysteresisSamples;
+    private int maxThreadsPerLane;
+    private int secondsSinceDecision;
+    private volatile String lastDecision = "none";
+
+    public AdaptiveLaneController(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+        for (SchedulerLane lane : MANAGED_LANES) {
+            states.put(lane, new LaneState());
+        }
+    }
+
+    public synchronized void start() {
+        stop();
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isSchedulerAdaptiveEnabled()) {
+            return;
+        }
+        intervalSeconds = config.getSchedulerAdaptiveIntervalSeconds();
+        targetMspt = config.getSchedulerAdaptiveTargetMspt();
+        hysteresisSamples = config.getSchedulerAdaptiveHysteresisSamples();
+        maxThreadsPerLane = config.getSchedulerAdaptiveMaxThreadsPerLane();
+        secondsSinceDecision = 0;
+        for (LaneState state : states.values()) {
+            state.reset();
+        }
+        task = AkiScheduler.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
+        plugin.getLogger().info("[AkiAsync-Adaptive] Controller started: every " + intervalSeconds + "s, target MSPT " + targetMspt + "ms, hysteresis " + hysteresisSamples + " samples");
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    public String getLastDecision() {
+        return lastDecision;
+    }
+
+    private synchronized void sample() {
+        try {
+            for (SchedulerLane lane : MANAGED_LANES) {
+                LaneExecutor executor = AkiScheduler.lane(lane);
+                LaneState state = states.get(lane);
+                state.utilizationSum += (double) executor.getActiveCount() / Math.max(1, executor.getThreadCount());
+                state.maxQueue = Math.max(state.maxQueue, executor.getQueueSize());
+                state.samples++;
+            }
+            if (++secondsSinceDecision >= intervalSeconds) {
+                secondsSinceDecision = 0;
+                evaluate();
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("[AkiAsync-Adaptive] Sampling failed: " + e.getMessage());
+        }
+    }
+
+    private void evaluate() {
+        double mspt = TickTimeService.getSnapshot().ticks() > 0 ? TickTimeService.getAverageMspt() : Bukkit.getAverageTickTime();
+        int budget = AkiScheduler.getCoreBudget();
+        int laneMax = maxThreadsPerLane > 0 ? maxThreadsPerLane : budget;
+
+        double averageUtilization = 0;
+        for (LaneState state : states.values()) {
+            averageUtilization += state.utilization();
+        }
+        averageUtilization /= states.size();
+        boolean mainThreadBound = mspt > targetMspt && averageUtilization < 0.5;
+
+        for (SchedulerLane lane : MANAGED_LANES) {
+            LaneState state = states.get(lane);
+            LaneExecutor executor = AkiScheduler.lane(lane);
+            int threads = executor.getThreadCount();
+            double utilization = state.utilization();
+            int queue = state.maxQueue;
+
+            Decision decision;
+            if (mainThreadBound) {
+                decision = Decision.SHRINK;
+            } else if (queue > threads * 2 || utilization >= 0.9) {
+                decision = Decision.GROW;
+            } else if (utilization < 0.25 && queue == 0) {
+                decision = Decision.SHRINK;
+            } else {
+                decision = Decision.HOLD;
+            }
+
+            if (state.cooldown > 0) {
+                state.cooldown--;
+                decision = Decision.HOLD;
+            }
+            state.streak = decision != Decision.HOLD && decision == state.pending ? state.streak + 1 : 1;
+            state.pending = decision;
+
+            if (decision != Decision.HOLD && state.streak >= hysteresisSamples) {
+                int target = threads;
+                SchedulerLane donor = null;
+                boolean resized = false;
+                if (decision == Decision.GROW && threads < laneMax) {
+                    target = threads + 1;
+                    if (AkiScheduler.getTotalThreads() < budget) {
+                        resized = AkiScheduler.resizeLane(lane, target);
+                    } else {
+                        donor = idlestDonor(lane);
+                        resized = donor != null && AkiScheduler.transferThread(donor, lane);
+                    }
+                } else if (decision == Decision.SHRINK && threads > 1) {
+                    target = threads - 1;
+                    resized = AkiScheduler.resizeLane(lane, target);
+                }
+                if (resized) {
+                    lastDecision = String.format("%s %d -> %d (%s%s, mspt=%.1fms, util=%.0f%%, queue=%d)",
+                        lane.getConfigKey(), threads, target, mainThreadBound ? "main-thread bound" : decision.name().toLowerCase(),
+                        donor != null ? " from " + donor.getConfigKey() : "", mspt, utilization * 100, queue);
+                    plugin.getLogger().info("[AkiAsync-Adaptive] " + lastDecision);
+                    state.cooldown = hysteresisSamples;
+                    if (donor != null) {
+                        states.get(donor).cooldown = hysteresisSamples;
+                    }
+                }
+                state.streak = 0;
+                state.pending = Decision.HOLD;
+            }
+        }
+        for (LaneState state : states.values()) {
+            state.utilizationSum = 0;
+            state.maxQueue = 0;
+            state.samples = 0;
+        }
+    }
+
+    // The default allocation fills the core budget, so growth normally borrows from the least busy managed lane
+    private SchedulerLane idlestDonor(SchedulerLane receiver) {
+        SchedulerLane best = null;
+        double bestUtilization = 0.5;
+        for (SchedulerLane lane : MANAGED_LANES) {
+            LaneState state = states.get(lane);
+            if (lane == receiver || state.cooldown > 0 || state.maxQueue > 0 || AkiScheduler.lane(lane).getThreadCount() <= 1) {
+                continue;
+            }
+            if (state.utilization() < bestUtilization) {
+                bestUtilization = state.utilization();
+                best = lane;
+            }
+        }
+        return best;
+    }
+
+    private static final class LaneState {
+        private double utilizationSum;
+        private int maxQueue;
+        private int samples;
+        private int streak;
+        private int cooldown;
+        private Decision pending = Decision.HOLD;
+
+        private double utilization() {
+            return samples == 0 ? 0 : utilizationSum / samples;
+        }
+
+        private void reset() {
+            utilizationSum = 0;
+            maxQueue = 0;
+            samples = 0;
+            streak = 0;
+            cooldown = 0;
+            pending = Decision.HOLD;
+        }
+    }
+}
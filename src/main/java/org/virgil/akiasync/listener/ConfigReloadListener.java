@@ -17,7 +17,7 @@ public class ConfigReloadListener implements Listener {
     public void onConfigReload(ConfigReloadEvent event) {
         plugin.getLogger().info("[AkiAsync] Configuration reload event received, starting hot-reload...");
         
-        plugin.getExecutorManager().getExecutorService().execute(() -> {
+        plugin.getExecutorManager().getBackgroundExecutor().execute(() -> {
             performReload();
         });
     }
@@ -29,39 +29,23 @@ public class ConfigReloadListener implements Listener {
             plugin.getConfigManager().reload();
             plugin.getCacheManager().invalidateAll();
             org.virgil.akiasync.mixin.metrics.AsyncMetrics.reset();
+            org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue.resetStatistics();
+            org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.resetAdmissionStatistics();
+            org.virgil.akiasync.mixin.async.cancel.CancellationRegistry.resetStatistics();
             
             org.virgil.akiasync.manager.MixinStateManager.resetAllMixinStates();
             
-            plugin.getLogger().info("[AkiAsync] Phase 3: Restarting executors in batches...");
+            plugin.getLogger().info("[AkiAsync] Phase 3: Applying configuration in place...");
+            plugin.getBridge().updateConfiguration(plugin.getConfigManager());
             
             if (plugin.getConfigManager().isAsyncVillagerBreedEnabled()) {
                 org.virgil.akiasync.mixin.async.villager.VillagerBreedExecutor.restartSmooth();
-                Thread.sleep(100);
-            }
-            
-            plugin.getExecutorManager().restartSmooth();
-            Thread.sleep(100);
-            
-            if (plugin.getConfigManager().isTNTOptimizationEnabled()) {
-                org.virgil.akiasync.mixin.async.TNTThreadPool.restartSmooth();
-                Thread.sleep(50);
             }
             
-            org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor.restartSmooth();
-            Thread.sleep(100);
-            
-            if (plugin.getConfigManager().isChunkTickAsyncEnabled()) {
-                org.virgil.akiasync.mixin.async.chunk.ChunkTickExecutor.setThreadCount(
-                    plugin.getConfigManager().getChunkTickThreads()
-                );
-                org.virgil.akiasync.mixin.async.chunk.ChunkTickExecutor.restartSmooth();
-                Thread.sleep(100);
-            }
-            
-            plugin.getLogger().info("[AkiAsync] Phase 4: Updating configuration and metrics...");
-            plugin.getBridge().updateConfiguration(plugin.getConfigManager());
+            plugin.getExecutorManager().applyConfiguration();
+            org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor.reloadConfiguration();
             
-            Thread.sleep(50);
+            plugin.getLogger().info("[AkiAsync] Phase 4: Updating metrics...");
             if (plugin.getConfigManager().isPerformanceMetricsEnabled()) {
                 plugin.restartMetricsScheduler();
                 plugin.getLogger().info("[AkiAsync] Metrics scheduler restarted");
@@ -69,8 +53,9 @@ public class ConfigReloadListener implements Listener {
                 plugin.stopMetricsScheduler();
                 plugin.getLogger().info("[AkiAsync] Metrics scheduler stopped");
             }
+            plugin.getPrometheusExporter().start();
+            plugin.getRegressionSentinel().start();
             
-            Thread.sleep(50);
             plugin.getLogger().info("[AkiAsync] Phase 5: Validating configuration...");
             
             try {
@@ -86,9 +71,8 @@ public class ConfigReloadListener implements Listener {
             plugin.getLogger().info("  - Total time: " + reloadTime + "ms");
             plugin.getLogger().info("  - Configuration reloaded from file");
             plugin.getLogger().info("  - All caches invalidated");
-            plugin.getLogger().info("  - Thread pools smoothly restarted");
-            plugin.getLogger().info("  - Mixin states reset");
-            plugin.getLogger().info("  - MSPT impact: Minimized (controlled execution)");
+            plugin.getLogger().info("  - Thread pools resized in place (" + org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.describeLanes() + ")");
+            plugin.getLogger().info("  - Mixin states reset, batch sizes re-read on next use");
             plugin.getLogger().info("========================================");
             
         } catch (Exception e) {
@@ -0,0 +1,170 @@
+package org.virgil.akiasync.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.async.datapack.DataPackLoadOptimizer;
+import org.virgil.akiasync.async.structure.StructureCacheManager;
+import org.virgil.akiasync.config.ConfigManager;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.optimization.thread.BlockingIoExecutor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class PrometheusExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final AkiAsyncPlugin plugin;
+    private HttpServer server;
+    private ExecutorService scrapeExecutor;
+
+    public PrometheusExporter(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public synchronized void start() {
+        stop();
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isPrometheusExporterEnabled()) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "AkiAsync-Prometheus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(config.getPrometheusBindAddress(), config.getPrometheusPort()), 0);
+            httpServer.createContext(config.getPrometheusPath(), this::handle);
+            httpServer.setExecutor(executor);
+            httpServer.start();
+            server = httpServer;
+            scrapeExecutor = executor;
+            plugin.getLogger().info("[AkiAsync-Metrics] Prometheus exporter listening on http://" +
+                config.getPrometheusBindAddress() + ":" + config.getPrometheusPort() + config.getPrometheusPath());
+        } catch (IOException | IllegalArgumentException e) {
+            executor.shutdownNow();
+            plugin.getLogger().warning("[AkiAsync-Metrics] Failed to start Prometheus exporter: " + e.getMessage());
+        }
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (scrapeExecutor != null) {
+            scrapeExecutor.shutdownNow();
+            scrapeExecutor = null;
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    String scrape() {
+        StringBuilder sb = new StringBuilder(8192);
+        sb.append(AsyncMetrics.getPrometheusMetrics()).append('\n');
+        appendPools(sb);
+        appendBlockingIo(sb);
+        appendCaches(sb);
+        return sb.toString();
+    }
+
+    private void appendPools(StringBuilder sb) {
+        header(sb, "akiasync_pool_threads", "gauge", "Worker threads per scheduler lane");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_threads", lane, executor.getThreadCount()));
+        header(sb, "akiasync_pool_active", "gauge", "Workers currently running a task");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_active", lane, executor.getActiveCount()));
+        header(sb, "akiasync_pool_queue", "gauge", "Tasks waiting in the lane queue");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_queue", lane, executor.getQueueSize()));
+        header(sb, "akiasync_pool_deferred", "gauge", "Tasks parked by DEFER admission waiting for capacity");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_deferred", lane, executor.getDeferredDepth()));
+        header(sb, "akiasync_pool_completed_total", "counter", "Tasks completed by the lane");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_completed_total", lane, executor.getCompletedTaskCount()));
+        header(sb, "akiasync_pool_coalesced_total", "counter", "Duplicate tasks merged by COALESCE admission");
+        forEachLane((lane, executor) -> sample(sb, "akiasync_pool_coalesced_total", lane, executor.getCoalescedCount()));
+    }
+
+    private void appendBlockingIo(StringBuilder sb) {
+        BlockingIoExecutor io = BlockingIoExecutor.get();
+        header(sb, "akiasync_blocking_io_active", "gauge", "Blocking IO workers currently running");
+        sb.append("akiasync_blocking_io_active ").append(io.getActiveWorkers()).append('\n');
+        header(sb, "akiasync_blocking_io_pending", "gauge", "Blocking IO tasks waiting for a permit");
+        sb.append("akiasync_blocking_io_pending ").append(io.getPendingCount()).append('\n');
+    }
+
+    private void appendCaches(StringBuilder sb) {
+        StructureCacheManager structureCache = StructureCacheManager.getInstance();
+        DataPackLoadOptimizer dataPack = DataPackLoadOptimizer.getInstance();
+        if (structureCache == null && dataPack == null) {
+            return;
+        }
+        header(sb, "akiasync_cache_hit_ratio", "gauge", "Cache hit ratio between 0 and 1");
+        if (structureCache != null) {
+            StructureCacheManager.CacheStatistics stats = structureCache.getStatistics();
+            sb.append("akiasync_cache_hit_ratio{cache=\"structure\"} ").append(String.format(java.util.Locale.ROOT, "%.4f", stats.hitRate / 100.0)).append('\n');
+        }
+        if (dataPack != null) {
+            DataPackLoadOptimizer.DataPackStatistics stats = dataPack.getStatistics();
+            sb.append("akiasync_cache_hit_ratio{cache=\"datapack\"} ").append(String.format(java.util.Locale.ROOT, "%.4f", stats.cacheHitRate / 100.0)).append('\n');
+        }
+        header(sb, "akiasync_cache_entries", "gauge", "Entries currently held by the cache");
+        if (structureCache != null) {
+            StructureCacheManager.CacheStatistics stats = structureCache.getStatistics();
+            sb.append("akiasync_cache_entries{cache=\"structure\"} ").append(stats.structureCacheSize).append('\n');
+            sb.append("akiasync_cache_entries{cache=\"structure_negative\"} ").append(stats.negativeCacheSize).append('\n');
+        }
+        if (dataPack != null) {
+            sb.append("akiasync_cache_entries{cache=\"datapack\"} ").append(dataPack.getStatistics().fileCacheSize).append('\n');
+        }
+    }
+
+    private static void forEachLane(java.util.function.BiConsumer<SchedulerLane, LaneExecutor> action) {
+        if (!AkiScheduler.isInitialized()) {
+            return;
+        }
+        for (SchedulerLane lane : SchedulerLane.values()) {
+            action.accept(lane, AkiScheduler.lane(lane));
+        }
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("\n# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, SchedulerLane lane, long value) {
+        sb.append(name).append("{lane=\"").append(lane.getConfigKey()).append("\"} ").append(value).append('\n');
+    }
+}
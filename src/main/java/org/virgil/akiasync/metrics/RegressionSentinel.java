@@ -0,0 +1,247 @@
+package org.virgil.akiasync.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.virgil.akiasync.AkiAsyncPlugin;
+import org.virgil.akiasync.config.ConfigManager;
+import org.virgil.akiasync.event.PerformanceRegressionEvent;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.metrics.FallbackDiagnostics;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.LatencyHistogram;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import org.virgil.akiasync.mixin.metrics.TickTimeService;
+
+public class RegressionSentinel {
+
+    private static final String FILE_NAME = "performance-baseline.properties";
+    private static final double BASELINE_ALPHA = 0.1;
+    private static final long MIN_LATENCY_SAMPLES = 200;
+    private static final long MIN_FALLBACK_ATTEMPTS = 200;
+    private static final long MIN_HOOK_SAMPLES = 100;
+    private static final long MIN_TICKS = 1200;
+
+    private record Reading(String subsystem, String metric, double value, double floor) {
+        String key() {
+            return subsystem + "." + metric;
+        }
+    }
+
+    private final AkiAsyncPlugin plugin;
+    private final Path file;
+    private final Properties baseline = new Properties();
+    private final Set<String> degraded = new HashSet<>();
+    private final Map<MetricSubsystem, LatencyHistogram.Snapshot> lastExecution = new EnumMap<>(MetricSubsystem.class);
+    private final long[] lastFallbacks = new long[MetricSubsystem.values().length];
+    private final long[] lastHookCalls = new long[HookProfiler.Hook.values().length];
+    private final long[] lastHookNanos = new long[HookProfiler.Hook.values().length];
+    private ScheduledFuture<?> task;
+    private double degradationRatio;
+    private boolean warmedUp;
+
+    public RegressionSentinel(AkiAsyncPlugin plugin) {
+        this.plugin = plugin;
+        this.file = plugin.getDataFolder().toPath().resolve(FILE_NAME);
+    }
+
+    public synchronized void start() {
+        stop();
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isRegressionSentinelEnabled()) {
+            return;
+        }
+        degradationRatio = config.getRegressionDegradationRatio();
+        load();
+        warmedUp = false;
+        long interval = config.getRegressionCheckIntervalMinutes();
+        task = AkiScheduler.scheduleAtFixedRate(this::check, config.getRegressionWarmupMinutes(), interval, TimeUnit.MINUTES);
+        plugin.getLogger().info(String.format(Locale.ROOT, "[AkiAsync-Sentinel] Regression sentinel armed (%d baseline metrics, ratio %.2f, every %dmin)",
+            countMetrics(), degradationRatio, interval));
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+            save();
+        }
+    }
+
+    public synchronized void resetBaseline() {
+        baseline.clear();
+        degraded.clear();
+        save();
+    }
+
+    public synchronized List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Baseline: " + countMetrics() + " metrics" + (baseline.getProperty("meta.plugin-version") != null
+            ? " (recorded on " + baseline.getProperty("meta.plugin-version") + " / " + baseline.getProperty("meta.server-version") + ")" : ""));
+        for (String key : new java.util.TreeSet<>(baseline.stringPropertyNames())) {
+            if (!key.startsWith("meta.")) {
+                lines.add("  " + key + " = " + baseline.getProperty(key) + (degraded.contains(key) ? " [DEGRADED]" : ""));
+            }
+        }
+        return lines;
+    }
+
+    private synchronized void check() {
+        if (!warmedUp) {
+            captureWindowStart();
+            warmedUp = true;
+            return;
+        }
+        try {
+            List<Reading> readings = collect();
+            for (Reading reading : readings) {
+                String key = reading.key();
+                String stored = baseline.getProperty(key);
+                if (stored == null) {
+                    baseline.setProperty(key, format(reading.value()));
+                    continue;
+                }
+                double base = Double.parseDouble(stored);
+                double ratio = Math.max(reading.value(), reading.floor()) / Math.max(base, reading.floor());
+                if (ratio > degradationRatio) {
+                    if (degraded.add(key)) {
+                        plugin.getLogger().warning(String.format(Locale.ROOT,
+                            "[AkiAsync-Sentinel] REGRESSION subsystem=%s metric=%s baseline=%s live=%s ratio=%.2f threshold=%.2f",
+                            reading.subsystem(), reading.metric(), format(base), format(reading.value()), ratio, degradationRatio));
+                        Bukkit.getPluginManager().callEvent(new PerformanceRegressionEvent(
+                            reading.subsystem(), reading.metric(), base, reading.value(), degradationRatio));
+                    }
+                    continue;
+                }
+                if (degraded.remove(key)) {
+                    plugin.getLogger().info(String.format(Locale.ROOT,
+                        "[AkiAsync-Sentinel] RECOVERED subsystem=%s metric=%s baseline=%s live=%s",
+                        reading.subsystem(), reading.metric(), format(base), format(reading.value())));
+                }
+                baseline.setProperty(key, format(base + BASELINE_ALPHA * (reading.value() - base)));
+            }
+            save();
+        } catch (Exception e) {
+            plugin.getLogger().warning("[AkiAsync-Sentinel] Check failed: " + e.getMessage());
+        }
+    }
+
+    private List<Reading> collect() {
+        List<Reading> readings = new ArrayList<>();
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            LatencyHistogram.Snapshot current = AsyncMetrics.getExecutionSnapshot(subsystem);
+            LatencyHistogram.Snapshot window = current.minus(lastExecution.get(subsystem));
+            lastExecution.put(subsystem, current);
+            long fallbacks = FallbackDiagnostics.getTotal(subsystem);
+            long fallbackDelta = Math.max(0, fallbacks - lastFallbacks[subsystem.ordinal()]);
+            lastFallbacks[subsystem.ordinal()] = fallbacks;
+            if (window.getCount() >= MIN_LATENCY_SAMPLES) {
+                readings.add(new Reading(subsystem.getMetricName(), "p99-ms", window.percentile(99) / 1_000_000.0, 0.05));
+            }
+            long attempts = window.getCount() + fallbackDelta;
+            if (attempts >= MIN_FALLBACK_ATTEMPTS) {
+                readings.add(new Reading(subsystem.getMetricName(), "fallback-rate", (double) fallbackDelta / attempts, 0.01));
+            }
+        }
+        for (HookProfiler.Hook hook : HookProfiler.Hook.values()) {
+            int i = hook.ordinal();
+            long calls = HookProfiler.getSampledCalls(hook);
+            long nanos = HookProfiler.getSampledNanos(hook);
+            long callDelta = calls - lastHookCalls[i];
+            long nanoDelta = nanos - lastHookNanos[i];
+            lastHookCalls[i] = calls;
+            lastHookNanos[i] = nanos;
+            if (callDelta >= MIN_HOOK_SAMPLES && nanoDelta >= 0) {
+                readings.add(new Reading("hook", hook.name().toLowerCase(Locale.ROOT) + ".avg-us", nanoDelta / 1000.0 / callDelta, 1.0));
+            }
+        }
+        TickTimeService.Snapshot tick = TickTimeService.getSnapshot();
+        if (tick.ticks() >= MIN_TICKS) {
+            readings.add(new Reading("server", "mspt-p99", tick.p99Mspt(), 5.0));
+        }
+        return readings;
+    }
+
+    private void captureWindowStart() {
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            lastExecution.put(subsystem, AsyncMetrics.getExecutionSnapshot(subsystem));
+            lastFallbacks[subsystem.ordinal()] = FallbackDiagnostics.getTotal(subsystem);
+        }
+        for (HookProfiler.Hook hook : HookProfiler.Hook.values()) {
+            lastHookCalls[hook.ordinal()] = HookProfiler.getSampledCalls(hook);
+            lastHookNanos[hook.ordinal()] = HookProfiler.getSampledNanos(hook);
+        }
+    }
+
+    private void load() {
+        baseline.clear();
+        degraded.clear();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            baseline.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().warning("[AkiAsync-Sentinel] Failed to read " + FILE_NAME + ", starting a new baseline: " + e.getMessage());
+            baseline.clear();
+            return;
+        }
+        String recordedPlugin = baseline.getProperty("meta.plugin-version");
+        String recordedServer = baseline.getProperty("meta.server-version");
+        if (recordedPlugin != null && (!recordedPlugin.equals(pluginVersion()) || !String.valueOf(recordedServer).equals(Bukkit.getVersion()))) {
+            plugin.getLogger().info("[AkiAsync-Sentinel] Baseline was recorded on AkiAsync " + recordedPlugin + " / " + recordedServer
+                + "; comparing against " + pluginVersion() + " / " + Bukkit.getVersion());
+        }
+    }
+
+    private void save() {
+        baseline.setProperty("meta.plugin-version", pluginVersion());
+        baseline.setProperty("meta.server-version", Bukkit.getVersion());
+        baseline.setProperty("meta.updated", String.valueOf(System.currentTimeMillis()));
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                baseline.store(out, "AkiAsync rolling performance baseline");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("[AkiAsync-Sentinel] Failed to write " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    private int countMetrics() {
+        int count = 0;
+        for (String key : baseline.stringPropertyNames()) {
+            if (!key.startsWith("meta.")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("deprecation")
+    private String pluginVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
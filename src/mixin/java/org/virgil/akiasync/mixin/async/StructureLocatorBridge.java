@@ -15,13 +15,14 @@ import net.minecraft.world.level.saveddata.maps.MapDecorationType;
 import net.minecraft.world.level.storage.loot.LootContext;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+
 public class StructureLocatorBridge {
     
-    private static ExecutorService executorService;
     private static final AtomicInteger ACTIVE_TASKS = new AtomicInteger(0);
     private static boolean initialized = false;
     
@@ -29,23 +30,20 @@ public class StructureLocatorBridge {
         org.virgil.akiasync.mixin.bridge.Bridge bridge = 
             org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (bridge != null && bridge.isStructureLocationAsyncEnabled()) {
-            int threads = bridge.getStructureLocationThreads();
-            executorService = Executors.newFixedThreadPool(threads, r -> {
-                Thread t = new Thread(r, "AkiAsync-StructureLocator-" + System.currentTimeMillis());
-                t.setDaemon(true);
-                return t;
-            });
             initialized = true;
             
             if (bridge.isStructureLocationDebugEnabled()) {
-                bridge.debugLog("[AkiAsync] StructureLocatorBridge initialized with " + threads + " threads");
+                bridge.debugLog("[AkiAsync] StructureLocatorBridge initialized on background lane (" + getExecutor().getThreadCount() + " threads)");
             }
         }
     }
     
+    public static LaneExecutor getExecutor() {
+        return AkiScheduler.lane(SchedulerLane.BACKGROUND);
+    }
+    
     public static void shutdown() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
+        if (initialized) {
             System.out.println("[AkiAsync] StructureLocatorBridge shutdown. Active tasks: " + ACTIVE_TASKS.get());
         }
         initialized = false;
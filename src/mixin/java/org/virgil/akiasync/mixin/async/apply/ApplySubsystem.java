@@ -0,0 +1,25 @@
+package org.virgil.akiasync.mixin.async.apply;
+
+public enum ApplySubsystem {
+    CHUNK_TICK("chunk-tick", 0),
+    TNT("tnt", 1),
+    AI("ai", 2),
+    STRUCTURE("structure", 3),
+    WORK_STEALING("work-stealing", 4);
+
+    private final String configKey;
+    private final int defaultPriority;
+
+    ApplySubsystem(String configKey, int defaultPriority) {
+        this.configKey = configKey;
+        this.defaultPriority = defaultPriority;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+}
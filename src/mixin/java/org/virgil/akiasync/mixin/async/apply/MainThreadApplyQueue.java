@@ -0,0 +1,246 @@
+package org.virgil.akiasync.mixin.async.apply;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+import org.virgil.akiasync.mixin.metrics.jfr.DiffApplyEvent;
+
+public final class MainThreadApplyQueue {
+
+    private static final Lane[] LANES = new Lane[ApplySubsystem.values().length];
+    private static volatile Lane[] drainOrder;
+    private static volatile long budgetNanos = 5_000_000L;
+    private static final AtomicLong drainCount = new AtomicLong(0);
+    private static final AtomicLong carryOverTicks = new AtomicLong(0);
+    private static volatile long lastDrainNanos = 0;
+    private static volatile long lastMaxLagNanos = 0;
+    private static volatile long peakLagNanos = 0;
+    private static volatile int peakDepth = 0;
+    private static volatile Consumer<Runnable> dispatcher;
+
+    static {
+        for (ApplySubsystem subsystem : ApplySubsystem.values()) {
+            LANES[subsystem.ordinal()] = new Lane(subsystem, subsystem.getDefaultPriority());
+        }
+        drainOrder = sortedLanes();
+    }
+
+    private MainThreadApplyQueue() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void configure(double budgetMillis, Map<ApplySubsystem, Integer> priorities) {
+        budgetNanos = Math.max(100_000L, (long) (budgetMillis * 1_000_000L));
+        for (Lane lane : LANES) {
+            Integer priority = priorities != null ? priorities.get(lane.subsystem) : null;
+            lane.priority = priority != null ? priority : lane.subsystem.getDefaultPriority();
+        }
+        drainOrder = sortedLanes();
+
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null) {
+            bridge.debugLog("[AkiAsync-Apply] Budget " + getBudgetMillis() + "ms/tick, order " + describeOrder());
+        }
+    }
+
+    // Folia never runs MinecraftServer.tickChildren, so drain() would not be reached; hand tasks to its scheduler instead
+    public static void setDispatcher(Consumer<Runnable> target) {
+        dispatcher = target;
+    }
+
+    private static Lane[] sortedLanes() {
+        Lane[] order = LANES.clone();
+        Arrays.sort(order, Comparator.comparingInt((Lane lane) -> lane.priority).thenComparingInt(lane -> lane.subsystem.ordinal()));
+        return order;
+    }
+
+    public static void submit(ApplySubsystem subsystem, Runnable task) {
+        Lane lane = LANES[subsystem.ordinal()];
+        lane.submitted.incrementAndGet();
+        Entry entry = new Entry(task, System.nanoTime());
+        lane.depth.incrementAndGet();
+        Consumer<Runnable> target = dispatcher;
+        if (target != null) {
+            target.accept(() -> run(lane, entry));
+            return;
+        }
+        lane.queue.offer(entry);
+        int depth = getTotalDepth();
+        if (depth > peakDepth) {
+            peakDepth = depth;
+        }
+    }
+
+    public static void drain() {
+        if (getTotalDepth() == 0) {
+            lastDrainNanos = 0;
+            lastMaxLagNanos = 0;
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        long maxLag = 0;
+        boolean exhausted = false;
+        Lane[] order = drainOrder;
+        int[] ran = new int[LANES.length];
+
+        for (Lane lane : order) {
+            Entry entry;
+            while (!exhausted && (entry = lane.queue.poll()) != null) {
+                maxLag = Math.max(maxLag, run(lane, entry));
+                ran[lane.subsystem.ordinal()]++;
+                exhausted = System.nanoTime() >= deadline;
+            }
+            if (exhausted) {
+                break;
+            }
+        }
+
+        if (exhausted) {
+            for (Lane lane : order) {
+                if (ran[lane.subsystem.ordinal()] > 0) {
+                    continue;
+                }
+                Entry entry = lane.queue.poll();
+                if (entry != null) {
+                    maxLag = Math.max(maxLag, run(lane, entry));
+                }
+            }
+            if (getTotalDepth() > 0) {
+                carryOverTicks.incrementAndGet();
+            }
+        }
+
+        drainCount.incrementAndGet();
+        lastDrainNanos = System.nanoTime() - start;
+        lastMaxLagNanos = maxLag;
+        if (maxLag > peakLagNanos) {
+            peakLagNanos = maxLag;
+        }
+    }
+
+    private static long run(Lane lane, Entry entry) {
+        lane.depth.decrementAndGet();
+        long lag = System.nanoTime() - entry.enqueuedNanos;
+        TickTimeline.record(TickTimeline.EventType.APPLY_START, lane.subsystem.getConfigKey(), 0L);
+        DiffApplyEvent event = AkiJfr.applyStarted(lane.subsystem.getConfigKey(), lag);
+        boolean success = false;
+        try {
+            entry.task.run();
+            lane.applied.incrementAndGet();
+            success = true;
+        } catch (Throwable t) {
+            lane.failed.incrementAndGet();
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.errorLog("[AkiAsync-Apply] " + lane.subsystem.getConfigKey() + " task failed: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+            }
+        } finally {
+            AkiJfr.applyFinished(event, success);
+            TickTimeline.record(TickTimeline.EventType.APPLY_END, lane.subsystem.getConfigKey(), 0L);
+        }
+        return lag;
+    }
+
+    public static int getDepth(ApplySubsystem subsystem) {
+        return LANES[subsystem.ordinal()].depth.get();
+    }
+
+    public static int getTotalDepth() {
+        int total = 0;
+        for (Lane lane : LANES) {
+            total += lane.depth.get();
+        }
+        return total;
+    }
+
+    public static double getBudgetMillis() {
+        return budgetNanos / 1_000_000.0;
+    }
+
+    public static double getLastDrainMillis() {
+        return lastDrainNanos / 1_000_000.0;
+    }
+
+    public static double getLastLagMillis() {
+        return lastMaxLagNanos / 1_000_000.0;
+    }
+
+    public static double getPeakLagMillis() {
+        return peakLagNanos / 1_000_000.0;
+    }
+
+    public static long getCarryOverTicks() {
+        return carryOverTicks.get();
+    }
+
+    public static String describeOrder() {
+        StringBuilder sb = new StringBuilder();
+        for (Lane lane : drainOrder) {
+            if (sb.length() > 0) {
+                sb.append(" > ");
+            }
+            sb.append(lane.subsystem.getConfigKey());
+        }
+        return sb.toString();
+    }
+
+    public static String getStatistics() {
+        StringBuilder sb = new StringBuilder(String.format(
+            "Apply[budget=%.2fms | depth=%d (peak %d) | last=%.2fms | lag=%.2fms (peak %.2fms) | carry-over=%d/%d ticks]",
+            getBudgetMillis(), getTotalDepth(), peakDepth, getLastDrainMillis(),
+            getLastLagMillis(), getPeakLagMillis(), carryOverTicks.get(), drainCount.get()
+        ));
+        for (Lane lane : drainOrder) {
+            sb.append('\n').append(String.format(
+                "  %s(p%d): Depth: %d | Submitted: %d | Applied: %d | Failed: %d",
+                lane.subsystem.getConfigKey(), lane.priority, lane.depth.get(),
+                lane.submitted.get(), lane.applied.get(), lane.failed.get()
+            ));
+        }
+        return sb.toString();
+    }
+
+    public static void resetStatistics() {
+        for (Lane lane : LANES) {
+            lane.submitted.set(0);
+            lane.applied.set(0);
+            lane.failed.set(0);
+        }
+        drainCount.set(0);
+        carryOverTicks.set(0);
+        peakLagNanos = 0;
+        peakDepth = getTotalDepth();
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final long enqueuedNanos;
+
+        private Entry(Runnable task, long enqueuedNanos) {
+            this.task = task;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    private static final class Lane {
+        private final ApplySubsystem subsystem;
+        private volatile int priority;
+        private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger(0);
+        private final AtomicLong submitted = new AtomicLong(0);
+        private final AtomicLong applied = new AtomicLong(0);
+        private final AtomicLong failed = new AtomicLong(0);
+
+        private Lane(ApplySubsystem subsystem, int priority) {
+            this.subsystem = subsystem;
+            this.priority = priority;
+        }
+    }
+}
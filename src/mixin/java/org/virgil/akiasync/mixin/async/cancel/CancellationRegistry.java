@@ -0,0 +1,115 @@
+package org.virgil.akiasync.mixin.async.cancel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+
+public final class CancellationRegistry {
+
+    private static final Map<Integer, CancellationToken> ENTITY_TOKENS = new ConcurrentHashMap<>();
+    private static final Map<Object, Map<Long, CancellationToken>> CHUNK_TOKENS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> skippedBySubsystem = new ConcurrentHashMap<>();
+    private static final AtomicLong issuedCount = new AtomicLong(0);
+    private static final AtomicLong trippedCount = new AtomicLong(0);
+    private static final AtomicLong skippedCount = new AtomicLong(0);
+
+    private CancellationRegistry() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static CancellationToken forEntity(Entity entity) {
+        if (entity == null || entity.isRemoved()) {
+            return CancellationToken.NONE;
+        }
+        CancellationToken token = ENTITY_TOKENS.computeIfAbsent(entity.getId(), id -> {
+            issuedCount.incrementAndGet();
+            return new CancellationToken();
+        });
+        if (entity.isRemoved()) {
+            cancelEntity(entity.getId());
+        }
+        return token;
+    }
+
+    public static CancellationToken forChunk(ServerLevel level, int chunkX, int chunkZ) {
+        return CHUNK_TOKENS.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), pos -> {
+                issuedCount.incrementAndGet();
+                return new CancellationToken();
+            });
+    }
+
+    public static void cancelEntity(int entityId) {
+        CancellationToken token = ENTITY_TOKENS.remove(entityId);
+        if (token != null && token.cancel()) {
+            trippedCount.incrementAndGet();
+        }
+    }
+
+    public static void cancelChunk(ServerLevel level, int chunkX, int chunkZ) {
+        Map<Long, CancellationToken> tokens = CHUNK_TOKENS.get(level.dimension());
+        if (tokens == null) {
+            return;
+        }
+        CancellationToken token = tokens.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (token != null && token.cancel()) {
+            trippedCount.incrementAndGet();
+        }
+    }
+
+    public static boolean skipIfCancelled(CancellationToken token, String subsystem) {
+        if (!token.isCancelled()) {
+            return false;
+        }
+        skippedCount.incrementAndGet();
+        skippedBySubsystem.computeIfAbsent(subsystem, k -> new AtomicLong()).incrementAndGet();
+        return true;
+    }
+
+    public static long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    public static String getStatistics() {
+        int chunkTokens = 0;
+        for (Map<Long, CancellationToken> tokens : CHUNK_TOKENS.values()) {
+            chunkTokens += tokens.size();
+        }
+        StringBuilder skipped = new StringBuilder();
+        for (Map.Entry<String, AtomicLong> entry : skippedBySubsystem.entrySet()) {
+            if (skipped.length() > 0) {
+                skipped.append(", ");
+            }
+            skipped.append(entry.getKey()).append('=').append(entry.getValue().get());
+        }
+        return String.format(
+            "Cancellation[Live: %d entity / %d chunk | Issued: %d | Tripped: %d | Skipped: %d%s]",
+            ENTITY_TOKENS.size(), chunkTokens, issuedCount.get(), trippedCount.get(), skippedCount.get(),
+            skipped.length() > 0 ? " (" + skipped + ")" : ""
+        );
+    }
+
+    public static void resetStatistics() {
+        issuedCount.set(0);
+        trippedCount.set(0);
+        skippedCount.set(0);
+        skippedBySubsystem.clear();
+    }
+
+    public static void clear() {
+        for (CancellationToken token : ENTITY_TOKENS.values()) {
+            token.cancel();
+        }
+        ENTITY_TOKENS.clear();
+        for (Map<Long, CancellationToken> tokens : CHUNK_TOKENS.values()) {
+            for (CancellationToken token : tokens.values()) {
+                token.cancel();
+            }
+        }
+        CHUNK_TOKENS.clear();
+    }
+}
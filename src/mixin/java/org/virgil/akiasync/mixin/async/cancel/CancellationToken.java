@@ -0,0 +1,23 @@
+package org.virgil.akiasync.mixin.async.cancel;
+
+public final class CancellationToken {
+
+    public static final CancellationToken NONE = new CancellationToken();
+
+    private volatile boolean cancelled;
+
+    CancellationToken() {
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    boolean cancel() {
+        if (this == NONE || cancelled) {
+            return false;
+        }
+        cancelled = true;
+        return true;
+    }
+}
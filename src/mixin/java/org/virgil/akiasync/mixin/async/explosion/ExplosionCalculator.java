@@ -7,6 +7,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.virgil.akiasync.mixin.async.cancel.CancellationToken;
 import org.virgil.akiasync.mixin.optimization.OptimizationManager;
 import org.virgil.akiasync.mixin.optimization.scheduler.WorkStealingTaskScheduler;
 
@@ -17,15 +18,23 @@ import net.minecraft.world.phys.Vec3;
 
 public class ExplosionCalculator {
     private static final int RAYCAST_SAMPLES = 16;
+    private static final int RAYS_PER_CHUNK = 256;
+    private static final int PARALLEL_ENTITY_THRESHOLD = 4;
     private final ExplosionSnapshot snapshot;
     private final ConcurrentLinkedQueue<BlockPos> toDestroy = new ConcurrentLinkedQueue<>();
     private final ConcurrentHashMap<BlockPos, Boolean> destroyedBlocks = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Vec3> toHurt = new ConcurrentHashMap<>();
     private final boolean useFullRaycast;
     private final WorkStealingTaskScheduler scheduler;
+    private final CancellationToken token;
 
     public ExplosionCalculator(ExplosionSnapshot snapshot) {
+        this(snapshot, CancellationToken.NONE);
+    }
+
+    public ExplosionCalculator(ExplosionSnapshot snapshot, CancellationToken token) {
         this.snapshot = snapshot;
+        this.token = token;
         org.virgil.akiasync.mixin.bridge.Bridge bridge = 
             org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         this.useFullRaycast = bridge != null && 
@@ -37,120 +46,143 @@ public class ExplosionCalculator {
 
     public ExplosionResult calculate() {
         calculateAffectedBlocks();
+        if (token.isCancelled()) {
+            return null;
+        }
         calculateEntityDamage();
         return new ExplosionResult(new ArrayList<>(toDestroy), new HashMap<>(toHurt), snapshot.isFire());
     }
 
-    private void calculateAffectedBlocks() {
+    void calculateAffectedBlocks() {
+        int totalRays = RAYCAST_SAMPLES * RAYCAST_SAMPLES * RAYCAST_SAMPLES;
+        if (scheduler != null) {
+            scheduler.parallelFor(0, totalRays, RAYS_PER_CHUNK, (from, to) -> castRays(from, to, true));
+        } else {
+            castRays(0, totalRays, false);
+        }
+    }
+
+    private void castRays(int fromRay, int toRay, boolean parallel) {
         Vec3 center = snapshot.getCenter();
         float power = snapshot.getPower();
-        for (int rayX = 0; rayX < RAYCAST_SAMPLES; rayX++) {
-            for (int rayY = 0; rayY < RAYCAST_SAMPLES; rayY++) {
-                for (int rayZ = 0; rayZ < RAYCAST_SAMPLES; rayZ++) {
-                    if (!useFullRaycast && 
-                        rayX != 0 && rayX != RAYCAST_SAMPLES - 1 &&
-                        rayY != 0 && rayY != RAYCAST_SAMPLES - 1 &&
-                        rayZ != 0 && rayZ != RAYCAST_SAMPLES - 1) {
-                        continue;
-                    }
-                    double dirX = (double) rayX / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
-                    double dirY = (double) rayY / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
-                    double dirZ = (double) rayZ / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
-                    double length = Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
-                    dirX /= length;
-                    dirY /= length;
-                    dirZ /= length;
-                    float rayPower = power * (0.7f + snapshot.getLevel().getRandom().nextFloat() * 0.6f);
-                    double x = center.x;
-                    double y = center.y;
-                    double z = center.z;
-                    while (rayPower > 0.0f) {
-                        BlockPos pos = new BlockPos((int)x, (int)y, (int)z);
-                        BlockState state = snapshot.getBlockState(pos);
-                        if (!state.isAir()) {
-                            float resistance = Math.max(0.0f, state.getBlock().getExplosionResistance());
-                            rayPower -= (resistance + 0.3f) * 0.3f;
-                            if (rayPower > 0.0f && !destroyedBlocks.containsKey(pos)) {
-                                if (!state.getFluidState().isEmpty()) {
-                                    continue;
-                                }
-                                if (state.canBeReplaced() && (state.isAir() || 
-                                    state.is(net.minecraft.world.level.block.Blocks.WATER) ||
-                                    state.is(net.minecraft.world.level.block.Blocks.LAVA) ||
-                                    state.is(net.minecraft.world.level.block.Blocks.FIRE) ||
-                                    state.is(net.minecraft.world.level.block.Blocks.SOUL_FIRE))) {
-                                    
-                                    org.virgil.akiasync.mixin.bridge.Bridge bridge = 
-                                        org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                                        bridge.debugLog("[AkiAsync-TNT] Skipping replaceable block at " + pos + ": " + 
-                                            state.getBlock().getDescriptionId() + " (canBeReplaced: " + state.canBeReplaced() + ")");
-                                    }
-                                    continue;
-                                }
-                                if (destroyedBlocks.putIfAbsent(pos, true) == null) {
-                                    toDestroy.add(pos);
-                                    
-                                    org.virgil.akiasync.mixin.bridge.Bridge bridge = 
-                                        org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                                    if (bridge != null && bridge.isTNTDebugEnabled()) {
-                                        bridge.debugLog("[AkiAsync-TNT] Adding block to destroy at " + pos + ": " + 
-                                            state.getBlock().getDescriptionId() + " (resistance: " + resistance + 
-                                            ", rayPower: " + rayPower + ", canBeReplaced: " + state.canBeReplaced() + ")");
-                                    }
-                                }
+        for (int ray = fromRay; ray < toRay; ray++) {
+            if (token.isCancelled()) {
+                return;
+            }
+            int rayX = ray / (RAYCAST_SAMPLES * RAYCAST_SAMPLES);
+            int rayY = (ray / RAYCAST_SAMPLES) % RAYCAST_SAMPLES;
+            int rayZ = ray % RAYCAST_SAMPLES;
+            if (!useFullRaycast && 
+                rayX != 0 && rayX != RAYCAST_SAMPLES - 1 &&
+                rayY != 0 && rayY != RAYCAST_SAMPLES - 1 &&
+                rayZ != 0 && rayZ != RAYCAST_SAMPLES - 1) {
+                continue;
+            }
+            double dirX = (double) rayX / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
+            double dirY = (double) rayY / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
+            double dirZ = (double) rayZ / (RAYCAST_SAMPLES - 1) * 2.0 - 1.0;
+            double length = Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+            dirX /= length;
+            dirY /= length;
+            dirZ /= length;
+            float jitter = parallel ? java.util.concurrent.ThreadLocalRandom.current().nextFloat() : snapshot.getRandom().nextFloat();
+            float rayPower = power * (0.7f + jitter * 0.6f);
+            double x = center.x;
+            double y = center.y;
+            double z = center.z;
+            while (rayPower > 0.0f) {
+                BlockPos pos = new BlockPos((int)x, (int)y, (int)z);
+                BlockState state = snapshot.getBlockState(pos);
+                if (!state.isAir()) {
+                    float resistance = Math.max(0.0f, state.getBlock().getExplosionResistance());
+                    rayPower -= (resistance + 0.3f) * 0.3f;
+                    if (rayPower > 0.0f && !destroyedBlocks.containsKey(pos)) {
+                        if (!state.getFluidState().isEmpty()) {
+                            continue;
+                        }
+                        if (state.canBeReplaced() && (state.isAir() || 
+                            state.is(net.minecraft.world.level.block.Blocks.WATER) ||
+                            state.is(net.minecraft.world.level.block.Blocks.LAVA) ||
+                            state.is(net.minecraft.world.level.block.Blocks.FIRE) ||
+                            state.is(net.minecraft.world.level.block.Blocks.SOUL_FIRE))) {
+                            
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge = 
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                                bridge.debugLog("[AkiAsync-TNT] Skipping replaceable block at " + pos + ": " + 
+                                    state.getBlock().getDescriptionId() + " (canBeReplaced: " + state.canBeReplaced() + ")");
+                            }
+                            continue;
+                        }
+                        if (destroyedBlocks.putIfAbsent(pos, true) == null) {
+                            toDestroy.add(pos);
+                            
+                            org.virgil.akiasync.mixin.bridge.Bridge bridge = 
+                                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                            if (bridge != null && bridge.isTNTDebugEnabled()) {
+                                bridge.debugLog("[AkiAsync-TNT] Adding block to destroy at " + pos + ": " + 
+                                    state.getBlock().getDescriptionId() + " (resistance: " + resistance + 
+                                    ", rayPower: " + rayPower + ", canBeReplaced: " + state.canBeReplaced() + ")");
                             }
                         }
-                        x += dirX * 0.3;
-                        y += dirY * 0.3;
-                        z += dirZ * 0.3;
-                        rayPower -= 0.22500001f;
                     }
                 }
+                x += dirX * 0.3;
+                y += dirY * 0.3;
+                z += dirZ * 0.3;
+                rayPower -= 0.22500001f;
             }
         }
     }
-    private void calculateEntityDamage() {
+    void calculateEntityDamage() {
+        List<ExplosionSnapshot.EntitySnapshot> entities = snapshot.getEntities();
+        if (scheduler != null && entities.size() >= PARALLEL_ENTITY_THRESHOLD) {
+            scheduler.parallelFor(0, entities.size(), 1, i -> calculateEntityDamage(entities.get(i)));
+        } else {
+            for (ExplosionSnapshot.EntitySnapshot entity : entities) {
+                calculateEntityDamage(entity);
+            }
+        }
+    }
+    private void calculateEntityDamage(ExplosionSnapshot.EntitySnapshot entity) {
         Vec3 center = snapshot.getCenter();
         double radius = 8.0;
-        for (ExplosionSnapshot.EntitySnapshot entity : snapshot.getEntities()) {
-            double dx = entity.getPosition().x - center.x;
-            double dy = entity.getPosition().y - center.y;
-            double dz = entity.getPosition().z - center.z;
-            double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
-            if (dist >= radius) continue;
-            
-            double exposure = calculateExposure(center, entity);
-            if (exposure <= 0) continue;
-            
-            double impact = (1.0 - dist / radius) * exposure;
-            
-            org.virgil.akiasync.mixin.bridge.Bridge bridge = 
-                org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-            if (bridge != null && bridge.isTNTDebugEnabled()) {
-                bridge.debugLog("[AkiAsync-TNT] Entity damage calculation: " + 
-                    entity.getUuid() + " dist=" + String.format("%.2f", dist) + 
-                    " exposure=" + String.format("%.3f", exposure) + 
-                    " impact=" + String.format("%.3f", impact));
-            }
-            
-            if (impact <= 0.0) continue;
-            
-            double knockbackX = dx / dist * impact;
-            double knockbackY = Math.max(dy / dist * impact, impact * 0.3);
-            double knockbackZ = dz / dist * impact;
-            
-            double maxKnockback = 2.0;
-            double knockbackLength = Math.sqrt(knockbackX * knockbackX + knockbackY * knockbackY + knockbackZ * knockbackZ);
-            if (knockbackLength > maxKnockback) {
-                double scale = maxKnockback / knockbackLength;
-                knockbackX *= scale;
-                knockbackY *= scale;
-                knockbackZ *= scale;
-            }
-            
-            toHurt.put(entity.getUuid(), new Vec3(knockbackX, knockbackY, knockbackZ));
+        double dx = entity.getPosition().x - center.x;
+        double dy = entity.getPosition().y - center.y;
+        double dz = entity.getPosition().z - center.z;
+        double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (dist >= radius) return;
+        
+        double exposure = calculateExposure(center, entity);
+        if (exposure <= 0) return;
+        
+        double impact = (1.0 - dist / radius) * exposure;
+        
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = 
+            org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null && bridge.isTNTDebugEnabled()) {
+            bridge.debugLog("[AkiAsync-TNT] Entity damage calculation: " + 
+                entity.getUuid() + " dist=" + String.format("%.2f", dist) + 
+                " exposure=" + String.format("%.3f", exposure) + 
+                " impact=" + String.format("%.3f", impact));
+        }
+        
+        if (impact <= 0.0) return;
+        
+        double knockbackX = dx / dist * impact;
+        double knockbackY = Math.max(dy / dist * impact, impact * 0.3);
+        double knockbackZ = dz / dist * impact;
+        
+        double maxKnockback = 2.0;
+        double knockbackLength = Math.sqrt(knockbackX * knockbackX + knockbackY * knockbackY + knockbackZ * knockbackZ);
+        if (knockbackLength > maxKnockback) {
+            double scale = maxKnockback / knockbackLength;
+            knockbackX *= scale;
+            knockbackY *= scale;
+            knockbackZ *= scale;
         }
+        
+        toHurt.put(entity.getUuid(), new Vec3(knockbackX, knockbackY, knockbackZ));
     }
     private double calculateExposure(Vec3 explosionCenter, ExplosionSnapshot.EntitySnapshot entity) {
         net.minecraft.world.phys.AABB aabb = entity.getBoundingBox();
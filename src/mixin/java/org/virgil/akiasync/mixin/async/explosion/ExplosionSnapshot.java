@@ -6,6 +6,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 public class ExplosionSnapshot {
@@ -15,8 +17,14 @@ public class ExplosionSnapshot {
     private final float power;
     private final boolean fire;
     private final ServerLevel level;
+    private final RandomSource random;
     public ExplosionSnapshot(ServerLevel level, Vec3 center, float power, boolean fire) {
+        this(level, level, level.getRandom(), center, power, fire, captureEntities(level, center));
+    }
+    public ExplosionSnapshot(ServerLevel level, BlockGetter blockSource, RandomSource random, Vec3 center, float power,
+                             boolean fire, List<EntitySnapshot> entities) {
         this.level = level;
+        this.random = random;
         this.center = center;
         this.power = power;
         this.fire = fire;
@@ -27,18 +35,21 @@ public class ExplosionSnapshot {
         int maxX = (int) Math.ceil(center.x + power + 1);
         int maxY = (int) Math.ceil(center.y + power + 1);
         int maxZ = (int) Math.ceil(center.z + power + 1);
-        minY = Math.max(level.getMinY(), minY);
-        maxY = Math.min(level.getMaxY(), maxY);
+        minY = Math.max(blockSource.getMinY(), minY);
+        maxY = Math.min(blockSource.getMaxY(), maxY);
         for (int x = minX; x <= maxX; x++) {
             for (int y = minY; y <= maxY; y++) {
                 for (int z = minZ; z <= maxZ; z++) {
                     BlockPos pos = new BlockPos(x, y, z);
-                    blocks.put(pos, level.getBlockState(pos));
+                    blocks.put(pos, blockSource.getBlockState(pos));
                 }
             }
         }
+        this.entities = entities;
+    }
+    private static List<EntitySnapshot> captureEntities(ServerLevel level, Vec3 center) {
         double radius = 8.0;
-        this.entities = level.getEntities(null, 
+        return level.getEntities(null, 
             new net.minecraft.world.phys.AABB(
                 center.x - radius, center.y - radius, center.z - radius,
                 center.x + radius, center.y + radius, center.z + radius
@@ -65,6 +76,9 @@ public class ExplosionSnapshot {
     public ServerLevel getLevel() {
         return level;
     }
+    public RandomSource getRandom() {
+        return random;
+    }
     public static class EntitySnapshot {
         private final java.util.UUID uuid;
         private final Vec3 position;
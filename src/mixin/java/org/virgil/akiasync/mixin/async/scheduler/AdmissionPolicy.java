@@ -0,0 +1,28 @@
+package org.virgil.akiasync.mixin.async.scheduler;
+
+public enum AdmissionPolicy {
+    DROP("drop"),
+    COALESCE("coalesce"),
+    DEFER("defer");
+
+    private final String configKey;
+
+    AdmissionPolicy(String configKey) {
+        this.configKey = configKey;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public static AdmissionPolicy fromConfig(String value, AdmissionPolicy fallback) {
+        if (value != null) {
+            for (AdmissionPolicy policy : values()) {
+                if (policy.configKey.equalsIgnoreCase(value.trim())) {
+                    return policy;
+                }
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,270 @@
+package org.virgil.akiasync.mixin.async.scheduler;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public final class AkiScheduler {
+
+    private static volatile Map<SchedulerLane, LaneExecutor> lanes = Collections.emptyMap();
+    private static volatile boolean initialized = false;
+    private static volatile int coreBudget;
+    private static volatile Map<SchedulerLane, AdmissionPolicy> admissionPolicies;
+    private static volatile ScheduledExecutorService timer;
+
+    private AkiScheduler() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static int getDefaultCoreBudget() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    public static synchronized void configure(int requestedBudget, Map<SchedulerLane, Integer> weights, int tickCriticalQueueSize) {
+        int budget = requestedBudget > 0 ? requestedBudget : getDefaultCoreBudget();
+        int[] threads = allocate(budget, weights);
+        Map<SchedulerLane, LaneExecutor> next = new EnumMap<>(SchedulerLane.class);
+        next.putAll(lanes);
+
+        for (SchedulerLane lane : SchedulerLane.values()) {
+            LaneExecutor executor = next.get(lane);
+            int laneThreads = threads[lane.ordinal()];
+            if (executor == null || executor.isShutdown()) {
+                int queueCapacity = lane == SchedulerLane.TICK_CRITICAL ? tickCriticalQueueSize : lane.getDefaultQueueCapacity();
+                executor = new LaneExecutor(lane, laneThreads, queueCapacity);
+                executor.setAdmissionPolicy(admissionPolicies != null ? admissionPolicies.get(lane) : null);
+                next.put(lane, executor);
+            } else {
+                if (executor.getThreadCount() != laneThreads) {
+                    executor.resize(laneThreads);
+                }
+                if (lane == SchedulerLane.TICK_CRITICAL) {
+                    executor.setQueueCapacity(tickCriticalQueueSize);
+                }
+            }
+        }
+
+        if (timer == null || timer.isShutdown()) {
+            ScheduledThreadPoolExecutor scheduled = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "AkiAsync-Timer");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+            scheduled.setRemoveOnCancelPolicy(true);
+            timer = scheduled;
+        }
+
+        lanes = Collections.unmodifiableMap(next);
+        coreBudget = Math.max(budget, SchedulerLane.values().length);
+        initialized = true;
+
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null) {
+            bridge.debugLog("[AkiAsync-Scheduler] Core budget " + coreBudget + " -> " + describeLanes());
+        }
+    }
+
+    private static int[] allocate(int budget, Map<SchedulerLane, Integer> weights) {
+        SchedulerLane[] lanes = SchedulerLane.values();
+        int[] threads = new int[lanes.length];
+        double[] remainders = new double[lanes.length];
+        int totalWeight = 0;
+        for (SchedulerLane lane : lanes) {
+            totalWeight += weightOf(lane, weights);
+        }
+
+        int assigned = 0;
+        for (SchedulerLane lane : lanes) {
+            double share = (double) budget * weightOf(lane, weights) / totalWeight;
+            threads[lane.ordinal()] = Math.max(1, (int) share);
+            remainders[lane.ordinal()] = share - threads[lane.ordinal()];
+            assigned += threads[lane.ordinal()];
+        }
+
+        while (assigned < budget) {
+            int best = 0;
+            for (int i = 1; i < lanes.length; i++) {
+                if (remainders[i] > remainders[best]) {
+                    best = i;
+                }
+            }
+            threads[best]++;
+            remainders[best] = Double.NEGATIVE_INFINITY;
+            assigned++;
+        }
+        return threads;
+    }
+
+    private static int weightOf(SchedulerLane lane, Map<SchedulerLane, Integer> weights) {
+        Integer weight = weights != null ? weights.get(lane) : null;
+        return Math.max(1, weight != null ? weight : lane.getDefaultWeight());
+    }
+
+    private static Map<SchedulerLane, LaneExecutor> lanes() {
+        Map<SchedulerLane, LaneExecutor> current = lanes;
+        if (current.isEmpty()) {
+            synchronized (AkiScheduler.class) {
+                if (lanes.isEmpty()) {
+                    configure(0, null, SchedulerLane.TICK_CRITICAL.getDefaultQueueCapacity());
+                }
+                current = lanes;
+            }
+        }
+        return current;
+    }
+
+    public static LaneExecutor lane(SchedulerLane lane) {
+        return lanes().get(lane);
+    }
+
+    public static synchronized void setAdmissionPolicies(Map<SchedulerLane, AdmissionPolicy> policies) {
+        admissionPolicies = policies;
+        for (Map.Entry<SchedulerLane, LaneExecutor> entry : lanes.entrySet()) {
+            entry.getValue().setAdmissionPolicy(policies != null ? policies.get(entry.getKey()) : null);
+        }
+    }
+
+    public static void retryDeferred() {
+        if (!initialized) {
+            return;
+        }
+        for (LaneExecutor executor : lanes.values()) {
+            if (executor.getDeferredDepth() > 0) {
+                executor.retryDeferred();
+            }
+        }
+    }
+
+    public static synchronized boolean resizeLane(SchedulerLane lane, int threads) {
+        LaneExecutor executor = lanes().get(lane);
+        int target = Math.max(1, threads);
+        if (executor == null || executor.isShutdown() || executor.getThreadCount() == target) {
+            return false;
+        }
+        if (target > executor.getThreadCount() && getTotalThreads() - executor.getThreadCount() + target > coreBudget) {
+            return false;
+        }
+        executor.resize(target);
+        return true;
+    }
+
+    public static synchronized boolean transferThread(SchedulerLane from, SchedulerLane to) {
+        LaneExecutor donor = lanes().get(from);
+        LaneExecutor receiver = lanes().get(to);
+        if (from == to || donor == null || receiver == null || donor.isShutdown() || receiver.isShutdown()
+            || donor.getThreadCount() <= 1) {
+            return false;
+        }
+        donor.resize(donor.getThreadCount() - 1);
+        receiver.resize(receiver.getThreadCount() + 1);
+        return true;
+    }
+
+    public static int getTotalThreads() {
+        int total = 0;
+        for (LaneExecutor executor : lanes.values()) {
+            total += executor.getThreadCount();
+        }
+        return total;
+    }
+
+    public static ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        LaneExecutor background = lane(SchedulerLane.BACKGROUND);
+        return requireTimer().scheduleAtFixedRate(() -> background.admit("timer", null, task), initialDelay, period, unit);
+    }
+
+    public static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        LaneExecutor background = lane(SchedulerLane.BACKGROUND);
+        return requireTimer().schedule(() -> background.admit("timer", null, task), delay, unit);
+    }
+
+    private static ScheduledExecutorService requireTimer() {
+        ScheduledExecutorService current = timer;
+        if (current == null || current.isShutdown()) {
+            throw new RejectedExecutionException("AkiScheduler has been shut down");
+        }
+        return current;
+    }
+
+    public static int getCoreBudget() {
+        return coreBudget;
+    }
+
+    public static boolean isInitialized() {
+        return initialized;
+    }
+
+    public static String describeLanes() {
+        StringBuilder sb = new StringBuilder();
+        for (SchedulerLane lane : SchedulerLane.values()) {
+            LaneExecutor executor = lanes.get(lane);
+            if (executor == null) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(lane.getConfigKey()).append('=').append(executor.getThreadCount());
+        }
+        return sb.toString();
+    }
+
+    public static String getStatistics() {
+        StringBuilder sb = new StringBuilder("Scheduler[budget=").append(coreBudget).append("]");
+        for (SchedulerLane lane : SchedulerLane.values()) {
+            LaneExecutor executor = lanes.get(lane);
+            if (executor != null) {
+                sb.append('\n').append("  ").append(executor.getStatistics());
+            }
+        }
+        String rejections = describeRejections();
+        if (!rejections.isEmpty()) {
+            sb.append('\n').append("  Rejections by subsystem: ").append(rejections);
+        }
+        return sb.toString();
+    }
+
+    public static String describeRejections() {
+        StringBuilder sb = new StringBuilder();
+        for (LaneExecutor executor : lanes.values()) {
+            for (Map.Entry<String, java.util.concurrent.atomic.AtomicLong> entry : executor.getRejectionsBySubsystem().entrySet()) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(entry.getKey()).append('=').append(entry.getValue().get());
+            }
+        }
+        return sb.toString();
+    }
+
+    public static long getTotalRejections() {
+        long total = 0;
+        for (LaneExecutor executor : lanes.values()) {
+            total += executor.getRejectedCount();
+        }
+        return total;
+    }
+
+    public static void resetAdmissionStatistics() {
+        for (LaneExecutor executor : lanes.values()) {
+            executor.resetAdmissionStatistics();
+        }
+    }
+
+    public static synchronized void shutdown() {
+        initialized = false;
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+        for (LaneExecutor executor : lanes.values()) {
+            executor.terminate();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.virgil.akiasync.mixin.async.scheduler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+
+public final class LaneExecutor extends AbstractExecutorService {
+
+    public enum Admission {
+        ACCEPTED,
+        COALESCED,
+        DEFERRED,
+        CANCELLED,
+        REJECTED;
+
+        public boolean isAdmitted() {
+            return this != REJECTED;
+        }
+    }
+
+    private final SchedulerLane lane;
+    private final ThreadPoolExecutor pool;
+    private final BoundedQueue queue;
+    private final ConcurrentLinkedDeque<Runnable> deferred = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger deferredDepth = new AtomicInteger(0);
+    private final Set<Object> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> rejectionsBySubsystem = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private final AtomicLong deferredCount = new AtomicLong(0);
+    private final AtomicLong coalescedCount = new AtomicLong(0);
+    private volatile AdmissionPolicy policy;
+
+    LaneExecutor(SchedulerLane lane, int threads, int queueCapacity) {
+        this.lane = lane;
+        this.queue = new BoundedQueue(queueCapacity);
+        this.policy = lane.getDefaultAdmissionPolicy();
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, lane.getThreadPrefix() + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                thread.setPriority(lane.getThreadPriority());
+                return thread;
+            }
+        };
+        this.pool = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30L, TimeUnit.SECONDS,
+            queue,
+            threadFactory,
+            (task, executor) -> {
+                throw new RejectedExecutionException(lane.getConfigKey() + " lane saturated");
+            }
+        );
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (admit(lane.getConfigKey(), null, command) == Admission.REJECTED) {
+            throw new RejectedExecutionException(lane.getConfigKey() + " lane saturated (" + policy.getConfigKey() + ")");
+        }
+    }
+
+    public Admission admit(String subsystem, Object key, org.virgil.akiasync.mixin.async.cancel.CancellationToken token, Runnable command) {
+        if (token == null || token == org.virgil.akiasync.mixin.async.cancel.CancellationToken.NONE) {
+            return admit(subsystem, key, command);
+        }
+        if (org.virgil.akiasync.mixin.async.cancel.CancellationRegistry.skipIfCancelled(token, subsystem)) {
+            return Admission.CANCELLED;
+        }
+        return admit(subsystem, key, () -> {
+            if (!org.virgil.akiasync.mixin.async.cancel.CancellationRegistry.skipIfCancelled(token, subsystem)) {
+                command.run();
+            }
+        });
+    }
+
+    public Admission admit(String subsystem, Object key, Runnable command) {
+        Runnable task = command;
+        if (key != null && policy == AdmissionPolicy.COALESCE) {
+            if (!pendingKeys.add(key)) {
+                coalescedCount.incrementAndGet();
+                return Admission.COALESCED;
+            }
+            task = () -> {
+                pendingKeys.remove(key);
+                command.run();
+            };
+        }
+        try {
+            pool.execute(TickTimeline.wrap(subsystem, task));
+            return Admission.ACCEPTED;
+        } catch (RejectedExecutionException e) {
+            if (key != null) {
+                pendingKeys.remove(key);
+            }
+            if (policy == AdmissionPolicy.DEFER && !pool.isShutdown()) {
+                if (deferredDepth.incrementAndGet() <= queue.capacity) {
+                    deferred.offer(command);
+                    deferredCount.incrementAndGet();
+                    return Admission.DEFERRED;
+                }
+                deferredDepth.decrementAndGet();
+            }
+            rejectedCount.incrementAndGet();
+            rejectionsBySubsystem.computeIfAbsent(subsystem, k -> new AtomicLong()).incrementAndGet();
+            TickTimeline.record(TickTimeline.EventType.FALLBACK, subsystem, 0L);
+            AkiJfr.rejected(subsystem, lane.getConfigKey(), policy.getConfigKey());
+            return Admission.REJECTED;
+        }
+    }
+
+    int retryDeferred() {
+        int resubmitted = 0;
+        int attempts = deferredDepth.get();
+        Runnable task;
+        while (attempts-- > 0 && (task = deferred.poll()) != null) {
+            try {
+                pool.execute(TickTimeline.wrap(lane.getConfigKey(), task));
+                deferredDepth.decrementAndGet();
+                resubmitted++;
+            } catch (RejectedExecutionException e) {
+                if (pool.isShutdown()) {
+                    deferredDepth.decrementAndGet();
+                } else {
+                    deferred.offerFirst(task);
+                }
+                break;
+            }
+        }
+        return resubmitted;
+    }
+
+    void setQueueCapacity(int capacity) {
+        queue.capacity = Math.max(1, capacity);
+    }
+
+    public int getQueueCapacity() {
+        return queue.capacity;
+    }
+
+    void setAdmissionPolicy(AdmissionPolicy policy) {
+        this.policy = policy != null ? policy : lane.getDefaultAdmissionPolicy();
+    }
+
+    public AdmissionPolicy getAdmissionPolicy() {
+        return policy;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getDeferredDepth() {
+        return deferredDepth.get();
+    }
+
+    public Map<String, AtomicLong> getRejectionsBySubsystem() {
+        return Collections.unmodifiableMap(rejectionsBySubsystem);
+    }
+
+    public void resetAdmissionStatistics() {
+        rejectedCount.set(0);
+        deferredCount.set(0);
+        coalescedCount.set(0);
+        rejectionsBySubsystem.clear();
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return pool.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return pool.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    synchronized void resize(int threads) {
+        if (threads > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(threads);
+            pool.setCorePoolSize(threads);
+        } else {
+            pool.setCorePoolSize(threads);
+            pool.setMaximumPoolSize(threads);
+        }
+    }
+
+    void terminate() {
+        deferred.clear();
+        deferredDepth.set(0);
+        pendingKeys.clear();
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public SchedulerLane getLane() {
+        return lane;
+    }
+
+    public int getThreadCount() {
+        return pool.getMaximumPoolSize();
+    }
+
+    public int getPoolSize() {
+        return pool.getPoolSize();
+    }
+
+    public int getActiveCount() {
+        return pool.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return pool.getQueue().size();
+    }
+
+    public long getCompletedTaskCount() {
+        return pool.getCompletedTaskCount();
+    }
+
+    public long getTaskCount() {
+        return pool.getTaskCount();
+    }
+
+    public String getStatistics() {
+        return String.format(
+            "%s: %d/%d | Active: %d | Queue: %d | Completed: %d | %s: Rejected %d, Deferred %d (%d waiting), Coalesced %d",
+            lane.getConfigKey(),
+            getPoolSize(),
+            getThreadCount(),
+            getActiveCount(),
+            getQueueSize(),
+            getCompletedTaskCount(),
+            policy.getConfigKey(),
+            rejectedCount.get(),
+            deferredCount.get(),
+            deferredDepth.get(),
+            coalescedCount.get()
+        );
+    }
+
+    private static final class BoundedQueue extends LinkedBlockingQueue<Runnable> {
+        private volatile int capacity;
+
+        private BoundedQueue(int capacity) {
+            this.capacity = Math.max(1, capacity);
+        }
+
+        @Override
+        public boolean offer(Runnable task) {
+            return size() < capacity && super.offer(task);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.virgil.akiasync.mixin.async.scheduler;
+
+public enum SchedulerLane {
+    TICK_CRITICAL("tick-critical", "AkiAsync-Tick-", Thread.NORM_PRIORITY, 3, 1000, AdmissionPolicy.DROP),
+    AI("ai", "AkiAsync-AI-", Thread.NORM_PRIORITY - 1, 3, 512, AdmissionPolicy.COALESCE),
+    LIGHTING("lighting", "AkiAsync-Lighting-", Thread.NORM_PRIORITY - 1, 2, 500, AdmissionPolicy.DEFER),
+    IO("io", "AkiAsync-IO-", Thread.NORM_PRIORITY - 2, 1, 1024, AdmissionPolicy.DEFER),
+    BACKGROUND("background", "AkiAsync-Background-", Thread.MIN_PRIORITY, 1, 1024, AdmissionPolicy.DEFER);
+
+    private final String configKey;
+    private final String threadPrefix;
+    private final int threadPriority;
+    private final int defaultWeight;
+    private final int defaultQueueCapacity;
+    private final AdmissionPolicy defaultAdmissionPolicy;
+
+    SchedulerLane(String configKey, String threadPrefix, int threadPriority, int defaultWeight, int defaultQueueCapacity, AdmissionPolicy defaultAdmissionPolicy) {
+        this.configKey = configKey;
+        this.threadPrefix = threadPrefix;
+        this.threadPriority = threadPriority;
+        this.defaultWeight = defaultWeight;
+        this.defaultQueueCapacity = defaultQueueCapacity;
+        this.defaultAdmissionPolicy = defaultAdmissionPolicy;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public String getThreadPrefix() {
+        return threadPrefix;
+    }
+
+    public int getThreadPriority() {
+        return threadPriority;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public int getDefaultQueueCapacity() {
+        return defaultQueueCapacity;
+    }
+
+    public AdmissionPolicy getDefaultAdmissionPolicy() {
+        return defaultAdmissionPolicy;
+    }
+}
@@ -10,8 +10,9 @@ public final class BlazeSnapshot {
     private final double blazeCd;
     private final List<PlayerInfo> players;
     private final BlockPos fireColumnPos;
-    private BlazeSnapshot(double cd, List<PlayerInfo> p, BlockPos fire) {
-        this.blazeCd = cd; this.players = p; this.fireColumnPos = fire;
+    private final BlockPos origin;
+    private BlazeSnapshot(double cd, List<PlayerInfo> p, BlockPos fire, BlockPos origin) {
+        this.blazeCd = cd; this.players = p; this.fireColumnPos = fire; this.origin = origin;
     }
     public static BlazeSnapshot capture(Blaze blaze, ServerLevel level) {
         double blazeCd = blaze.getHealth() < 10.0 ? 0.0 : 50.0;
@@ -20,11 +21,12 @@ public final class BlazeSnapshot {
             net.minecraft.world.entity.player.Player.class, box
         ).stream().map(p -> new PlayerInfo(p.getUUID(), p.blockPosition())).collect(Collectors.toList());
         BlockPos fire = blaze.blockPosition().above(2);
-        return new BlazeSnapshot(blazeCd, players, fire);
+        return new BlazeSnapshot(blazeCd, players, fire, blaze.blockPosition());
     }
     public double blazeCd() { return blazeCd; }
     public List<PlayerInfo> players() { return players; }
     public BlockPos fireColumn() { return fireColumnPos; }
+    public BlockPos origin() { return origin; }
     public static class PlayerInfo {
         final UUID id; final BlockPos pos;
         public PlayerInfo(UUID id, BlockPos pos) { this.id = id; this.pos = pos; }
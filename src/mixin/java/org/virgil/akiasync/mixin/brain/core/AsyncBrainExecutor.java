@@ -3,16 +3,35 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.metrics.AllocationTracker;
+import org.virgil.akiasync.mixin.metrics.FallbackDiagnostics;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+import org.virgil.akiasync.mixin.metrics.jfr.AsyncTaskEvent;
 public class AsyncBrainExecutor {
     private static final AtomicInteger totalExecutions = new AtomicInteger(0);
     private static final AtomicInteger successCount = new AtomicInteger(0);
     private static final AtomicInteger timeoutCount = new AtomicInteger(0);
     private static final AtomicInteger errorCount = new AtomicInteger(0);
     private static volatile ExecutorService executorService = null;
+    private static final class ProbedFuture<T> extends CompletableFuture<T> {
+        private final FallbackDiagnostics.Probe probe;
+        private ProbedFuture(FallbackDiagnostics.Probe probe) {
+            this.probe = probe;
+        }
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new ProbedFuture<>(probe);
+        }
+    }
     public static void setExecutor(ExecutorService executor) {
         executorService = executor;
         org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
@@ -28,29 +47,51 @@ public class AsyncBrainExecutor {
             return false;
         }
     }
+    static ExecutorService currentExecutor() {
+        ExecutorService executor = executorService;
+        if (executor == null || executor.isShutdown()) {
+            executor = AkiScheduler.lane(SchedulerLane.AI);
+        }
+        return executor;
+    }
     public static <T> CompletableFuture<T> runSync(Callable<T> task, long timeout, TimeUnit unit) {
         totalExecutions.incrementAndGet();
         long startNanos = org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncStart();
         final boolean debugEnabled = getDebugEnabled();
-        if (executorService == null || executorService.isShutdown()) {
-            return CompletableFuture.supplyAsync(() -> {
+        ExecutorService executor = currentExecutor();
+        AkiJfr.submitted(MetricSubsystem.BRAIN.getMetricName(), null, AkiJfr.NO_CHUNK, AkiJfr.NO_CHUNK);
+        FallbackDiagnostics.Probe probe = FallbackDiagnostics.probe(MetricSubsystem.BRAIN);
+        ProbedFuture<T> future = new ProbedFuture<>(probe);
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                probe.started();
+                long runNanos = System.nanoTime();
+                org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordQueueWait(MetricSubsystem.BRAIN, runNanos - startNanos);
+                AsyncTaskEvent event = AkiJfr.taskStarted(MetricSubsystem.BRAIN.getMetricName(), null, AkiJfr.NO_CHUNK, AkiJfr.NO_CHUNK, runNanos - startNanos);
+                long startBytes = AllocationTracker.begin();
+                boolean completed = false;
                 try {
-                    T result = task.call();
-                    successCount.incrementAndGet();
-                    return result;
-                } catch (Exception e) {
-                    errorCount.incrementAndGet();
-                    throw new CompletionException(e);
+                    T value = task.call();
+                    completed = true;
+                    future.complete(value);
+                } catch (Throwable t) {
+                    future.completeExceptionally(new CompletionException(t));
+                } finally {
+                    probe.finished();
+                    AkiJfr.taskFinished(event, completed);
+                    AllocationTracker.end(MetricSubsystem.BRAIN, startBytes);
+                    long execNanos = System.nanoTime() - runNanos;
+                    org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordExecution(MetricSubsystem.BRAIN, execNanos);
+                    HookProfiler.recordOffloaded(HookProfiler.Hook.BRAIN_SYNC_WAIT, null, execNanos);
                 }
             });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
         }
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return task.call();
-            } catch (Exception e) {
-                throw new CompletionException(e);
-            }
-        }, executorService)
+        return future
         .orTimeout(timeout, unit)
         .whenComplete((result, throwable) -> {
             boolean success = throwable == null;
@@ -69,18 +110,30 @@ public class AsyncBrainExecutor {
         });
     }
     public static <T> T getWithTimeoutOrRunSync(CompletableFuture<T> future, long timeout, TimeUnit unit, Callable<T> fallbackTask) {
+        long hookStart = HookProfiler.begin();
         try {
             return future.get(timeout, unit);
         } catch (TimeoutException e) {
             future.cancel(true);
             timeoutCount.incrementAndGet();
+            FallbackDiagnostics.timeout(future instanceof ProbedFuture<T> probed ? probed.probe : null, unit.toNanos(timeout));
+            TickTimeline.record(TickTimeline.EventType.FALLBACK, "ai-sync", 0L);
+            AkiJfr.timeout(MetricSubsystem.BRAIN.getMetricName(), null, unit.toNanos(timeout));
+            AkiJfr.fallback(MetricSubsystem.BRAIN.getMetricName(), "timeout", null, AkiJfr.NO_CHUNK, AkiJfr.NO_CHUNK);
             try {
                 return fallbackTask != null ? fallbackTask.call() : null;
             } catch (Exception ex) {
                 return null;
             }
         } catch (Exception e) {
+            if (FallbackDiagnostics.isTimeout(e) && future instanceof ProbedFuture<T> probed) {
+                FallbackDiagnostics.timeout(probed.probe, unit.toNanos(timeout));
+            } else {
+                FallbackDiagnostics.failure(MetricSubsystem.BRAIN, e, currentExecutor().isShutdown());
+            }
             return null;
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.BRAIN_SYNC_WAIT, hookStart);
         }
     }
     public static <T> T getWithTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
@@ -112,46 +165,14 @@ public class AsyncBrainExecutor {
         timeoutCount.set(0);
         errorCount.set(0);
     }
-    public static void restartSmooth() {
+    public static void reloadConfiguration() {
+        executorService = AkiScheduler.lane(SchedulerLane.AI);
+        resetStatistics();
+        AsyncBrainPipeline.reload();
+        
         org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (bridge != null) {
-            bridge.debugLog("[AkiAsync-Debug] Starting AsyncBrainExecutor smooth restart...");
-        }
-        
-        if (executorService != null) {
-            ExecutorService oldExecutor = executorService;
-            
-            executorService = Executors.newSingleThreadExecutor(r -> {
-                Thread t = new Thread(r, "AkiAsync-Brain-Smooth");
-                t.setDaemon(true);
-                t.setPriority(Thread.NORM_PRIORITY - 1);
-                return t;
-            });
-            
-            oldExecutor.shutdown();
-            try {
-                if (!oldExecutor.awaitTermination(1000, TimeUnit.MILLISECONDS)) {
-                    org.virgil.akiasync.mixin.bridge.Bridge brainForceShutdownBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                    if (brainForceShutdownBridge != null) {
-                        brainForceShutdownBridge.debugLog("[AkiAsync-Debug] AsyncBrainExecutor force shutdown");
-                    }
-                    oldExecutor.shutdownNow();
-                } else {
-                    org.virgil.akiasync.mixin.bridge.Bridge brainGracefulShutdownBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                    if (brainGracefulShutdownBridge != null) {
-                        brainGracefulShutdownBridge.debugLog("[AkiAsync-Debug] AsyncBrainExecutor gracefully shutdown");
-                    }
-                }
-            } catch (InterruptedException e) {
-                oldExecutor.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-            
-            resetStatistics();
-            org.virgil.akiasync.mixin.bridge.Bridge bridge2 = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-        if (bridge2 != null) {
-            bridge2.debugLog("[AkiAsync-Debug] AsyncBrainExecutor restart completed");
-        }
+            bridge.debugLog("[AkiAsync-Debug] AsyncBrainExecutor configuration reloaded");
         }
     }
-}
\ No newline at end of file
+}
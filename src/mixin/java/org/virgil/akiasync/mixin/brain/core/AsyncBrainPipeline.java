@@ -0,0 +1,207 @@
+package org.virgil.akiasync.mixin.brain.core;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.virgil.akiasync.mixin.async.apply.ApplySubsystem;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.cancel.CancellationRegistry;
+import org.virgil.akiasync.mixin.async.cancel.CancellationToken;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+import org.virgil.akiasync.mixin.metrics.AllocationTracker;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+import org.virgil.akiasync.mixin.metrics.jfr.AsyncTaskEvent;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.ChunkPos;
+public final class AsyncBrainPipeline {
+    @FunctionalInterface
+    public interface Applier<D> {
+        void apply(D diff);
+    }
+    public static final class BrainJob<D> implements Runnable {
+        private final Entity owner;
+        private final String family;
+        private final Callable<D> compute;
+        private final Applier<D> applier;
+        private final CancellationToken token;
+        private final EntityType<?> type;
+        private final int chunkX;
+        private final int chunkZ;
+        private final long startNanos;
+        private D result;
+        private volatile boolean finished;
+        private BrainJob(Entity owner, String family, Callable<D> compute, Applier<D> applier) {
+            this.owner = owner;
+            this.family = family;
+            this.compute = compute;
+            this.applier = applier;
+            this.token = CancellationRegistry.forEntity(owner);
+            this.type = owner.getType();
+            ChunkPos chunk = owner.chunkPosition();
+            this.chunkX = chunk.x;
+            this.chunkZ = chunk.z;
+            this.startNanos = org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncStart();
+            AkiJfr.submitted(MetricSubsystem.BRAIN.getMetricName(), type, chunkX, chunkZ);
+        }
+        @Override
+        public void run() {
+            if (CancellationRegistry.skipIfCancelled(token, "ai-pipeline")) {
+                finished = true;
+                return;
+            }
+            long runNanos = System.nanoTime();
+            org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordQueueWait(MetricSubsystem.BRAIN, runNanos - startNanos);
+            AsyncTaskEvent event = AkiJfr.taskStarted(MetricSubsystem.BRAIN.getMetricName(), type,
+                chunkX, chunkZ, runNanos - startNanos);
+            long startBytes = AllocationTracker.begin();
+            boolean success = false;
+            try {
+                result = compute.call();
+                success = true;
+            } catch (Throwable t) {
+                reportError(family, t);
+            }
+            AkiJfr.taskFinished(event, success);
+            AllocationTracker.end(MetricSubsystem.BRAIN, startBytes);
+            long execNanos = System.nanoTime() - runNanos;
+            org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordExecution(MetricSubsystem.BRAIN, execNanos);
+            org.virgil.akiasync.mixin.metrics.AsyncMetrics.recordAsyncEnd(startNanos, success, false);
+            HookProfiler.recordOffloaded(HookProfiler.Hook.BRAIN_PIPELINE, type, execNanos);
+            AiCostLeaderboard.record(AiCostLeaderboard.Metric.ASYNC_COMPUTE, type, execNanos);
+            if (success && result != null && !CancellationRegistry.skipIfCancelled(token, "ai-pipeline")) {
+                MainThreadApplyQueue.submit(ApplySubsystem.AI, this::apply);
+            } else {
+                finished = true;
+            }
+        }
+        private void apply() {
+            try {
+                if (owner.isRemoved()) {
+                    droppedCount.incrementAndGet();
+                } else {
+                    applier.apply(result);
+                    appliedCount.incrementAndGet();
+                }
+            } catch (Throwable t) {
+                reportError(family, t);
+            } finally {
+                result = null;
+                finished = true;
+            }
+        }
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+    private static final AtomicLong submittedCount = new AtomicLong(0);
+    private static final AtomicLong appliedCount = new AtomicLong(0);
+    private static final AtomicLong droppedCount = new AtomicLong(0);
+    private static final AtomicLong errorCount = new AtomicLong(0);
+    private static final AtomicLong rejectedCount = new AtomicLong(0);
+    private static final Set<String> reportedFamilies = ConcurrentHashMap.newKeySet();
+    private static volatile boolean pipelined;
+    private static volatile boolean initialized = false;
+    private AsyncBrainPipeline() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    public static boolean isEnabled() {
+        if (!initialized) { init(); }
+        return pipelined;
+    }
+    public static boolean isBusy(BrainJob<?> job) {
+        return job != null && !job.finished;
+    }
+    public static <S> S capture(Entity owner, String family, Callable<S> capture) {
+        long costStart = AiCostLeaderboard.begin();
+        long startBytes = AllocationTracker.begin();
+        try {
+            return capture.call();
+        } catch (Throwable t) {
+            reportError(family, t);
+            return null;
+        } finally {
+            AllocationTracker.end(MetricSubsystem.BRAIN, startBytes);
+            AiCostLeaderboard.end(AiCostLeaderboard.Metric.SNAPSHOT, owner, costStart);
+        }
+    }
+    public static <S, D> BrainJob<D> captureAndSubmit(Entity owner, String family, Callable<S> capture, Function<S, D> compute, Applier<D> applier) {
+        S snapshot = capture(owner, family, capture);
+        return snapshot != null ? submit(owner, family, snapshot, compute, applier) : null;
+    }
+    public static <S, D> BrainJob<D> submit(Entity owner, String family, S snapshot, Function<S, D> compute, Applier<D> applier) {
+        long hookStart = HookProfiler.begin();
+        long startBytes = AllocationTracker.begin();
+        BrainJob<D> job = new BrainJob<>(owner, family, () -> compute.apply(snapshot), applier);
+        submittedCount.incrementAndGet();
+        java.util.concurrent.ExecutorService executor = AsyncBrainExecutor.currentExecutor();
+        try {
+            if (executor instanceof org.virgil.akiasync.mixin.async.scheduler.LaneExecutor lane) {
+                if (!lane.admit("ai-pipeline", null, job).isAdmitted()) {
+                    rejectedCount.incrementAndGet();
+                    job.finished = true;
+                }
+            } else {
+                executor.execute(job);
+            }
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            job.finished = true;
+        }
+        AllocationTracker.end(MetricSubsystem.BRAIN, startBytes);
+        HookProfiler.end(HookProfiler.Hook.BRAIN_PIPELINE, owner.getType(), hookStart);
+        return job;
+    }
+    public static void reportError(String family, Throwable t) {
+        errorCount.incrementAndGet();
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge == null) {
+            return;
+        }
+        String message = "[AkiAsync-Brain] " + family + " AI task failed: " + t.getClass().getSimpleName() + ": " + t.getMessage();
+        if (reportedFamilies.add(family)) {
+            bridge.errorLog(message + " (further failures are logged at debug level)");
+        } else {
+            bridge.debugLog(message);
+        }
+    }
+    public static int getPendingCount() {
+        return MainThreadApplyQueue.getDepth(ApplySubsystem.AI);
+    }
+    public static String getStatistics() {
+        return String.format(
+            "BrainPipeline[%s | Submitted: %d | Applied: %d | Dropped: %d | Rejected: %d | Error: %d | Pending: %d]",
+            pipelined ? "pipelined" : "simple",
+            submittedCount.get(), appliedCount.get(), droppedCount.get(), rejectedCount.get(), errorCount.get(),
+            getPendingCount()
+        );
+    }
+    public static void resetStatistics() {
+        submittedCount.set(0);
+        appliedCount.set(0);
+        droppedCount.set(0);
+        errorCount.set(0);
+        rejectedCount.set(0);
+        reportedFamilies.clear();
+    }
+    public static synchronized void reload() {
+        initialized = false;
+        init();
+        resetStatistics();
+    }
+    private static synchronized void init() {
+        if (initialized) return;
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null) {
+            pipelined = bridge.isAsyncAIPipelined();
+            bridge.debugLog("[AkiAsync-Brain] Pipeline mode=" + (pipelined ? "pipelined" : "simple"));
+        } else {
+            pipelined = false;
+        }
+        initialized = true;
+    }
+}
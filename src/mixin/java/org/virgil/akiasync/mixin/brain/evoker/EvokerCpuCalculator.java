@@ -1,13 +1,12 @@
 package org.virgil.akiasync.mixin.brain.evoker;
 import java.util.Comparator;
 import java.util.UUID;
-import net.minecraft.world.entity.monster.Evoker;
 public final class EvokerCpuCalculator {
-    public static EvokerDiff runCpuOnly(Evoker evoker, EvokerSnapshot snap) {
+    public static EvokerDiff runCpuOnly(EvokerSnapshot snap) {
         EvokerDiff diff = new EvokerDiff();
         if (snap.spellCd() <= 0 && snap.emptyBlocks() > 3 && !snap.players().isEmpty()) {
             UUID target = snap.players().stream()
-                .min(Comparator.comparingDouble(p -> p.pos().distSqr(evoker.blockPosition())))
+                .min(Comparator.comparingDouble(p -> p.pos().distSqr(snap.origin())))
                 .map(EvokerSnapshot.PlayerInfo::id)
                 .orElse(null);
             diff.setEvokerTarget(target);
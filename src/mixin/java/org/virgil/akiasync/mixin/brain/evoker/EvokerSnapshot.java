@@ -11,11 +11,13 @@ public final class EvokerSnapshot {
     private final double spellCd;
     private final List<PlayerInfo> nearbyPlayers;
     private final int emptyBlocks;
-    private EvokerSnapshot(double health, double spellCd, List<PlayerInfo> players, int empty) {
+    private final BlockPos origin;
+    private EvokerSnapshot(double health, double spellCd, List<PlayerInfo> players, int empty, BlockPos origin) {
         this.health = health;
         this.spellCd = spellCd;
         this.nearbyPlayers = players;
         this.emptyBlocks = empty;
+        this.origin = origin;
     }
     public static EvokerSnapshot capture(Evoker evoker, ServerLevel level) {
         double health = evoker.getHealth();
@@ -35,12 +37,13 @@ public final class EvokerSnapshot {
                 }
             }
         }
-        return new EvokerSnapshot(health, spellCd, players, emptyBlocks);
+        return new EvokerSnapshot(health, spellCd, players, emptyBlocks, pos);
     }
     public double health() { return health; }
     public double spellCd() { return spellCd; }
     public List<PlayerInfo> players() { return nearbyPlayers; }
     public int emptyBlocks() { return emptyBlocks; }
+    public BlockPos origin() { return origin; }
     public static class PlayerInfo {
         final UUID id;
         final BlockPos pos;
@@ -1,12 +1,11 @@
 package org.virgil.akiasync.mixin.brain.guardian;
 import java.util.Comparator;
-import net.minecraft.world.entity.monster.Guardian;
 public final class GuardianCpuCalculator {
-    public static GuardianDiff runCpuOnly(Guardian guardian, GuardianSnapshot snap) {
+    public static GuardianDiff runCpuOnly(GuardianSnapshot snap) {
         GuardianDiff diff = new GuardianDiff();
         if (!snap.players().isEmpty()) {
             java.util.UUID target = snap.players().stream()
-                .min(Comparator.comparingDouble(p -> p.pos().distSqr(guardian.blockPosition())))
+                .min(Comparator.comparingDouble(p -> p.pos().distSqr(snap.origin())))
                 .map(GuardianSnapshot.PlayerInfo::id)
                 .orElse(null);
             diff.setGuardianTarget(target);
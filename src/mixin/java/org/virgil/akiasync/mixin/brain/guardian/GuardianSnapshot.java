@@ -8,7 +8,8 @@ import net.minecraft.world.entity.monster.Guardian;
 import net.minecraft.world.phys.AABB;
 public final class GuardianSnapshot {
     private final List<PlayerInfo> underwaterPlayers;
-    private GuardianSnapshot(List<PlayerInfo> p) { this.underwaterPlayers = p; }
+    private final BlockPos origin;
+    private GuardianSnapshot(List<PlayerInfo> p, BlockPos origin) { this.underwaterPlayers = p; this.origin = origin; }
     public static GuardianSnapshot capture(Guardian guardian, ServerLevel level) {
         AABB box = guardian.getBoundingBox().inflate(16.0);
         List<PlayerInfo> players = level.getEntitiesOfClass(
@@ -17,9 +18,10 @@ public final class GuardianSnapshot {
             .filter(p -> p.isInWater())
             .map(p -> new PlayerInfo(p.getUUID(), p.blockPosition()))
             .collect(Collectors.toList());
-        return new GuardianSnapshot(players);
+        return new GuardianSnapshot(players, guardian.blockPosition());
     }
     public List<PlayerInfo> players() { return underwaterPlayers; }
+    public BlockPos origin() { return origin; }
     public static class PlayerInfo {
         final UUID id; final BlockPos pos;
         public PlayerInfo(UUID id, BlockPos pos) { this.id = id; this.pos = pos; }
@@ -3,24 +3,19 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
 public final class PiglinCpuCalculator {
-    public static PiglinDiff runCpuOnly(
-            net.minecraft.world.entity.monster.piglin.AbstractPiglin piglin,
-            ServerLevel level,
-            PiglinSnapshot snapshot
-    ) {
+    public static PiglinDiff runCpuOnly(PiglinSnapshot snapshot) {
         try {
             List<PiglinSnapshot.PlayerGoldInfo> holdingGoldPlayers = snapshot.getNearbyPlayers().stream()
                 .filter(PiglinSnapshot.PlayerGoldInfo::holdingGold)
                 .sorted(Comparator.comparingDouble((PiglinSnapshot.PlayerGoldInfo playerInfo) -> 
-                    scoreBarterTarget(playerInfo.pos(), snapshot.getInventoryItems(), piglin.blockPosition())
+                    scoreBarterTarget(playerInfo.pos(), snapshot.getInventoryItems(), snapshot.getOrigin())
                 ).reversed())
                 .collect(Collectors.toList());
             Vec3 avoidVec = Vec3.ZERO;
-            BlockPos piglinPos = piglin.blockPosition();
+            BlockPos piglinPos = snapshot.getOrigin();
             for (BlockPos threat : snapshot.getNearbyThreats()) {
                 double dx = piglinPos.getX() - threat.getX();
                 double dy = piglinPos.getY() - threat.getY();
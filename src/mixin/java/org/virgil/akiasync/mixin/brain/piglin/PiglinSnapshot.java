@@ -9,16 +9,19 @@ public final class PiglinSnapshot {
     private final java.util.List<PlayerGoldInfo> nearbyPlayers;
     private final java.util.List<net.minecraft.core.BlockPos> nearbyThreats;
     private final boolean isHunted;
+    private final net.minecraft.core.BlockPos origin;
     private PiglinSnapshot(
             ItemStack[] inv,
             java.util.List<PlayerGoldInfo> players,
             java.util.List<net.minecraft.core.BlockPos> threats,
-            boolean hunted
+            boolean hunted,
+            net.minecraft.core.BlockPos origin
     ) {
         this.inventoryItems = inv;
         this.nearbyPlayers = players;
         this.nearbyThreats = threats;
         this.isHunted = hunted;
+        this.origin = origin;
     }
     public static PiglinSnapshot capture(Piglin piglin, ServerLevel level) {
         SimpleContainer inv = piglin.getInventory();
@@ -52,7 +55,7 @@ public final class PiglinSnapshot {
         boolean hunted = piglin.getBrain()
             .getMemory(net.minecraft.world.entity.ai.memory.MemoryModuleType.HUNTED_RECENTLY)
             .orElse(false);
-        return new PiglinSnapshot(items, players, threats, hunted);
+        return new PiglinSnapshot(items, players, threats, hunted, piglinPos);
     }
     public static PiglinSnapshot captureSimple(
             net.minecraft.world.entity.monster.piglin.PiglinBrute brute,
@@ -85,7 +88,7 @@ public final class PiglinSnapshot {
         boolean hunted = brute.getBrain()
             .getMemory(net.minecraft.world.entity.ai.memory.MemoryModuleType.HUNTED_RECENTLY)
             .orElse(false);
-        return new PiglinSnapshot(items, players, threats, hunted);
+        return new PiglinSnapshot(items, players, threats, hunted, brutePos);
     }
     private static boolean isHoldingGold(net.minecraft.world.entity.player.Player player) {
         ItemStack mainHand = player.getMainHandItem();
@@ -96,6 +99,7 @@ public final class PiglinSnapshot {
     public java.util.List<PlayerGoldInfo> getNearbyPlayers() { return nearbyPlayers; }
     public java.util.List<net.minecraft.core.BlockPos> getNearbyThreats() { return nearbyThreats; }
     public boolean isHunted() { return isHunted; }
+    public net.minecraft.core.BlockPos getOrigin() { return origin; }
     public static class PlayerGoldInfo {
         final java.util.UUID playerId;
         final net.minecraft.core.BlockPos pos;
@@ -1,9 +1,8 @@
 package org.virgil.akiasync.mixin.brain.pillager;
 import java.util.Comparator;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.entity.monster.AbstractIllager;
 public final class PillagerCpuCalculator {
-    public static PillagerDiff runCpuOnly(AbstractIllager illager, PillagerSnapshot snap) {
+    public static PillagerDiff runCpuOnly(PillagerSnapshot snap) {
         PillagerDiff diff = new PillagerDiff();
         double chargeScore = snap.charging() ? 100.0 : 0.0;
         diff.setChargeScore(chargeScore);
@@ -13,7 +12,7 @@ public final class PillagerCpuCalculator {
         java.util.UUID attackTarget = snap.players().stream()
             .filter(p -> p.health() < 0.75f)
             .min(Comparator.comparingDouble(p -> 
-                p.pos().distSqr(illager.blockPosition())
+                p.pos().distSqr(snap.origin())
             ))
             .map(PillagerSnapshot.PlayerHealthInfo::id)
             .orElse(null);
@@ -21,7 +20,7 @@ public final class PillagerCpuCalculator {
             diff.setAttackTarget(attackTarget);
         }
         BlockPos patrolTarget = snap.pois().stream()
-            .min(Comparator.comparingDouble(poi -> poi.distSqr(illager.blockPosition())))
+            .min(Comparator.comparingDouble(poi -> poi.distSqr(snap.origin())))
             .orElse(null);
         if (patrolTarget != null) {
             diff.setPatrolTarget(patrolTarget);
@@ -12,16 +12,19 @@ public final class PillagerSnapshot {
     private final List<PlayerHealthInfo> nearbyPlayers;
     private final BlockPos raidCenter;
     private final List<BlockPos> nearbyPOIs;
+    private final BlockPos origin;
     private PillagerSnapshot(double health, boolean charging, List<PlayerHealthInfo> players, 
-                            BlockPos raid, List<BlockPos> pois) {
+                            BlockPos raid, List<BlockPos> pois, BlockPos origin) {
         this.health = health;
         this.isChargingCrossbow = charging;
         this.nearbyPlayers = players;
         this.raidCenter = raid;
         this.nearbyPOIs = pois;
+        this.origin = origin;
     }
     public static PillagerSnapshot capture(AbstractIllager illager, ServerLevel level) {
         double health = illager.getHealth();
+        BlockPos origin = illager.blockPosition();
         boolean charging = illager instanceof net.minecraft.world.entity.monster.Pillager ?
             ((net.minecraft.world.entity.monster.Pillager) illager).isChargingCrossbow() : false;
         AABB box = illager.getBoundingBox().inflate(32.0);
@@ -30,18 +33,19 @@ public final class PillagerSnapshot {
         ).stream()
             .map(p -> new PlayerHealthInfo(p.getUUID(), p.blockPosition(), p.getHealth() / p.getMaxHealth()))
             .collect(Collectors.toList());
-        net.minecraft.world.entity.raid.Raid raid = level.getRaidAt(illager.blockPosition());
+        net.minecraft.world.entity.raid.Raid raid = level.getRaidAt(origin);
         BlockPos raidCenter = raid != null ? raid.getCenter() : null;
         List<BlockPos> pois = level.getPoiManager().getInRange(
-            poi -> true, illager.blockPosition(), 32, net.minecraft.world.entity.ai.village.poi.PoiManager.Occupancy.ANY
+            poi -> true, origin, 32, net.minecraft.world.entity.ai.village.poi.PoiManager.Occupancy.ANY
         ).map(poi -> poi.getPos()).limit(16).collect(Collectors.toList());
-        return new PillagerSnapshot(health, charging, players, raidCenter, pois);
+        return new PillagerSnapshot(health, charging, players, raidCenter, pois, origin);
     }
     public double health() { return health; }
     public boolean charging() { return isChargingCrossbow; }
     public List<PlayerHealthInfo> players() { return nearbyPlayers; }
     public BlockPos raid() { return raidCenter; }
     public List<BlockPos> pois() { return nearbyPOIs; }
+    public BlockPos origin() { return origin; }
     public static class PlayerHealthInfo {
         final UUID id;
         final BlockPos pos;
@@ -12,13 +12,15 @@ public final class UniversalAiSnapshot {
     private final List<PlayerInfo> nearbyPlayers;
     private final List<MobInfo> nearbyMobs;
     private final List<BlockPos> nearbyPOIs;
+    private final BlockPos origin;
     private UniversalAiSnapshot(double health, double level, List<PlayerInfo> players, 
-                                List<MobInfo> mobs, List<BlockPos> pois) {
+                                List<MobInfo> mobs, List<BlockPos> pois, BlockPos origin) {
         this.health = health;
         this.level = level;
         this.nearbyPlayers = players;
         this.nearbyMobs = mobs;
         this.nearbyPOIs = pois;
+        this.origin = origin;
     }
     public static UniversalAiSnapshot capture(Mob mob, ServerLevel world) {
         double health = mob.getHealth();
@@ -32,13 +34,14 @@ public final class UniversalAiSnapshot {
             Mob.class, mobBox, e -> e instanceof Mob
         ).stream().map(m -> new MobInfo(m.blockPosition())).collect(Collectors.toList());
         List<BlockPos> pois = java.util.Collections.emptyList();
-        return new UniversalAiSnapshot(health, level, players, mobs, pois);
+        return new UniversalAiSnapshot(health, level, players, mobs, pois, mob.blockPosition());
     }
     public double health() { return health; }
     public double level() { return level; }
     public List<PlayerInfo> players() { return nearbyPlayers; }
     public List<MobInfo> mobs() { return nearbyMobs; }
     public List<BlockPos> pois() { return nearbyPOIs; }
+    public BlockPos origin() { return origin; }
     public static class PlayerInfo {
         final UUID id; final BlockPos pos;
         public PlayerInfo(UUID id, BlockPos pos) { this.id = id; this.pos = pos; }
@@ -3,13 +3,8 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.ai.Brain;
-import net.minecraft.world.entity.ai.memory.ExpirableValue;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.village.poi.PoiRecord;
 public final class BrainCpuCalculator {
@@ -23,29 +18,11 @@ public final class BrainCpuCalculator {
         double score() { return score; }
         BlockPos pos() { return pos; }
     }
-    @SuppressWarnings("unchecked")
-    public static <E extends LivingEntity> BrainDiff runCpuOnly(
-            Brain<E> brain,
-            ServerLevel level,
+    public static BrainDiff runCpuOnly(
+            BrainSnapshot memorySnapshot,
             Map<BlockPos, PoiRecord> poiSnapshot
     ) {
         try {
-            Map<MemoryModuleType<?>, Object> memorySnapshot = brain.getMemories().entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                    e -> e.getKey(),
-                    e -> {
-                        Optional<?> opt = e.getValue();
-                        if (opt != null && opt.isPresent()) {
-                            Object val = opt.get();
-                            if (val instanceof ExpirableValue) {
-                                return ((ExpirableValue<?>) val).getValue();
-                            }
-                            return val;
-                        }
-                        return null;
-                    }
-                ));
             List<BlockPos> pois = new ArrayList<>();
             if (poiSnapshot != null) {
                 pois.addAll(poiSnapshot.keySet());
@@ -62,7 +39,7 @@ public final class BrainCpuCalculator {
                 BlockPos topPoi = scoredPois.get(0).pos();
                 diff.setTopPoi(topPoi);
             }
-            Object likedPlayer = memorySnapshot.get(MemoryModuleType.LIKED_PLAYER);
+            Object likedPlayer = memorySnapshot.getValue(MemoryModuleType.LIKED_PLAYER);
             if (likedPlayer != null) {
                 diff.setLikedPlayer(likedPlayer);
             }
@@ -71,14 +48,14 @@ public final class BrainCpuCalculator {
             return new BrainDiff();
         }
     }
-    private static double score(BlockPos poi, Map<MemoryModuleType<?>, Object> memory) {
+    private static double score(BlockPos poi, BrainSnapshot memory) {
         double dist = Math.sqrt(
             poi.getX() * poi.getX() + 
             poi.getY() * poi.getY() + 
             poi.getZ() * poi.getZ()
         );
         double match = 0.0;
-        Object walkTarget = memory.get(MemoryModuleType.WALK_TARGET);
+        Object walkTarget = memory.getValue(MemoryModuleType.WALK_TARGET);
         if (walkTarget != null) {
             match = poi.getX() % 10 == 0 ? 1.0 : 0.3;
         }
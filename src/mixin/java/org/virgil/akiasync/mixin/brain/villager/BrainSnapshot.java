@@ -46,6 +46,17 @@ public final class BrainSnapshot {
             }
         });
     }
+    public Object getValue(MemoryModuleType<?> type) {
+        Optional<?> opt = values.get(type);
+        if (opt == null || opt.isEmpty()) {
+            return null;
+        }
+        Object val = opt.get();
+        if (val instanceof ExpirableValue) {
+            return ((ExpirableValue<?>) val).getValue();
+        }
+        return val;
+    }
     public long getGameTime() {
         return gameTime;
     }
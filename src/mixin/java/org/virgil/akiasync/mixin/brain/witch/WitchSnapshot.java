@@ -8,15 +8,17 @@ import net.minecraft.world.entity.monster.Witch;
 import net.minecraft.world.phys.AABB;
 public final class WitchSnapshot {
     private final List<PlayerInfo> players;
-    private WitchSnapshot(List<PlayerInfo> p) { this.players = p; }
+    private final BlockPos origin;
+    private WitchSnapshot(List<PlayerInfo> p, BlockPos origin) { this.players = p; this.origin = origin; }
     public static WitchSnapshot capture(Witch witch, ServerLevel level) {
         AABB box = witch.getBoundingBox().inflate(16.0);
         List<PlayerInfo> players = level.getEntitiesOfClass(
             net.minecraft.world.entity.player.Player.class, box
         ).stream().map(p -> new PlayerInfo(p.getUUID(), p.blockPosition())).collect(Collectors.toList());
-        return new WitchSnapshot(players);
+        return new WitchSnapshot(players, witch.blockPosition());
     }
     public List<PlayerInfo> players() { return players; }
+    public BlockPos origin() { return origin; }
     public static class PlayerInfo {
         final UUID id; final BlockPos pos;
         public PlayerInfo(UUID id, BlockPos pos) { this.id = id; this.pos = pos; }
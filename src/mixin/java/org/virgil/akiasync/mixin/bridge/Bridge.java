@@ -27,6 +27,7 @@ public interface Bridge {
     int getBrainThrottleInterval();
     
     long getAsyncAITimeoutMicros();
+    boolean isAsyncAIPipelined();
     
     boolean isVillagerOptimizationEnabled();
     
@@ -3,6 +3,7 @@ package org.virgil.akiasync.mixin.bridge;
 public final class BridgeManager {
     
     private static volatile Bridge bridge = null;
+    private static volatile int configGeneration = 0;
     
     private BridgeManager() {
         throw new UnsupportedOperationException("This class cannot be instantiated");
@@ -20,6 +21,14 @@ public final class BridgeManager {
         return bridge;
     }
     
+    public static int getConfigGeneration() {
+        return configGeneration;
+    }
+    
+    public static synchronized void bumpConfigGeneration() {
+        configGeneration++;
+    }
+    
     public static boolean isBridgeInitialized() {
         return bridge != null;
     }
@@ -0,0 +1,215 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.ChunkPos;
+
+public final class AiCostLeaderboard {
+
+    public enum Metric {
+        AI_TICK("ai-tick", true),
+        SNAPSHOT("snapshot", false),
+        PATHFINDING("path", false),
+        ASYNC_COMPUTE("async", false);
+
+        private final String label;
+        private final boolean chunkHeat;
+
+        Metric(String label, boolean chunkHeat) {
+            this.label = label;
+            this.chunkHeat = chunkHeat;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static Metric fromLabel(String label) {
+            for (Metric metric : values()) {
+                if (metric.label.equalsIgnoreCase(label) || metric.name().equalsIgnoreCase(label)) {
+                    return metric;
+                }
+            }
+            return null;
+        }
+    }
+
+    public record TypeCost(String type, long aiTickNanos, long snapshotNanos, long pathNanos, long asyncNanos, long ticks) {
+        public long get(Metric metric) {
+            return switch (metric) {
+                case AI_TICK -> aiTickNanos;
+                case SNAPSHOT -> snapshotNanos;
+                case PATHFINDING -> pathNanos;
+                case ASYNC_COMPUTE -> asyncNanos;
+            };
+        }
+    }
+
+    public record ChunkCost(String dimension, int chunkX, int chunkZ, long nanos) {
+    }
+
+    private static final int MAX_TYPES = 1024;
+    private static final int OTHER_TYPE = MAX_TYPES - 1;
+    private static final AtomicLongArray[] NANOS = new AtomicLongArray[Metric.values().length];
+    private static final AtomicLongArray TICKS = new AtomicLongArray(MAX_TYPES);
+    static {
+        for (Metric metric : Metric.values()) {
+            NANOS[metric.ordinal()] = new AtomicLongArray(MAX_TYPES);
+        }
+    }
+    private static final Map<Object, Long2LongOpenHashMap> chunkNanos = new ConcurrentHashMap<>();
+    private static final AtomicLong totalTickNanos = new AtomicLong(0);
+    private static final AtomicLong tickCount = new AtomicLong(0);
+
+    private static volatile boolean active = false;
+    private static volatile long startedMillis = 0;
+
+    private AiCostLeaderboard() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void start() {
+        reset();
+        startedMillis = System.currentTimeMillis();
+        active = true;
+    }
+
+    public static synchronized void stop() {
+        active = false;
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    public static long getStartedMillis() {
+        return startedMillis;
+    }
+
+    public static synchronized void reset() {
+        for (AtomicLongArray array : NANOS) {
+            for (int i = 0; i < MAX_TYPES; i++) {
+                array.set(i, 0);
+            }
+        }
+        for (int i = 0; i < MAX_TYPES; i++) {
+            TICKS.set(i, 0);
+        }
+        chunkNanos.clear();
+        totalTickNanos.set(0);
+        tickCount.set(0);
+    }
+
+    public static long begin() {
+        return active ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Metric metric, Entity entity, long startNanos) {
+        if (startNanos != 0L) {
+            record(metric, entity, System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void record(Metric metric, Entity entity, long nanos) {
+        if (!active || entity == null) {
+            return;
+        }
+        record(metric, entity.getType(), nanos);
+        if (metric.chunkHeat) {
+            ChunkPos pos = entity.chunkPosition();
+            Long2LongOpenHashMap chunks = chunkNanos.computeIfAbsent(entity.level().dimension(), k -> new Long2LongOpenHashMap());
+            synchronized (chunks) {
+                chunks.addTo(pos.toLong(), nanos);
+            }
+        }
+    }
+
+    // Type-only variant for worker threads, which must not read the entity's live position
+    public static void record(Metric metric, EntityType<?> type, long nanos) {
+        if (!active || type == null) {
+            return;
+        }
+        int id = typeId(type);
+        NANOS[metric.ordinal()].addAndGet(id, nanos);
+        if (metric == Metric.AI_TICK) {
+            TICKS.incrementAndGet(id);
+        }
+    }
+
+    public static void onTick(long tickNanos) {
+        if (active) {
+            totalTickNanos.addAndGet(tickNanos);
+            tickCount.incrementAndGet();
+        }
+    }
+
+    public static long getTotalTickNanos() {
+        return totalTickNanos.get();
+    }
+
+    public static long getTickCount() {
+        return tickCount.get();
+    }
+
+    private static int typeId(EntityType<?> type) {
+        int id = BuiltInRegistries.ENTITY_TYPE.getId(type);
+        return id >= 0 && id < OTHER_TYPE ? id : OTHER_TYPE;
+    }
+
+    private static String typeName(int id) {
+        if (id == OTHER_TYPE) {
+            return "other";
+        }
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.byId(id);
+        return type != null ? BuiltInRegistries.ENTITY_TYPE.getKey(type).toString() : "#" + id;
+    }
+
+    public static List<TypeCost> topTypes(Metric metric, int limit) {
+        List<TypeCost> result = new ArrayList<>();
+        for (int id = 0; id < MAX_TYPES; id++) {
+            long ticks = TICKS.get(id);
+            long ai = NANOS[Metric.AI_TICK.ordinal()].get(id);
+            long snapshot = NANOS[Metric.SNAPSHOT.ordinal()].get(id);
+            long path = NANOS[Metric.PATHFINDING.ordinal()].get(id);
+            long async = NANOS[Metric.ASYNC_COMPUTE.ordinal()].get(id);
+            if (ticks == 0 && ai == 0 && snapshot == 0 && path == 0 && async == 0) {
+                continue;
+            }
+            result.add(new TypeCost(typeName(id), ai, snapshot, path, async, ticks));
+        }
+        result.sort((a, b) -> Long.compare(b.get(metric), a.get(metric)));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    public static List<ChunkCost> topChunks(int limit) {
+        List<ChunkCost> result = new ArrayList<>();
+        for (Map.Entry<Object, Long2LongOpenHashMap> dimension : chunkNanos.entrySet()) {
+            String name = describeDimension(dimension.getKey());
+            Long2LongOpenHashMap chunks = dimension.getValue();
+            synchronized (chunks) {
+                for (Long2LongMap.Entry entry : chunks.long2LongEntrySet()) {
+                    result.add(new ChunkCost(name, ChunkPos.getX(entry.getLongKey()), ChunkPos.getZ(entry.getLongKey()), entry.getLongValue()));
+                }
+            }
+        }
+        result.sort((a, b) -> Long.compare(b.nanos(), a.nanos()));
+        return limit > 0 && result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private static String describeDimension(Object dimension) {
+        if (dimension instanceof net.minecraft.resources.ResourceKey<?> key) {
+            return key.location().toString();
+        }
+        return String.valueOf(dimension);
+    }
+}
@@ -0,0 +1,204 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class AllocationTracker {
+
+    private static final int SUBSYSTEMS = MetricSubsystem.values().length;
+    private static final int WARMUP_PERIODS = 3;
+    private static final double BASELINE_ALPHA = 0.2;
+    private static final long PERIOD_TICKS = 1200;
+
+    private static final com.sun.management.ThreadMXBean THREADS;
+    static {
+        com.sun.management.ThreadMXBean threads = null;
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                threads = bean;
+            }
+        } catch (Throwable ignored) {
+        }
+        THREADS = threads;
+    }
+
+    private static final LongAdder[] workerBytes = new LongAdder[SUBSYSTEMS];
+    private static final LongAdder[] mainBytes = new LongAdder[SUBSYSTEMS];
+    static {
+        for (int i = 0; i < SUBSYSTEMS; i++) {
+            workerBytes[i] = new LongAdder();
+            mainBytes[i] = new LongAdder();
+        }
+    }
+    private static final LongAdder unmeasured = new LongAdder();
+    private static final LongAdder ticks = new LongAdder();
+
+    private static final long[] lastWorker = new long[SUBSYSTEMS];
+    private static final long[] lastMain = new long[SUBSYSTEMS];
+    private static final double[] baseline = new double[SUBSYSTEMS];
+    private static final boolean[] regressed = new boolean[SUBSYSTEMS];
+    private static long lastTicks;
+    private static long lastGcCount;
+    private static long lastGcMillis;
+    private static int periods;
+
+    private static volatile boolean enabled = true;
+    private static volatile double regressionFactor = 2.0;
+    private static volatile long minBytesPerTick = 256 * 1024;
+    private static volatile Thread mainThread;
+    private static volatile List<String> lastPeriod = List.of();
+
+    private AllocationTracker() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void configure(boolean enabled, double regressionFactor, long minBytesPerTick) {
+        AllocationTracker.enabled = enabled && THREADS != null;
+        AllocationTracker.regressionFactor = regressionFactor;
+        AllocationTracker.minBytesPerTick = minBytesPerTick;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long begin() {
+        if (!enabled) {
+            return -1L;
+        }
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public static void end(MetricSubsystem subsystem, long startBytes) {
+        if (startBytes < 0) {
+            if (enabled) {
+                unmeasured.increment();
+            }
+            return;
+        }
+        long now = THREADS.getCurrentThreadAllocatedBytes();
+        if (now < startBytes) {
+            return;
+        }
+        LongAdder[] target = Thread.currentThread() == mainThread ? mainBytes : workerBytes;
+        target[subsystem.ordinal()].add(now - startBytes);
+    }
+
+    public static void onTick() {
+        if (mainThread == null) {
+            mainThread = Thread.currentThread();
+        }
+        ticks.increment();
+        if (enabled && ticks.sum() - lastTicks >= PERIOD_TICKS) {
+            lastPeriod = samplePeriod();
+        }
+    }
+
+    // Sampled from the tick itself so regression detection runs whether or not the metrics report is enabled
+    public static List<String> getLastPeriod() {
+        return lastPeriod;
+    }
+
+    public static long getWorkerBytes(MetricSubsystem subsystem) {
+        return workerBytes[subsystem.ordinal()].sum();
+    }
+
+    public static long getMainBytes(MetricSubsystem subsystem) {
+        return mainBytes[subsystem.ordinal()].sum();
+    }
+
+    private static synchronized List<String> samplePeriod() {
+        List<String> lines = new ArrayList<>();
+        if (!enabled) {
+            return lines;
+        }
+        long currentTicks = ticks.sum();
+        long periodTicks = Math.max(1L, currentTicks - lastTicks);
+        lastTicks = currentTicks;
+        periods++;
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        lines.add(String.format(Locale.ROOT, "GC: %d collections, %dms paused over %d ticks | unmeasured samples: %d",
+            gcCount - lastGcCount, gcMillis - lastGcMillis, periodTicks, unmeasured.sumThenReset()));
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            int i = subsystem.ordinal();
+            long worker = workerBytes[i].sum();
+            long main = mainBytes[i].sum();
+            long workerDelta = worker - lastWorker[i];
+            long mainDelta = main - lastMain[i];
+            lastWorker[i] = worker;
+            lastMain[i] = main;
+            if (workerDelta == 0 && mainDelta == 0 && baseline[i] == 0) {
+                continue;
+            }
+            double perTick = (double) (workerDelta + mainDelta) / periodTicks;
+            boolean regression = periods > WARMUP_PERIODS && baseline[i] > 0
+                && perTick >= minBytesPerTick && perTick > baseline[i] * regressionFactor;
+            if (regression && !regressed[i]) {
+                org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                if (bridge != null) {
+                    bridge.errorLog("[AkiAsync-Alloc] Allocation regression in %s: %s/tick vs baseline %s/tick",
+                        subsystem.getMetricName(), formatBytes(perTick), formatBytes(baseline[i]));
+                }
+            }
+            regressed[i] = regression;
+            lines.add(String.format(Locale.ROOT, "%s: %s/tick (worker %s, main %s) | baseline %s/tick%s",
+                subsystem.getMetricName(), formatBytes(perTick), formatBytes((double) workerDelta / periodTicks),
+                formatBytes((double) mainDelta / periodTicks), formatBytes(baseline[i]), regression ? " | REGRESSED" : ""));
+            if (!regression) {
+                baseline[i] = baseline[i] == 0 ? perTick : baseline[i] + BASELINE_ALPHA * (perTick - baseline[i]);
+            }
+        }
+        return lines;
+    }
+
+    public static boolean isRegressed(MetricSubsystem subsystem) {
+        return regressed[subsystem.ordinal()];
+    }
+
+    public static void appendPrometheus(StringBuilder sb) {
+        if (!enabled) {
+            return;
+        }
+        sb.append("\n# HELP akiasync_allocated_bytes_total Heap bytes allocated by each subsystem\n");
+        sb.append("# TYPE akiasync_allocated_bytes_total counter\n");
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            sb.append("akiasync_allocated_bytes_total{subsystem=\"").append(subsystem.getMetricName()).append("\",thread=\"worker\"} ")
+                .append(getWorkerBytes(subsystem)).append('\n');
+            sb.append("akiasync_allocated_bytes_total{subsystem=\"").append(subsystem.getMetricName()).append("\",thread=\"main\"} ")
+                .append(getMainBytes(subsystem)).append('\n');
+        }
+        sb.append("\n# HELP akiasync_allocation_regression Subsystems whose allocation rate exceeds the baseline\n");
+        sb.append("# TYPE akiasync_allocation_regression gauge\n");
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            sb.append("akiasync_allocation_regression{subsystem=\"").append(subsystem.getMetricName()).append("\"} ")
+                .append(isRegressed(subsystem) ? 1 : 0).append('\n');
+        }
+    }
+
+    private static String formatBytes(double bytes) {
+        if (bytes >= 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.2fMB", bytes / (1024 * 1024));
+        }
+        if (bytes >= 1024) {
+            return String.format(Locale.ROOT, "%.1fKB", bytes / 1024);
+        }
+        return String.format(Locale.ROOT, "%.0fB", bytes);
+    }
+}
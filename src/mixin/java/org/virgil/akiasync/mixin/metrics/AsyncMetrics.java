@@ -1,20 +1,33 @@
 package org.virgil.akiasync.mixin.metrics;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
+import org.virgil.akiasync.mixin.metrics.jfr.AsyncTaskEvent;
 public final class AsyncMetrics {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+    private static final Map<MetricSubsystem, LatencyHistogram> queueWait = new EnumMap<>(MetricSubsystem.class);
+    private static final Map<MetricSubsystem, LatencyHistogram> execution = new EnumMap<>(MetricSubsystem.class);
+    static {
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            queueWait.put(subsystem, new LatencyHistogram());
+            execution.put(subsystem, new LatencyHistogram());
+        }
+    }
     private static final AtomicLong currentMspt = new AtomicLong(0);
-    private static final AtomicLong lastTickTime = new AtomicLong(System.nanoTime());
     private static final AtomicLong totalExecutions = new AtomicLong(0);
     private static final AtomicLong successCount = new AtomicLong(0);
     private static final AtomicLong timeoutCount = new AtomicLong(0);
     private static final AtomicLong fallbackCount = new AtomicLong(0);
     private static final AtomicLong asyncCpuNanos = new AtomicLong(0);
     private static final AtomicLong totalCpuNanos = new AtomicLong(0);
-    public static void recordTickMspt() {
-        long now = System.nanoTime();
-        long elapsed = now - lastTickTime.get();
-        currentMspt.set(elapsed / 1_000_000);
-        lastTickTime.set(now);
-        totalCpuNanos.addAndGet(elapsed);
+    public static void recordTickMspt(long tickNanos) {
+        currentMspt.set(tickNanos / 1_000_000);
+        totalCpuNanos.addAndGet(tickNanos);
     }
     public static long recordAsyncStart() {
         totalExecutions.incrementAndGet();
@@ -31,6 +44,79 @@ public final class AsyncMetrics {
             fallbackCount.incrementAndGet();
         }
     }
+    public static void recordQueueWait(MetricSubsystem subsystem, long nanos) {
+        queueWait.get(subsystem).record(nanos);
+    }
+    public static void recordExecution(MetricSubsystem subsystem, long nanos) {
+        execution.get(subsystem).record(nanos);
+    }
+    public static Runnable timed(MetricSubsystem subsystem, Runnable task) {
+        return timed(subsystem, null, AkiJfr.NO_CHUNK, AkiJfr.NO_CHUNK, task);
+    }
+    public static Runnable timed(MetricSubsystem subsystem, Object entityType, int chunkX, int chunkZ, Runnable task) {
+        long submittedNanos = System.nanoTime();
+        AkiJfr.submitted(subsystem.getMetricName(), entityType, chunkX, chunkZ);
+        return () -> {
+            long startNanos = System.nanoTime();
+            queueWait.get(subsystem).record(startNanos - submittedNanos);
+            AsyncTaskEvent event = AkiJfr.taskStarted(subsystem.getMetricName(), entityType, chunkX, chunkZ, startNanos - submittedNanos);
+            long startBytes = AllocationTracker.begin();
+            boolean success = false;
+            try {
+                task.run();
+                success = true;
+            } finally {
+                execution.get(subsystem).record(System.nanoTime() - startNanos);
+                AllocationTracker.end(subsystem, startBytes);
+                AkiJfr.taskFinished(event, success);
+            }
+        };
+    }
+    public static LatencyHistogram.Snapshot getQueueWaitSnapshot(MetricSubsystem subsystem) {
+        return queueWait.get(subsystem).snapshot();
+    }
+    public static LatencyHistogram.Snapshot getExecutionSnapshot(MetricSubsystem subsystem) {
+        return execution.get(subsystem).snapshot();
+    }
+    public static String describeLatency(MetricSubsystem subsystem) {
+        LatencyHistogram.Snapshot wait = queueWait.get(subsystem).snapshot();
+        LatencyHistogram.Snapshot exec = execution.get(subsystem).snapshot();
+        return String.format(
+            "%s[n=%d | wait p50/p90/p99/p999: %s | exec p50/p90/p99/p999: %s | max exec %.3fms]",
+            subsystem.getMetricName(), exec.getCount(), formatPercentiles(wait), formatPercentiles(exec), exec.getMax() / 1_000_000.0
+        );
+    }
+    private static String formatPercentiles(LatencyHistogram.Snapshot snapshot) {
+        StringBuilder sb = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            if (sb.length() > 0) {
+                sb.append('/');
+            }
+            sb.append(String.format("%.3f", snapshot.percentile(percentile) / 1_000_000.0));
+        }
+        return sb.append("ms").toString();
+    }
+    private static void appendHistogram(StringBuilder sb, String name, String help, Map<MetricSubsystem, LatencyHistogram> histograms) {
+        sb.append("\n# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" summary\n");
+        for (Map.Entry<MetricSubsystem, LatencyHistogram> entry : histograms.entrySet()) {
+            String subsystem = entry.getKey().getMetricName();
+            LatencyHistogram.Snapshot snapshot = entry.getValue().snapshot();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                sb.append(name).append("{subsystem=\"").append(subsystem).append("\",quantile=\"").append(PERCENTILE_LABELS[i]).append("\"} ")
+                    .append(String.format(Locale.ROOT, "%.6f", snapshot.percentile(PERCENTILES[i]) / 1_000_000_000.0)).append('\n');
+            }
+            sb.append(name).append("_count{subsystem=\"").append(subsystem).append("\"} ").append(snapshot.getCount()).append('\n');
+        }
+    }
+    public static void resetLatency() {
+        for (LatencyHistogram histogram : queueWait.values()) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : execution.values()) {
+            histogram.reset();
+        }
+    }
     public static long getCurrentMspt() {
         return currentMspt.get();
     }
@@ -48,11 +134,21 @@ public final class AsyncMetrics {
         return fallbackCount.get();
     }
     public static String getPrometheusMetrics() {
-        return String.format(
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
             "# HELP akiasync_mspt_current Current tick MSPT in milliseconds\n" +
             "# TYPE akiasync_mspt_current gauge\n" +
             "akiasync_mspt_current %d\n" +
             "\n" +
+            "# HELP akiasync_tps Ticks per second over the last 5 seconds\n" +
+            "# TYPE akiasync_tps gauge\n" +
+            "akiasync_tps %.3f\n" +
+            "\n" +
+            "# HELP akiasync_mspt Tick duration over the last minute in milliseconds\n" +
+            "# TYPE akiasync_mspt summary\n" +
+            "akiasync_mspt{quantile=\"0.5\"} %.3f\n" +
+            "akiasync_mspt{quantile=\"0.95\"} %.3f\n" +
+            "akiasync_mspt{quantile=\"0.99\"} %.3f\n" +
+            "\n" +
             "# HELP akiasync_async_cpu_percent CompletableFuture CPU usage percentage\n" +
             "# TYPE akiasync_async_cpu_percent gauge\n" +
             "akiasync_async_cpu_percent %.2f\n" +
@@ -63,12 +159,40 @@ public final class AsyncMetrics {
             "\n" +
             "# HELP akiasync_success_rate Async success rate percentage\n" +
             "# TYPE akiasync_success_rate gauge\n" +
-            "akiasync_success_rate %.2f\n",
+            "akiasync_success_rate %.2f\n" +
+            "\n" +
+            "# HELP akiasync_apply_queue_depth Pending main-thread apply tasks\n" +
+            "# TYPE akiasync_apply_queue_depth gauge\n" +
+            "akiasync_apply_queue_depth %d\n" +
+            "\n" +
+            "# HELP akiasync_apply_lag_ms Oldest task wait in the last apply phase (ms)\n" +
+            "# TYPE akiasync_apply_lag_ms gauge\n" +
+            "akiasync_apply_lag_ms %.3f\n" +
+            "\n" +
+            "# HELP akiasync_apply_carry_over_ticks Ticks where the apply budget was exhausted with work left\n" +
+            "# TYPE akiasync_apply_carry_over_ticks counter\n" +
+            "akiasync_apply_carry_over_ticks %d\n" +
+            "\n" +
+            "# HELP akiasync_lane_rejections_total Tasks refused by lane admission control\n" +
+            "# TYPE akiasync_lane_rejections_total counter\n" +
+            "akiasync_lane_rejections_total %d\n",
             getCurrentMspt(),
+            TickTimeService.getTps(),
+            TickTimeService.getSnapshot().p50Mspt(),
+            TickTimeService.getSnapshot().p95Mspt(),
+            TickTimeService.getSnapshot().p99Mspt(),
             getAsyncCpuPercent(),
             getFallbackCount(),
-            getSuccessRate()
-        );
+            getSuccessRate(),
+            MainThreadApplyQueue.getTotalDepth(),
+            MainThreadApplyQueue.getLastLagMillis(),
+            MainThreadApplyQueue.getCarryOverTicks(),
+            AkiScheduler.getTotalRejections()
+        ));
+        appendHistogram(sb, "akiasync_queue_wait_seconds", "Time tasks spent queued before a worker picked them up", queueWait);
+        appendHistogram(sb, "akiasync_execution_seconds", "Time tasks spent executing on a worker", execution);
+        AllocationTracker.appendPrometheus(sb);
+        return sb.toString();
     }
     public static void reset() {
         totalExecutions.set(0);
@@ -77,5 +201,6 @@ public final class AsyncMetrics {
         fallbackCount.set(0);
         asyncCpuNanos.set(0);
         totalCpuNanos.set(0);
+        resetLatency();
     }
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class FallbackDiagnostics {
+
+    public enum Cause {
+        QUEUE_WAIT("queue-wait"),
+        EXECUTION("execution"),
+        EXCEPTION("exception"),
+        REJECTED("rejected"),
+        SHUTDOWN("shutdown"),
+        CANCELLED("cancelled");
+
+        private final String label;
+
+        Cause(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final class Probe {
+        private final MetricSubsystem subsystem;
+        private final long submittedNanos;
+        private volatile Thread worker;
+        private volatile long startedNanos;
+        private volatile boolean finished;
+
+        private Probe(MetricSubsystem subsystem) {
+            this.subsystem = subsystem;
+            this.submittedNanos = System.nanoTime();
+        }
+
+        public void started() {
+            startedNanos = System.nanoTime();
+            worker = Thread.currentThread();
+        }
+
+        public void finished() {
+            finished = true;
+            worker = null;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+
+    public record Sample(long timeMillis, MetricSubsystem subsystem, Cause cause, String detail,
+                         long queueWaitNanos, long executionNanos, String thread, StackTraceElement[] stack) {
+    }
+
+    private static final int CAUSES = Cause.values().length;
+    private static final int SAMPLE_CAPACITY = 32;
+    private static final int STACK_DEPTH = 16;
+    private static final long STACK_SAMPLE_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long PLAIN_SAMPLE_INTERVAL_NANOS = 100_000_000L;
+
+    private static final LongAdder[] counts = new LongAdder[MetricSubsystem.values().length * CAUSES];
+    static {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+    private static final Map<String, LongAdder> exceptionTypes = new ConcurrentHashMap<>();
+    private static final Sample[] samples = new Sample[SAMPLE_CAPACITY];
+    private static final AtomicLong lastStackSampleNanos = new AtomicLong(0);
+    private static final AtomicLong lastPlainSampleNanos = new AtomicLong(0);
+    private static int sampleIndex;
+    private static long sampleCount;
+
+    private FallbackDiagnostics() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Probe probe(MetricSubsystem subsystem) {
+        return new Probe(subsystem);
+    }
+
+    public static void timeout(Probe probe, long budgetNanos) {
+        if (probe == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long started = probe.startedNanos;
+        Thread worker = probe.worker;
+        long queueWait = (started == 0L ? now : started) - probe.submittedNanos;
+        long execution = started == 0L ? 0L : now - started;
+        String detail = "budget " + formatMicros(budgetNanos);
+        if (queueWait >= execution) {
+            record(probe.subsystem, Cause.QUEUE_WAIT, detail, queueWait, execution,
+                worker != null ? worker.getName() : null, null, false);
+            return;
+        }
+        StackTraceElement[] stack = null;
+        if (worker != null && !probe.finished && tryAcquire(lastStackSampleNanos, STACK_SAMPLE_INTERVAL_NANOS, now)) {
+            stack = trim(worker.getStackTrace());
+            if (probe.worker != worker) {
+                stack = null;
+            }
+        }
+        record(probe.subsystem, Cause.EXECUTION, detail, queueWait, execution,
+            worker != null ? worker.getName() : null, stack, stack != null);
+    }
+
+    public static void failure(MetricSubsystem subsystem, Throwable throwable, boolean executorShutdown) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof RejectedExecutionException) {
+            record(subsystem, executorShutdown ? Cause.SHUTDOWN : Cause.REJECTED, cause.getClass().getSimpleName(), 0L, 0L, null, null, false);
+        } else if (cause instanceof CancellationException) {
+            record(subsystem, Cause.CANCELLED, "cancelled", 0L, 0L, null, null, false);
+        } else {
+            String type = cause.getClass().getName();
+            boolean firstOfType = !exceptionTypes.containsKey(subsystem.getMetricName() + ":" + type);
+            exceptionTypes.computeIfAbsent(subsystem.getMetricName() + ":" + type, k -> new LongAdder()).increment();
+            record(subsystem, Cause.EXCEPTION, type + (cause.getMessage() != null ? ": " + cause.getMessage() : ""),
+                0L, 0L, null, trim(cause.getStackTrace()), firstOfType);
+        }
+    }
+
+    public static void rejected(MetricSubsystem subsystem, String reason, boolean executorShutdown) {
+        record(subsystem, executorShutdown ? Cause.SHUTDOWN : Cause.REJECTED, reason, 0L, 0L, null, null, false);
+    }
+
+    public static boolean isTimeout(Throwable throwable) {
+        return unwrap(throwable) instanceof TimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static void record(MetricSubsystem subsystem, Cause cause, String detail, long queueWaitNanos,
+                               long executionNanos, String thread, StackTraceElement[] stack, boolean keep) {
+        counts[subsystem.ordinal() * CAUSES + cause.ordinal()].increment();
+        if (!keep && !tryAcquire(lastPlainSampleNanos, PLAIN_SAMPLE_INTERVAL_NANOS, System.nanoTime())) {
+            return;
+        }
+        Sample sample = new Sample(System.currentTimeMillis(), subsystem, cause, detail, queueWaitNanos, executionNanos, thread, stack);
+        synchronized (samples) {
+            samples[sampleIndex] = sample;
+            sampleIndex = (sampleIndex + 1) % SAMPLE_CAPACITY;
+            sampleCount++;
+        }
+    }
+
+    private static boolean tryAcquire(AtomicLong lastNanos, long intervalNanos, long now) {
+        long last = lastNanos.get();
+        return now - last >= intervalNanos && lastNanos.compareAndSet(last, now);
+    }
+
+    private static StackTraceElement[] trim(StackTraceElement[] stack) {
+        if (stack == null || stack.length <= STACK_DEPTH) {
+            return stack;
+        }
+        StackTraceElement[] trimmed = new StackTraceElement[STACK_DEPTH];
+        System.arraycopy(stack, 0, trimmed, 0, STACK_DEPTH);
+        return trimmed;
+    }
+
+    public static long getCount(MetricSubsystem subsystem, Cause cause) {
+        return counts[subsystem.ordinal() * CAUSES + cause.ordinal()].sum();
+    }
+
+    public static long getTotal(MetricSubsystem subsystem) {
+        long total = 0;
+        for (Cause cause : Cause.values()) {
+            total += getCount(subsystem, cause);
+        }
+        return total;
+    }
+
+    public static List<Sample> getRecentSamples() {
+        List<Sample> result = new ArrayList<>();
+        synchronized (samples) {
+            int size = (int) Math.min(sampleCount, SAMPLE_CAPACITY);
+            for (int i = 1; i <= size; i++) {
+                result.add(samples[(sampleIndex - i + SAMPLE_CAPACITY) % SAMPLE_CAPACITY]);
+            }
+        }
+        return result;
+    }
+
+    public static List<String> describeCounts() {
+        List<String> lines = new ArrayList<>();
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            StringBuilder sb = new StringBuilder();
+            long total = 0;
+            for (Cause cause : Cause.values()) {
+                long count = getCount(subsystem, cause);
+                if (count > 0) {
+                    sb.append(sb.length() > 0 ? " | " : "").append(cause.getLabel()).append(' ').append(count);
+                    total += count;
+                }
+            }
+            if (total > 0) {
+                lines.add(subsystem.getMetricName() + ": " + total + " (" + sb + ")");
+            }
+        }
+        for (Map.Entry<String, LongAdder> entry : exceptionTypes.entrySet()) {
+            lines.add("  exception " + entry.getKey() + " x" + entry.getValue().sum());
+        }
+        return lines;
+    }
+
+    public static String getStatistics() {
+        long[] byCause = new long[CAUSES];
+        for (MetricSubsystem subsystem : MetricSubsystem.values()) {
+            for (Cause cause : Cause.values()) {
+                byCause[cause.ordinal()] += getCount(subsystem, cause);
+            }
+        }
+        StringBuilder sb = new StringBuilder("Fallbacks[");
+        for (Cause cause : Cause.values()) {
+            if (cause.ordinal() > 0) {
+                sb.append(" | ");
+            }
+            sb.append(cause.getLabel()).append(": ").append(byCause[cause.ordinal()]);
+        }
+        return sb.append(']').toString();
+    }
+
+    public static void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        exceptionTypes.clear();
+        synchronized (samples) {
+            java.util.Arrays.fill(samples, null);
+            sampleIndex = 0;
+            sampleCount = 0;
+        }
+    }
+
+    public static String formatMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1fus", nanos / 1000.0);
+    }
+}
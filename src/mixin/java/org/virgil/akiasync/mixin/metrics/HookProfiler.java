@@ -0,0 +1,242 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class HookProfiler {
+
+    public enum Hook {
+        BRAIN_SNAPSHOT("ExpensiveAIMixin.snapshot"),
+        BRAIN_PIPELINE("AsyncBrainPipeline.submit"),
+        BRAIN_SYNC_WAIT("AsyncBrainExecutor.syncWait"),
+        BRAIN_THROTTLE("BrainThrottleMixin.tick"),
+        UNIVERSAL_AI("UniversalAiFamilyTickMixin.tick"),
+        UNIVERSAL_AI_PROTECT("UniversalAiFamilyTickMixin.shouldProtectAI"),
+        MOB_SPAWN_DENSITY("MobSpawningMixin.densityScan"),
+        ENTITY_LOOKUP_CACHE("EntityLookupCacheMixin.getEntities");
+
+        private final String displayName;
+
+        Hook(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final Object NO_TYPE = "-";
+    private static final HookStats[] STATS = new HookStats[Hook.values().length];
+    static {
+        for (Hook hook : Hook.values()) {
+            STATS[hook.ordinal()] = new HookStats(hook);
+        }
+    }
+
+    private static volatile boolean active = false;
+    private static volatile int sampleMask = 7;
+    private static volatile long startedNanos;
+    private static volatile long stoppedNanos;
+
+    private HookProfiler() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void start(int sampleEvery) {
+        reset();
+        sampleMask = Integer.highestOneBit(Math.max(1, Math.min(1024, sampleEvery))) - 1;
+        startedNanos = System.nanoTime();
+        stoppedNanos = 0;
+        active = true;
+    }
+
+    public static synchronized void stop() {
+        if (active) {
+            active = false;
+            stoppedNanos = System.nanoTime();
+        }
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    public static int getSampleEvery() {
+        return sampleMask + 1;
+    }
+
+    public static long begin() {
+        if (!active || (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    public static void end(Hook hook, long startNanos) {
+        end(hook, null, startNanos);
+    }
+
+    public static void end(Hook hook, Object entityType, long startNanos) {
+        if (!active) {
+            return;
+        }
+        HookStats stats = STATS[hook.ordinal()];
+        stats.calls.increment();
+        if (startNanos != 0L) {
+            stats.record(entityType, System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void recordSaved(Hook hook, Object entityType) {
+        if (active) {
+            STATS[hook.ordinal()].typeStats(entityType).savedCalls.increment();
+            STATS[hook.ordinal()].savedCalls.increment();
+        }
+    }
+
+    public static void recordOffloaded(Hook hook, Object entityType, long nanos) {
+        if (active) {
+            STATS[hook.ordinal()].typeStats(entityType).savedNanos.add(nanos);
+            STATS[hook.ordinal()].savedNanos.add(nanos);
+        }
+    }
+
+    public static long getSampledCalls(Hook hook) {
+        return STATS[hook.ordinal()].sampledCalls.sum();
+    }
+
+    public static long getSampledNanos(Hook hook) {
+        return STATS[hook.ordinal()].sampledNanos.sum();
+    }
+
+    public static synchronized void reset() {
+        for (HookStats stats : STATS) {
+            stats.reset();
+        }
+    }
+
+    public static List<String> report(int limit) {
+        List<HookStats> ranked = new ArrayList<>();
+        for (HookStats stats : STATS) {
+            if (stats.calls.sum() > 0 || stats.savedCalls.sum() > 0 || stats.savedNanos.sum() > 0) {
+                ranked.add(stats);
+            }
+        }
+        ranked.sort(Comparator.comparingDouble(HookStats::estimatedNanos).reversed());
+
+        long end = active ? System.nanoTime() : stoppedNanos;
+        double seconds = startedNanos == 0 ? 0 : Math.max(0.001, (end - startedNanos) / 1_000_000_000.0);
+        double totalCostMs = 0;
+        double totalSavedMs = 0;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Window %.1fs, sampling 1/%d, %s", seconds, getSampleEvery(), active ? "running" : "stopped"));
+        lines.add("# | hook | calls | avg ns | cost ms | saved | top entity types");
+        int rank = 1;
+        for (HookStats stats : ranked) {
+            double costMs = stats.estimatedNanos() / 1_000_000.0;
+            double savedMs = stats.savedNanos.sum() / 1_000_000.0;
+            totalCostMs += costMs;
+            totalSavedMs += savedMs;
+            lines.add(String.format("%d | %s | %d | %.0f | %.2f | %s | %s",
+                rank++, stats.hook.getDisplayName(), stats.calls.sum(), stats.averageNanos(), costMs,
+                describeSaved(stats.savedCalls.sum(), savedMs), stats.describeTopTypes(3)));
+            if (rank > limit) {
+                break;
+            }
+        }
+        lines.add(String.format("Total hook cost %.2fms (%.3f ms/s, nested hooks counted inclusively), offloaded work %.2fms (%.3f ms/s)",
+            totalCostMs, seconds > 0 ? totalCostMs / seconds : 0, totalSavedMs, seconds > 0 ? totalSavedMs / seconds : 0));
+        return lines;
+    }
+
+    private static String describeSaved(long savedCalls, double savedMs) {
+        if (savedCalls > 0 && savedMs > 0) {
+            return String.format("%d skips + %.2fms", savedCalls, savedMs);
+        }
+        if (savedCalls > 0) {
+            return savedCalls + " skips";
+        }
+        if (savedMs > 0) {
+            return String.format("%.2fms", savedMs);
+        }
+        return "-";
+    }
+
+    private static final class HookStats {
+        private final Hook hook;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder sampledCalls = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private final LongAdder savedCalls = new LongAdder();
+        private final LongAdder savedNanos = new LongAdder();
+        private final Map<Object, TypeStats> byType = new ConcurrentHashMap<>();
+
+        private HookStats(Hook hook) {
+            this.hook = hook;
+        }
+
+        private void record(Object entityType, long nanos) {
+            sampledCalls.increment();
+            sampledNanos.add(nanos);
+            TypeStats type = typeStats(entityType);
+            type.sampledCalls.increment();
+            type.sampledNanos.add(nanos);
+        }
+
+        private TypeStats typeStats(Object entityType) {
+            Object key = entityType != null ? entityType : NO_TYPE;
+            TypeStats stats = byType.get(key);
+            return stats != null ? stats : byType.computeIfAbsent(key, k -> new TypeStats());
+        }
+
+        private double averageNanos() {
+            long sampled = sampledCalls.sum();
+            return sampled == 0 ? 0 : (double) sampledNanos.sum() / sampled;
+        }
+
+        private double estimatedNanos() {
+            return averageNanos() * calls.sum();
+        }
+
+        private String describeTopTypes(int limit) {
+            List<Map.Entry<Object, TypeStats>> entries = new ArrayList<>(byType.entrySet());
+            entries.removeIf(entry -> entry.getKey() == NO_TYPE || entry.getValue().sampledNanos.sum() == 0);
+            if (entries.isEmpty()) {
+                return "-";
+            }
+            entries.sort((a, b) -> Long.compare(b.getValue().sampledNanos.sum(), a.getValue().sampledNanos.sum()));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < Math.min(limit, entries.size()); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                Map.Entry<Object, TypeStats> entry = entries.get(i);
+                long share = sampledNanos.sum() == 0 ? 0 : entry.getValue().sampledNanos.sum() * 100 / sampledNanos.sum();
+                sb.append(entry.getKey()).append(' ').append(share).append('%');
+            }
+            return sb.toString();
+        }
+
+        private void reset() {
+            calls.reset();
+            sampledCalls.reset();
+            sampledNanos.reset();
+            savedCalls.reset();
+            savedNanos.reset();
+            byType.clear();
+        }
+    }
+
+    private static final class TypeStats {
+        private final LongAdder sampledCalls = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private final LongAdder savedCalls = new LongAdder();
+        private final LongAdder savedNanos = new LongAdder();
+    }
+}
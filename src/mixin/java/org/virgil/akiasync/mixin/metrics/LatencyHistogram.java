@@ -0,0 +1,128 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+    private static final int MAX_MSB = 40;
+    private static final long MAX_TRACKABLE = (1L << (MAX_MSB + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_MSB - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1));
+    private static final int STRIPE_MASK = STRIPES - 1;
+
+    private final AtomicLongArray[] counts = new AtomicLongArray[STRIPES];
+    private final AtomicLongArray maxima = new AtomicLongArray(STRIPES);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            counts[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : Math.min(nanos, MAX_TRACKABLE);
+        int stripe = (int) Thread.currentThread().threadId() & STRIPE_MASK;
+        counts[stripe].incrementAndGet(bucketIndex(value));
+        long max = maxima.get(stripe);
+        while (value > max && !maxima.compareAndSet(stripe, max, value)) {
+            max = maxima.get(stripe);
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long top = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        for (AtomicLongArray stripe : counts) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long count = stripe.get(i);
+                merged[i] += count;
+                total += count;
+            }
+        }
+        long max = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            max = Math.max(max, maxima.get(i));
+        }
+        return new Snapshot(merged, total, max);
+    }
+
+    public void reset() {
+        for (AtomicLongArray stripe : counts) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                stripe.set(i, 0);
+            }
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            maxima.set(i, 0);
+        }
+    }
+
+    public static final class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] buckets, long count, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public Snapshot minus(Snapshot previous) {
+            if (previous == null) {
+                return this;
+            }
+            long[] delta = new long[buckets.length];
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                delta[i] = Math.max(0, buckets[i] - previous.buckets[i]);
+                total += delta[i];
+            }
+            return new Snapshot(delta, total, max);
+        }
+
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
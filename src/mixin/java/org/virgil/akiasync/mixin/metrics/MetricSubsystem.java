@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.metrics;
+
+public enum MetricSubsystem {
+    BRAIN("brain"),
+    EXPLOSION("explosion"),
+    LIGHTING("lighting"),
+    CHUNK_TICK("chunk_tick"),
+    STRUCTURE_LOCATE("structure_locate"),
+    PATH("path"),
+    TRACKER("tracker"),
+    ENTITY_TICK("entity_tick");
+
+    private final String metricName;
+
+    MetricSubsystem(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
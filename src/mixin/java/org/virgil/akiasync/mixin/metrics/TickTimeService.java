@@ -0,0 +1,129 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.util.Arrays;
+
+public final class TickTimeService {
+
+    public record Snapshot(double p50Mspt, double p95Mspt, double p99Mspt, double maxMspt,
+                           double averageMspt, double tps, double tps1m, long ticks) {
+        private static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 20.0, 20.0, 0);
+    }
+
+    private static final int LONG_WINDOW = 1200;
+    private static final int SHORT_WINDOW = 100;
+    private static final int PERCENTILE_INTERVAL = 20;
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private static final long[] durations = new long[LONG_WINDOW];
+    private static final long[] intervals = new long[LONG_WINDOW];
+    private static final long[] scratch = new long[LONG_WINDOW];
+    private static int index;
+    private static int filled;
+    private static long shortDurationSum;
+    private static long shortIntervalSum;
+    private static long longIntervalSum;
+    private static long tickStartNanos;
+    private static long previousTickStartNanos;
+    private static long tickCount;
+
+    private static volatile double lastMspt = 0.0;
+    private static volatile double averageMspt = 0.0;
+    private static volatile double tps = 20.0;
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private TickTimeService() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void onTickStart() {
+        long now = System.nanoTime();
+        previousTickStartNanos = tickStartNanos;
+        tickStartNanos = now;
+    }
+
+    public static void onTickEnd() {
+        long start = tickStartNanos;
+        if (start == 0) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        long interval = previousTickStartNanos != 0 ? start - previousTickStartNanos : 50_000_000L;
+        record(duration, interval);
+        AsyncMetrics.recordTickMspt(duration);
+        AiCostLeaderboard.onTick(duration);
+        AllocationTracker.onTick();
+    }
+
+    private static void record(long duration, long interval) {
+        if (filled >= SHORT_WINDOW) {
+            int leaving = (index - SHORT_WINDOW + LONG_WINDOW) % LONG_WINDOW;
+            shortDurationSum -= durations[leaving];
+            shortIntervalSum -= intervals[leaving];
+        }
+        if (filled == LONG_WINDOW) {
+            longIntervalSum -= intervals[index];
+        } else {
+            filled++;
+        }
+        durations[index] = duration;
+        intervals[index] = interval;
+        shortDurationSum += duration;
+        shortIntervalSum += interval;
+        longIntervalSum += interval;
+        index = (index + 1) % LONG_WINDOW;
+        tickCount++;
+
+        int shortCount = Math.min(filled, SHORT_WINDOW);
+        lastMspt = duration / NANOS_PER_MS;
+        averageMspt = shortDurationSum / NANOS_PER_MS / shortCount;
+        tps = toTps(shortIntervalSum, shortCount);
+        if (tickCount % PERCENTILE_INTERVAL == 0) {
+            publishSnapshot();
+        }
+    }
+
+    private static void publishSnapshot() {
+        System.arraycopy(durations, 0, scratch, 0, filled);
+        Arrays.sort(scratch, 0, filled);
+        snapshot = new Snapshot(
+            percentile(50), percentile(95), percentile(99), scratch[filled - 1] / NANOS_PER_MS,
+            averageMspt, tps, toTps(longIntervalSum, filled), tickCount
+        );
+    }
+
+    private static double percentile(double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * filled) - 1;
+        return scratch[Math.max(0, Math.min(filled - 1, rank))] / NANOS_PER_MS;
+    }
+
+    private static double toTps(long intervalSum, int count) {
+        if (count == 0 || intervalSum <= 0) {
+            return 20.0;
+        }
+        return Math.min(20.0, count * 1_000_000_000.0 / intervalSum);
+    }
+
+    public static double getLastMspt() {
+        return lastMspt;
+    }
+
+    public static double getAverageMspt() {
+        return averageMspt;
+    }
+
+    public static double getTps() {
+        return tps;
+    }
+
+    public static Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public static String getStatistics() {
+        Snapshot current = snapshot;
+        return String.format(
+            "TickTime[TPS: %.2f (1m %.2f) | MSPT avg %.2f | p50/p95/p99 %.2f/%.2f/%.2f | max %.2f]",
+            tps, current.tps1m(), averageMspt, current.p50Mspt(), current.p95Mspt(), current.p99Mspt(), current.maxMspt()
+        );
+    }
+}
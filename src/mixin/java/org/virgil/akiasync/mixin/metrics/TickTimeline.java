@@ -0,0 +1,372 @@
+package org.virgil.akiasync.mixin.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+
+public final class TickTimeline {
+
+    public enum EventType {
+        SUBMIT, START, END, APPLY_START, APPLY_END, FALLBACK, TICK_START, TICK_END
+    }
+
+    private static final long MAGIC = 0x414B49544C303031L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 32;
+    private static final int OFF_NANOS = 0;
+    private static final int OFF_SPAN = 8;
+    private static final int OFF_THREAD = 16;
+    private static final int OFF_TYPE = 20;
+    private static final int OFF_NAME = 22;
+    private static final int OFF_SEQ = 24;
+    private static final int HEADER_CURSOR = 24;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final String MAIN_TICK = "server-tick";
+    private static final int MAX_THREADS = 256;
+    private static final String OVERFLOW_THREAD = "other-threads";
+
+    private static final AtomicLong cursor = new AtomicLong(0);
+    private static final AtomicLong spanIds = new AtomicLong(0);
+    private static final AtomicLong exportCount = new AtomicLong(0);
+    private static final AtomicLong spikeCount = new AtomicLong(0);
+    private static final ConcurrentHashMap<String, Integer> nameIds = new ConcurrentHashMap<>();
+    private static final List<String> names = new CopyOnWriteArrayList<>();
+    private static final ConcurrentHashMap<String, Integer> threadIds = new ConcurrentHashMap<>();
+    private static final List<String> threadNames = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Integer> threadIndex = ThreadLocal.withInitial(TickTimeline::registerThread);
+
+    private static volatile boolean enabled = false;
+    private static volatile MappedByteBuffer buffer;
+    private static volatile FileChannel channel;
+    private static volatile int capacity;
+    private static volatile Path exportDirectory;
+    private static volatile long spikeThresholdNanos = 100_000_000L;
+    private static volatile long preWindowNanos = 2_000_000_000L;
+    private static volatile long cooldownNanos = 30_000_000_000L;
+    private static volatile int maxExports = 20;
+    private static volatile long lastExportNanos = 0;
+    private static volatile String lastExportFile = null;
+    private static long tickStartNanos;
+
+    private TickTimeline() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void configure(boolean enable, Path directory, int ringCapacity, long spikeThresholdMs,
+                                              long preWindowMs, long cooldownSeconds, int exportLimit) {
+        spikeThresholdNanos = Math.max(1L, spikeThresholdMs) * 1_000_000L;
+        preWindowNanos = Math.max(0L, preWindowMs) * 1_000_000L;
+        cooldownNanos = Math.max(0L, cooldownSeconds) * 1_000_000_000L;
+        maxExports = Math.max(1, exportLimit);
+        exportDirectory = directory;
+        int newCapacity = Integer.highestOneBit(Math.max(1024, Math.min(1 << 22, ringCapacity)));
+        if (!enable || directory == null) {
+            close();
+            return;
+        }
+        if (buffer != null && newCapacity == capacity) {
+            enabled = true;
+            return;
+        }
+        close();
+        try {
+            Files.createDirectories(directory);
+            FileChannel newChannel = FileChannel.open(directory.resolve("timeline.ring"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            MappedByteBuffer mapped = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * RECORD_SIZE);
+            mapped.order(ByteOrder.nativeOrder());
+            mapped.putLong(0, MAGIC);
+            mapped.putInt(8, VERSION);
+            mapped.putInt(12, RECORD_SIZE);
+            mapped.putInt(16, newCapacity);
+            mapped.putInt(20, ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 0 : 1);
+            for (long i = 0; i < newCapacity; i++) {
+                LONGS.set(mapped, (int) (HEADER_SIZE + i * RECORD_SIZE + OFF_SEQ), -1L);
+            }
+            cursor.set(0);
+            channel = newChannel;
+            buffer = mapped;
+            capacity = newCapacity;
+            enabled = true;
+        } catch (IOException | RuntimeException e) {
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.errorLog("[AkiAsync-Timeline] Failed to map timeline ring: " + e.getMessage());
+            }
+            close();
+        }
+    }
+
+    public static synchronized void close() {
+        enabled = false;
+        buffer = null;
+        FileChannel current = channel;
+        channel = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long nextSpanId() {
+        return enabled ? spanIds.incrementAndGet() : 0L;
+    }
+
+    public static void record(EventType type, String name, long spanId) {
+        if (!enabled) {
+            return;
+        }
+        MappedByteBuffer target = buffer;
+        if (target == null) {
+            return;
+        }
+        long seq = cursor.getAndIncrement();
+        int base = HEADER_SIZE + (int) (seq & (capacity - 1)) * RECORD_SIZE;
+        if (base + RECORD_SIZE > target.capacity()) {
+            return;
+        }
+        LONGS.setRelease(target, base + OFF_SEQ, -1L);
+        target.putLong(base + OFF_NANOS, System.nanoTime());
+        target.putLong(base + OFF_SPAN, spanId);
+        target.putInt(base + OFF_THREAD, threadIndex.get());
+        target.putShort(base + OFF_TYPE, (short) type.ordinal());
+        target.putShort(base + OFF_NAME, (short) nameId(name));
+        LONGS.setRelease(target, base + OFF_SEQ, seq);
+    }
+
+    public static Runnable wrap(String name, Runnable task) {
+        if (!enabled) {
+            return task;
+        }
+        long spanId = spanIds.incrementAndGet();
+        record(EventType.SUBMIT, name, spanId);
+        return () -> {
+            record(EventType.START, name, spanId);
+            try {
+                task.run();
+            } finally {
+                record(EventType.END, name, spanId);
+            }
+        };
+    }
+
+    public static void onTickStart() {
+        if (!enabled) {
+            return;
+        }
+        tickStartNanos = System.nanoTime();
+        record(EventType.TICK_START, MAIN_TICK, 0L);
+    }
+
+    public static void onTickEnd() {
+        if (!enabled) {
+            return;
+        }
+        record(EventType.TICK_END, MAIN_TICK, 0L);
+        MappedByteBuffer target = buffer;
+        if (target != null) {
+            target.putLong(HEADER_CURSOR, cursor.get());
+        }
+        long start = tickStartNanos;
+        long now = System.nanoTime();
+        if (start != 0 && now - start >= spikeThresholdNanos) {
+            spikeCount.incrementAndGet();
+            if (lastExportNanos == 0 || now - lastExportNanos >= cooldownNanos) {
+                lastExportNanos = now;
+                freezeAndExport(start - preWindowNanos, now, "spike-" + ((now - start) / 1_000_000) + "ms");
+            }
+        }
+    }
+
+    public static boolean exportNow(String reason) {
+        if (!enabled) {
+            return false;
+        }
+        long now = System.nanoTime();
+        return freezeAndExport(now - preWindowNanos, now, reason);
+    }
+
+    private static boolean freezeAndExport(long fromNanos, long toNanos, String reason) {
+        MappedByteBuffer target = buffer;
+        Path directory = exportDirectory;
+        if (target == null || directory == null) {
+            return false;
+        }
+        int ringCapacity = capacity;
+        ByteBuffer frozen = ByteBuffer.allocate(ringCapacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        frozen.put(0, target, HEADER_SIZE, ringCapacity * RECORD_SIZE);
+        long end = cursor.get();
+        List<String> nameTable = List.copyOf(names);
+        List<String> threadTable = List.copyOf(threadNames);
+        try {
+            AkiScheduler.lane(SchedulerLane.BACKGROUND).execute(() ->
+                writeChromeTrace(directory, frozen, ringCapacity, end, fromNanos, toNanos, reason, nameTable, threadTable));
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void writeChromeTrace(Path directory, ByteBuffer frozen, int ringCapacity, long end, long fromNanos,
+                                         long toNanos, String reason, List<String> nameTable, List<String> threadTable) {
+        List<long[]> events = new ArrayList<>();
+        for (long seq = Math.max(0, end - ringCapacity); seq < end; seq++) {
+            int base = (int) (seq & (ringCapacity - 1)) * RECORD_SIZE;
+            if (frozen.getLong(base + OFF_SEQ) != seq) {
+                continue;
+            }
+            long nanos = frozen.getLong(base + OFF_NANOS);
+            if (nanos < fromNanos || nanos > toNanos) {
+                continue;
+            }
+            events.add(new long[] {
+                nanos, frozen.getLong(base + OFF_SPAN), frozen.getInt(base + OFF_THREAD),
+                frozen.getShort(base + OFF_TYPE), frozen.getShort(base + OFF_NAME)
+            });
+        }
+        events.sort((a, b) -> Long.compare(a[0], b[0]));
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS", Locale.ROOT).format(new Date());
+        Path file = directory.resolve("timeline-" + stamp + "-" + reason + ".json");
+        EventType[] types = EventType.values();
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"displayTimeUnit\":\"ms\",\"otherData\":{\"reason\":\"" + escape(reason) + "\"},\"traceEvents\":[\n");
+            boolean first = true;
+            for (int i = 0; i < threadTable.size(); i++) {
+                first = writeEvent(out, first, "{\"ph\":\"M\",\"pid\":1,\"tid\":" + i
+                    + ",\"name\":\"thread_name\",\"args\":{\"name\":\"" + escape(threadTable.get(i)) + "\"}}");
+            }
+            for (long[] event : events) {
+                EventType type = types[(int) event[3]];
+                String name = event[4] >= 0 && event[4] < nameTable.size() ? escape(nameTable.get((int) event[4])) : "unknown";
+                String common = "\"pid\":1,\"tid\":" + event[2] + ",\"ts\":"
+                    + String.format(Locale.ROOT, "%.3f", (event[0] - fromNanos) / 1000.0);
+                switch (type) {
+                    case SUBMIT -> {
+                        first = writeEvent(out, first, "{\"ph\":\"i\",\"s\":\"t\",\"name\":\"submit " + name + "\",\"cat\":\"submit\"," + common + "}");
+                        first = writeEvent(out, first, "{\"ph\":\"s\",\"id\":" + event[1] + ",\"name\":\"" + name + "\",\"cat\":\"flow\"," + common + "}");
+                    }
+                    case START -> {
+                        first = writeEvent(out, first, "{\"ph\":\"f\",\"bp\":\"e\",\"id\":" + event[1] + ",\"name\":\"" + name + "\",\"cat\":\"flow\"," + common + "}");
+                        first = writeEvent(out, first, "{\"ph\":\"B\",\"name\":\"" + name + "\",\"cat\":\"task\"," + common + "}");
+                    }
+                    case END, APPLY_END, TICK_END -> first = writeEvent(out, first, "{\"ph\":\"E\"," + common + "}");
+                    case APPLY_START -> first = writeEvent(out, first, "{\"ph\":\"B\",\"name\":\"apply " + name + "\",\"cat\":\"apply\"," + common + "}");
+                    case TICK_START -> first = writeEvent(out, first, "{\"ph\":\"B\",\"name\":\"tick\",\"cat\":\"tick\"," + common + "}");
+                    case FALLBACK -> first = writeEvent(out, first, "{\"ph\":\"i\",\"s\":\"t\",\"name\":\"fallback " + name + "\",\"cat\":\"fallback\"," + common + "}");
+                }
+            }
+            out.write("\n]}\n");
+            exportCount.incrementAndGet();
+            lastExportFile = file.getFileName().toString();
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.debugLog("[AkiAsync-Timeline] Exported " + events.size() + " events (" + reason + ") to " + file);
+            }
+        } catch (IOException e) {
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.errorLog("[AkiAsync-Timeline] Failed to export timeline: " + e.getMessage());
+            }
+        }
+        pruneExports(directory);
+    }
+
+    private static boolean writeEvent(BufferedWriter out, boolean first, String json) throws IOException {
+        if (!first) {
+            out.write(",\n");
+        }
+        out.write(json);
+        return false;
+    }
+
+    private static void pruneExports(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> exports = files
+                .filter(path -> path.getFileName().toString().startsWith("timeline-") && path.getFileName().toString().endsWith(".json"))
+                .sorted()
+                .toList();
+            for (int i = 0; i < exports.size() - maxExports; i++) {
+                Files.deleteIfExists(exports.get(i));
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static int nameId(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            id = nameIds.get(name);
+            if (id == null) {
+                id = names.size();
+                names.add(name);
+                nameIds.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    private static Integer registerThread() {
+        String name = Thread.currentThread().getName();
+        synchronized (threadNames) {
+            Integer id = threadIds.get(name);
+            if (id != null) {
+                return id;
+            }
+            if (threadNames.size() >= MAX_THREADS - 1) {
+                name = OVERFLOW_THREAD;
+                id = threadIds.get(name);
+                if (id != null) {
+                    return id;
+                }
+            }
+            id = threadNames.size();
+            threadNames.add(name);
+            threadIds.put(name, id);
+            return id;
+        }
+    }
+
+    public static String getStatistics() {
+        if (!enabled) {
+            return "Timeline[disabled]";
+        }
+        return String.format("Timeline[Events: %d | Ring: %d | Spikes: %d | Exports: %d%s]",
+            cursor.get(), capacity, spikeCount.get(), exportCount.get(),
+            lastExportFile != null ? " | Last: " + lastExportFile : "");
+    }
+}
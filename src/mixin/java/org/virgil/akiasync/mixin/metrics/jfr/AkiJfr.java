@@ -0,0 +1,148 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.EventType;
+
+public final class AkiJfr {
+
+    public static final int NO_CHUNK = Integer.MIN_VALUE;
+
+    private static final EventType SUBMIT;
+    private static final EventType TASK;
+    private static final EventType TIMEOUT;
+    private static final EventType FALLBACK;
+    private static final EventType APPLY;
+    private static final EventType CACHE;
+    private static final EventType REJECTED;
+    static {
+        EventType submit = null, task = null, timeout = null, fallback = null, apply = null, cache = null, rejected = null;
+        try {
+            submit = EventType.getEventType(AsyncSubmitEvent.class);
+            task = EventType.getEventType(AsyncTaskEvent.class);
+            timeout = EventType.getEventType(AsyncTimeoutEvent.class);
+            fallback = EventType.getEventType(SyncFallbackEvent.class);
+            apply = EventType.getEventType(DiffApplyEvent.class);
+            cache = EventType.getEventType(CacheAccessEvent.class);
+            rejected = EventType.getEventType(TaskRejectedEvent.class);
+        } catch (Throwable ignored) {
+        }
+        SUBMIT = submit;
+        TASK = task;
+        TIMEOUT = timeout;
+        FALLBACK = fallback;
+        APPLY = apply;
+        CACHE = cache;
+        REJECTED = rejected;
+    }
+
+    private AkiJfr() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    private static boolean on(EventType type) {
+        return type != null && type.isEnabled();
+    }
+
+    public static void submitted(String subsystem, Object entityType, int chunkX, int chunkZ) {
+        if (!on(SUBMIT)) {
+            return;
+        }
+        AsyncSubmitEvent event = new AsyncSubmitEvent();
+        event.subsystem = subsystem;
+        event.entityType = entityType != null ? entityType.toString() : null;
+        event.chunkX = chunkX;
+        event.chunkZ = chunkZ;
+        event.commit();
+    }
+
+    public static AsyncTaskEvent taskStarted(String subsystem, Object entityType, int chunkX, int chunkZ, long queueWaitNanos) {
+        if (!on(TASK)) {
+            return null;
+        }
+        AsyncTaskEvent event = new AsyncTaskEvent();
+        event.subsystem = subsystem;
+        event.entityType = entityType != null ? entityType.toString() : null;
+        event.chunkX = chunkX;
+        event.chunkZ = chunkZ;
+        event.queueWait = queueWaitNanos;
+        event.begin();
+        return event;
+    }
+
+    public static void taskFinished(AsyncTaskEvent event, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    public static void timeout(String subsystem, Object entityType, long timeoutNanos) {
+        if (!on(TIMEOUT)) {
+            return;
+        }
+        AsyncTimeoutEvent event = new AsyncTimeoutEvent();
+        event.subsystem = subsystem;
+        event.entityType = entityType != null ? entityType.toString() : null;
+        event.timeout = timeoutNanos;
+        event.commit();
+    }
+
+    public static void fallback(String subsystem, String reason, Object entityType, int chunkX, int chunkZ) {
+        if (!on(FALLBACK)) {
+            return;
+        }
+        SyncFallbackEvent event = new SyncFallbackEvent();
+        event.subsystem = subsystem;
+        event.reason = reason;
+        event.entityType = entityType != null ? entityType.toString() : null;
+        event.chunkX = chunkX;
+        event.chunkZ = chunkZ;
+        event.commit();
+    }
+
+    public static DiffApplyEvent applyStarted(String subsystem, long applyLagNanos) {
+        if (!on(APPLY)) {
+            return null;
+        }
+        DiffApplyEvent event = new DiffApplyEvent();
+        event.subsystem = subsystem;
+        event.applyLag = applyLagNanos;
+        event.begin();
+        return event;
+    }
+
+    public static void applyFinished(DiffApplyEvent event, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    public static void cache(String cache, boolean hit) {
+        if (!on(CACHE)) {
+            return;
+        }
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.cache = cache;
+        event.hit = hit;
+        event.commit();
+    }
+
+    public static void rejected(String subsystem, String lane, String policy) {
+        if (!on(REJECTED)) {
+            return;
+        }
+        TaskRejectedEvent event = new TaskRejectedEvent();
+        event.subsystem = subsystem;
+        event.lane = lane;
+        event.policy = policy;
+        event.commit();
+    }
+}
@@ -0,0 +1,28 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.virgil.akiasync.AsyncSubmit")
+@Label("Async Submit")
+@Category({"AkiAsync", "Async Tasks"})
+@Description("A unit of AkiAsync work was handed to an async lane")
+@Enabled(false)
+@StackTrace(false)
+public class AsyncSubmitEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+}
@@ -0,0 +1,36 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.virgil.akiasync.AsyncTask")
+@Label("Async Task")
+@Category({"AkiAsync", "Async Tasks"})
+@Description("Execution of an AkiAsync task on a worker thread; the event duration is the execution time")
+@Enabled(false)
+@StackTrace(false)
+public class AsyncTaskEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+
+    @Label("Succeeded")
+    public boolean success;
+}
@@ -0,0 +1,27 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.virgil.akiasync.AsyncTimeout")
+@Label("Async Timeout")
+@Category({"AkiAsync", "Async Tasks"})
+@Description("The main thread stopped waiting for an async result")
+@Enabled(false)
+@StackTrace(false)
+public class AsyncTimeoutEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Timeout")
+    @Timespan(Timespan.NANOSECONDS)
+    public long timeout;
+}
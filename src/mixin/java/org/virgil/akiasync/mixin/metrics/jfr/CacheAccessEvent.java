@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.virgil.akiasync.CacheAccess")
+@Label("Cache Access")
+@Category({"AkiAsync", "Caches"})
+@Description("A lookup against one of the AkiAsync caches")
+@Enabled(false)
+@StackTrace(false)
+public class CacheAccessEvent extends jdk.jfr.Event {
+    @Label("Cache")
+    public String cache;
+
+    @Label("Hit")
+    public boolean hit;
+}
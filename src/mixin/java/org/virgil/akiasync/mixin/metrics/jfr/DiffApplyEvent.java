@@ -0,0 +1,28 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.virgil.akiasync.DiffApply")
+@Label("Diff Apply")
+@Category({"AkiAsync", "Main Thread"})
+@Description("An async result applied on the main thread; the event duration is the apply time")
+@Enabled(false)
+@StackTrace(false)
+public class DiffApplyEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Apply Lag")
+    @Description("Time between the result being queued and applied")
+    @Timespan(Timespan.NANOSECONDS)
+    public long applyLag;
+
+    @Label("Succeeded")
+    public boolean success;
+}
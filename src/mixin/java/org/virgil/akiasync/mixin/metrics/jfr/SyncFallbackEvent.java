@@ -0,0 +1,31 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.virgil.akiasync.SyncFallback")
+@Label("Sync Fallback")
+@Category({"AkiAsync", "Async Tasks"})
+@Description("Work that was meant to run async ran on the calling thread instead")
+@Enabled(false)
+@StackTrace(false)
+public class SyncFallbackEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Reason")
+    public String reason;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+}
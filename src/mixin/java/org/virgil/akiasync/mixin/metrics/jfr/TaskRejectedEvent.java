@@ -0,0 +1,25 @@
+package org.virgil.akiasync.mixin.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.virgil.akiasync.TaskRejected")
+@Label("Task Rejected")
+@Category({"AkiAsync", "Async Tasks"})
+@Description("A scheduler lane refused a task under its admission policy")
+@Enabled(false)
+@StackTrace(false)
+public class TaskRejectedEvent extends jdk.jfr.Event {
+    @Label("Subsystem")
+    public String subsystem;
+
+    @Label("Lane")
+    public String lane;
+
+    @Label("Admission Policy")
+    public String policy;
+}
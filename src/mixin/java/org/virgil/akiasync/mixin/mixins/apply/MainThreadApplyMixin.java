@@ -0,0 +1,17 @@
+package org.virgil.akiasync.mixin.mixins.apply;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import net.minecraft.server.MinecraftServer;
+@SuppressWarnings("unused")
+@Mixin(MinecraftServer.class)
+public abstract class MainThreadApplyMixin {
+    @Inject(method = "tickChildren", at = @At("HEAD"))
+    private void aki$applyPhase(CallbackInfo ci) {
+        AkiScheduler.retryDeferred();
+        MainThreadApplyQueue.drain();
+    }
+}
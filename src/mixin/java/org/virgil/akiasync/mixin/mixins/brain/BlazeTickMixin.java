@@ -10,6 +10,7 @@ import org.virgil.akiasync.mixin.brain.blaze.BlazeCpuCalculator;
 import org.virgil.akiasync.mixin.brain.blaze.BlazeDiff;
 import org.virgil.akiasync.mixin.brain.blaze.BlazeSnapshot;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.monster.Blaze;
@@ -20,6 +21,7 @@ public abstract class BlazeTickMixin {
     @Unique private static volatile long timeout;
     @Unique private static volatile boolean init = false;
     @Unique private BlazeSnapshot aki$snap;
+    @Unique private AsyncBrainPipeline.BrainJob<BlazeDiff> aki$job;
     @Unique private long aki$next = 0;
     @Inject(method = "tick", at = @At("TAIL"))
     private void aki$blaze(CallbackInfo ci) {
@@ -30,13 +32,25 @@ public abstract class BlazeTickMixin {
         ServerLevel level = (ServerLevel) blaze.level();
         if (level == null || level.getGameTime() < aki$next) return;
         aki$next = level.getGameTime() + 3;
+        if (AsyncBrainPipeline.isEnabled()) {
+            if (AsyncBrainPipeline.isBusy(aki$job)) return;
+            aki$job = AsyncBrainPipeline.captureAndSubmit(blaze, "blaze", () -> BlazeSnapshot.capture(blaze, level),
+                BlazeCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) diff.applyTo(blaze, level);
+                });
+            return;
+        }
         try {
-            aki$snap = BlazeSnapshot.capture(blaze, level);
+            aki$snap = AsyncBrainPipeline.capture(blaze, "blaze", () -> BlazeSnapshot.capture(blaze, level));
+            if (aki$snap == null) return;
+            final BlazeSnapshot snap = aki$snap;
             CompletableFuture<BlazeDiff> future = AsyncBrainExecutor.runSync(() -> 
-                BlazeCpuCalculator.runCpuOnly(blaze, aki$snap), timeout, TimeUnit.MICROSECONDS);
+                BlazeCpuCalculator.runCpuOnly(snap), timeout, TimeUnit.MICROSECONDS);
             BlazeDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new BlazeDiff());
             if (diff != null && diff.hasChanges()) diff.applyTo(blaze, level);
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            AsyncBrainPipeline.reportError("blaze", e);
+        }
     }
     @Unique private static synchronized void aki$init() {
         if (init) return;
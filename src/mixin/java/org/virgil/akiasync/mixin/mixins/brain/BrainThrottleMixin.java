@@ -3,6 +3,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.phys.Vec3;
@@ -19,30 +20,37 @@ public abstract class BrainThrottleMixin<E extends LivingEntity> {
     private void akiasync$tickThrottle(net.minecraft.server.level.ServerLevel level, E entity, CallbackInfo ci) {
         if (!initialized) { akiasync$initBrainThrottle(); }
         if (!cached_enabled) return;
-        long gameTime = level.getGameTime();
-        if (gameTime < this.akiasync$skipUntil) {
-            ci.cancel();
-            return;
-        }
-        Vec3 cur = entity.position();
-        if (akiasync$lastPos == null) {
-            akiasync$lastPos = cur;
-            akiasync$stillTicks = 0;
-            return;
-        }
-        double dx = cur.x - akiasync$lastPos.x;
-        double dy = cur.y - akiasync$lastPos.y;
-        double dz = cur.z - akiasync$lastPos.z;
-        double dist2 = dx * dx + dy * dy + dz * dz;
-        if (!entity.isInWater() && entity.onGround() && dist2 < 1.0E-4) {
-            akiasync$stillTicks++;
-            if (akiasync$stillTicks >= cached_interval) {
-                this.akiasync$skipUntil = gameTime + cached_interval;
+        long hookStart = HookProfiler.begin();
+        try {
+            long gameTime = level.getGameTime();
+            if (gameTime < this.akiasync$skipUntil) {
                 ci.cancel();
+                HookProfiler.recordSaved(HookProfiler.Hook.BRAIN_THROTTLE, entity.getType());
+                return;
             }
-        } else {
-            akiasync$stillTicks = 0;
-            akiasync$lastPos = cur;
+            Vec3 cur = entity.position();
+            if (akiasync$lastPos == null) {
+                akiasync$lastPos = cur;
+                akiasync$stillTicks = 0;
+                return;
+            }
+            double dx = cur.x - akiasync$lastPos.x;
+            double dy = cur.y - akiasync$lastPos.y;
+            double dz = cur.z - akiasync$lastPos.z;
+            double dist2 = dx * dx + dy * dy + dz * dz;
+            if (!entity.isInWater() && entity.onGround() && dist2 < 1.0E-4) {
+                akiasync$stillTicks++;
+                if (akiasync$stillTicks >= cached_interval) {
+                    this.akiasync$skipUntil = gameTime + cached_interval;
+                    ci.cancel();
+                    HookProfiler.recordSaved(HookProfiler.Hook.BRAIN_THROTTLE, entity.getType());
+                }
+            } else {
+                akiasync$stillTicks = 0;
+                akiasync$lastPos = cur;
+            }
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.BRAIN_THROTTLE, entity.getType(), hookStart);
         }
     }
     private static synchronized void akiasync$initBrainThrottle() {
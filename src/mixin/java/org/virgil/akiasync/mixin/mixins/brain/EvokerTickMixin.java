@@ -7,6 +7,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.evoker.EvokerCpuCalculator;
 import org.virgil.akiasync.mixin.brain.evoker.EvokerDiff;
 import org.virgil.akiasync.mixin.brain.evoker.EvokerSnapshot;
@@ -20,6 +21,7 @@ public abstract class EvokerTickMixin {
     @Unique private static volatile long timeout;
     @Unique private static volatile boolean init = false;
     @Unique private EvokerSnapshot aki$snap;
+    @Unique private AsyncBrainPipeline.BrainJob<EvokerDiff> aki$job;
     @Unique private long aki$next = 0;
     @Inject(method = "tick", at = @At("TAIL"))
     private void aki$evoker(CallbackInfo ci) {
@@ -30,13 +32,25 @@ public abstract class EvokerTickMixin {
         ServerLevel level = (ServerLevel) evoker.level();
         if (level == null || level.getGameTime() < aki$next) return;
         aki$next = level.getGameTime() + 3;
+        if (AsyncBrainPipeline.isEnabled()) {
+            if (AsyncBrainPipeline.isBusy(aki$job)) return;
+            aki$job = AsyncBrainPipeline.captureAndSubmit(evoker, "evoker", () -> EvokerSnapshot.capture(evoker, level),
+                EvokerCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) diff.applyTo(evoker, level);
+                });
+            return;
+        }
         try {
-            aki$snap = EvokerSnapshot.capture(evoker, level);
+            aki$snap = AsyncBrainPipeline.capture(evoker, "evoker", () -> EvokerSnapshot.capture(evoker, level));
+            if (aki$snap == null) return;
+            final EvokerSnapshot snap = aki$snap;
             CompletableFuture<EvokerDiff> future = AsyncBrainExecutor.runSync(() -> 
-                EvokerCpuCalculator.runCpuOnly(evoker, aki$snap), timeout, TimeUnit.MICROSECONDS);
+                EvokerCpuCalculator.runCpuOnly(snap), timeout, TimeUnit.MICROSECONDS);
             EvokerDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new EvokerDiff());
             if (diff != null && diff.hasChanges()) diff.applyTo(evoker, level);
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            AsyncBrainPipeline.reportError("evoker", e);
+        }
     }
     @Unique private static synchronized void aki$init() {
         if (init) return;
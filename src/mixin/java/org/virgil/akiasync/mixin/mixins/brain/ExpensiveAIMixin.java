@@ -10,9 +10,14 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.villager.BrainCpuCalculator;
 import org.virgil.akiasync.mixin.brain.villager.BrainDiff;
 import org.virgil.akiasync.mixin.brain.villager.BrainSnapshot;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+import org.virgil.akiasync.mixin.metrics.AllocationTracker;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
@@ -41,6 +46,7 @@ public abstract class ExpensiveAIMixin<E extends LivingEntity> {
     @Unique private static volatile boolean initialized = false;
     @Unique private Map<BlockPos, PoiRecord> aki$poiSnapshot;
     @Unique private BrainSnapshot aki$brainSnapshot;
+    @Unique private AsyncBrainPipeline.BrainJob<BrainDiff> aki$job;
     @Unique private static int executionCount = 0;
     @Unique private static int successCount = 0;
     @Unique private static int timeoutCount = 0;
@@ -59,25 +65,37 @@ public abstract class ExpensiveAIMixin<E extends LivingEntity> {
         } else {
             return;
         }
-        if (usePOI) {
-            try {
-                PoiManager poiManager = level.getPoiManager();
-                this.aki$poiSnapshot = poiManager.getInRange(
-                    type -> true,
-                    entity.blockPosition(),
-                    48,
-                    PoiManager.Occupancy.ANY
-                ).collect(ImmutableMap.toImmutableMap(
-                    PoiRecord::getPos,
-                    record -> record
-                ));
-            } catch (Exception e) {
-                this.aki$poiSnapshot = null;
-                return;
+        if (AsyncBrainPipeline.isEnabled() && AsyncBrainPipeline.isBusy(this.aki$job)) {
+            return;
+        }
+        long hookStart = HookProfiler.begin();
+        long costStart = AiCostLeaderboard.begin();
+        long startBytes = AllocationTracker.begin();
+        try {
+            if (usePOI) {
+                try {
+                    PoiManager poiManager = level.getPoiManager();
+                    this.aki$poiSnapshot = poiManager.getInRange(
+                        type -> true,
+                        entity.blockPosition(),
+                        48,
+                        PoiManager.Occupancy.ANY
+                    ).collect(ImmutableMap.toImmutableMap(
+                        PoiRecord::getPos,
+                        record -> record
+                    ));
+                } catch (Exception e) {
+                    this.aki$poiSnapshot = null;
+                    return;
+                }
             }
+            Brain<E> brain = (Brain<E>) (Object) this;
+            this.aki$brainSnapshot = BrainSnapshot.capture(brain, level);
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.BRAIN_SNAPSHOT, entity.getType(), hookStart);
+            AiCostLeaderboard.end(AiCostLeaderboard.Metric.SNAPSHOT, entity, costStart);
+            AllocationTracker.end(MetricSubsystem.BRAIN, startBytes);
         }
-        Brain<E> brain = (Brain<E>) (Object) this;
-        this.aki$brainSnapshot = BrainSnapshot.capture(brain, level);
     }
     @Inject(method = "tick", at = @At("RETURN"))
     private void aki$offloadBrain(ServerLevel level, E entity, CallbackInfo ci) {
@@ -93,9 +111,18 @@ public abstract class ExpensiveAIMixin<E extends LivingEntity> {
         final BrainSnapshot snapshot = this.aki$brainSnapshot;
         final Map<BlockPos, PoiRecord> poiSnap = this.aki$poiSnapshot;
         try {
+            if (AsyncBrainPipeline.isEnabled()) {
+                this.aki$job = AsyncBrainPipeline.submit(entity, "villager", snapshot, snap -> BrainCpuCalculator.runCpuOnly(snap, poiSnap), diff -> {
+                    if (diff.hasChanges()) {
+                        diff.applyTo(brain);
+                        successCount++;
+                    }
+                });
+                return;
+            }
             long shortTimeout = Math.min(cached_timeoutMicros, 100L);
             CompletableFuture<BrainDiff> future = AsyncBrainExecutor.runSync(() -> {
-                return BrainCpuCalculator.runCpuOnly(brain, level, poiSnap);
+                return BrainCpuCalculator.runCpuOnly(snapshot, poiSnap);
             }, shortTimeout, TimeUnit.MICROSECONDS);
             BrainDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(
                 future, 
@@ -139,7 +166,7 @@ public abstract class ExpensiveAIMixin<E extends LivingEntity> {
             cached_piglinUsePOI = bridge.isPiglinUsePOISnapshot();
             cached_simpleEnabled = bridge.isSimpleEntitiesOptimizationEnabled();
             cached_simpleUsePOI = bridge.isSimpleEntitiesUsePOISnapshot();
-            AsyncBrainExecutor.setExecutor(bridge.getGeneralExecutor());
+            AsyncBrainExecutor.setExecutor(org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.lane(org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.AI));
         } else {
             cached_timeoutMicros = 500;
             cached_villagerEnabled = false;
@@ -3,6 +3,7 @@ import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.*;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.guardian.*;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Mob;
@@ -15,6 +16,7 @@ public abstract class GuardianTickMixin {
     @Unique private static volatile long timeout;
     @Unique private static volatile boolean init = false;
     @Unique private GuardianSnapshot aki$snap;
+    @Unique private AsyncBrainPipeline.BrainJob<GuardianDiff> aki$job;
     @Unique private long aki$next = 0;
     @Inject(method = "tick", at = @At("TAIL"))
     private void aki$guardian(CallbackInfo ci) {
@@ -25,13 +27,25 @@ public abstract class GuardianTickMixin {
         ServerLevel level = (ServerLevel) guardian.level();
         if (level == null || level.getGameTime() < aki$next) return;
         aki$next = level.getGameTime() + 3;
+        if (AsyncBrainPipeline.isEnabled()) {
+            if (AsyncBrainPipeline.isBusy(aki$job)) return;
+            aki$job = AsyncBrainPipeline.captureAndSubmit(guardian, "guardian", () -> GuardianSnapshot.capture(guardian, level),
+                GuardianCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) diff.applyTo(guardian, level);
+                });
+            return;
+        }
         try {
-            aki$snap = GuardianSnapshot.capture(guardian, level);
+            aki$snap = AsyncBrainPipeline.capture(guardian, "guardian", () -> GuardianSnapshot.capture(guardian, level));
+            if (aki$snap == null) return;
+            final GuardianSnapshot snap = aki$snap;
             CompletableFuture<GuardianDiff> future = AsyncBrainExecutor.runSync(() -> 
-                GuardianCpuCalculator.runCpuOnly(guardian, aki$snap), timeout, TimeUnit.MICROSECONDS);
+                GuardianCpuCalculator.runCpuOnly(snap), timeout, TimeUnit.MICROSECONDS);
             GuardianDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new GuardianDiff());
             if (diff != null && diff.hasChanges()) diff.applyTo(guardian, level);
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            AsyncBrainPipeline.reportError("guardian", e);
+        }
     }
     @Unique private static synchronized void aki$init() {
         if (init) return;
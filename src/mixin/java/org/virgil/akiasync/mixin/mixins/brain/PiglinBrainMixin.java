@@ -7,6 +7,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.piglin.PiglinCpuCalculator;
 import org.virgil.akiasync.mixin.brain.piglin.PiglinDiff;
 import org.virgil.akiasync.mixin.brain.piglin.PiglinSnapshot;
@@ -22,6 +23,7 @@ public abstract class PiglinBrainMixin {
     @Unique private static volatile int cached_barterDistance;
     @Unique private static volatile boolean initialized = false;
     @Unique private PiglinSnapshot aki$snapshot;
+    @Unique private AsyncBrainPipeline.BrainJob<PiglinDiff> aki$job;
     @Unique private long aki$nextAsyncTick = 0;
     @Unique private static int executionCount = 0;
     @Unique private static int successCount = 0;
@@ -41,15 +43,14 @@ public abstract class PiglinBrainMixin {
         if (level.getGameTime() < this.aki$nextAsyncTick) {
             return;
         }
+        if (AsyncBrainPipeline.isEnabled() && AsyncBrainPipeline.isBusy(this.aki$job)) {
+            return;
+        }
         this.aki$nextAsyncTick = level.getGameTime() + cached_tickInterval;
-        try {
-            if (piglin != null) {
-                this.aki$snapshot = PiglinSnapshot.capture(piglin, level);
-            } else if (brute != null) {
-                this.aki$snapshot = PiglinSnapshot.captureSimple(brute, level);
-            }
-        } catch (Exception e) {
-            this.aki$snapshot = null;
+        if (piglin != null) {
+            this.aki$snapshot = AsyncBrainPipeline.capture(piglin, "piglin", () -> PiglinSnapshot.capture(piglin, level));
+        } else if (brute != null) {
+            this.aki$snapshot = AsyncBrainPipeline.capture(brute, "piglin", () -> PiglinSnapshot.captureSimple(brute, level));
         }
     }
     @Inject(method = "customServerAiStep", at = @At("RETURN"))
@@ -63,8 +64,17 @@ public abstract class PiglinBrainMixin {
         if (level == null) return;
         final PiglinSnapshot snapshot = this.aki$snapshot;
         try {
+            if (AsyncBrainPipeline.isEnabled()) {
+                this.aki$job = AsyncBrainPipeline.submit(abstractPiglin, "piglin", snapshot, PiglinCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) {
+                        diff.applyTo(abstractPiglin.getBrain(), level, cached_lookDistance, cached_barterDistance);
+                        successCount++;
+                    }
+                });
+                return;
+            }
             CompletableFuture<PiglinDiff> future = AsyncBrainExecutor.runSync(() -> {
-                return PiglinCpuCalculator.runCpuOnly(abstractPiglin, level, snapshot);
+                return PiglinCpuCalculator.runCpuOnly(snapshot);
             }, cached_timeoutMicros, TimeUnit.MICROSECONDS);
             PiglinDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(
                 future,
@@ -111,7 +121,7 @@ public abstract class PiglinBrainMixin {
             cached_tickInterval = 3;
             cached_lookDistance = bridge.getPiglinLookDistance();
             cached_barterDistance = bridge.getPiglinBarterDistance();
-            AsyncBrainExecutor.setExecutor(bridge.getGeneralExecutor());
+            AsyncBrainExecutor.setExecutor(org.virgil.akiasync.mixin.async.scheduler.AkiScheduler.lane(org.virgil.akiasync.mixin.async.scheduler.SchedulerLane.AI));
         } else {
             cached_enabled = false;
             cached_timeoutMicros = 100;
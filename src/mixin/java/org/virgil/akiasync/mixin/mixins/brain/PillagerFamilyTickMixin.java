@@ -7,6 +7,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.pillager.PillagerCpuCalculator;
 import org.virgil.akiasync.mixin.brain.pillager.PillagerDiff;
 import org.virgil.akiasync.mixin.brain.pillager.PillagerSnapshot;
@@ -20,6 +21,7 @@ public abstract class PillagerFamilyTickMixin {
     @Unique private static volatile long cached_timeoutMicros;
     @Unique private static volatile boolean initialized = false;
     @Unique private PillagerSnapshot aki$snapshot;
+    @Unique private AsyncBrainPipeline.BrainJob<PillagerDiff> aki$job;
     @Unique private long aki$nextAsyncTick = 0;
     @Inject(method = "tick", at = @At("TAIL"))
     private void aki$pillagerFamilySnapshot(CallbackInfo ci) {
@@ -36,10 +38,20 @@ public abstract class PillagerFamilyTickMixin {
         if (level == null) return;
         if (level.getGameTime() < this.aki$nextAsyncTick) return;
         this.aki$nextAsyncTick = level.getGameTime() + 3;
+        if (AsyncBrainPipeline.isEnabled()) {
+            if (AsyncBrainPipeline.isBusy(this.aki$job)) return;
+            this.aki$job = AsyncBrainPipeline.captureAndSubmit(illager, "pillager", () -> PillagerSnapshot.capture(illager, level),
+                PillagerCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) diff.applyTo(illager, level);
+                });
+            return;
+        }
         try {
-            this.aki$snapshot = PillagerSnapshot.capture(illager, level);
+            this.aki$snapshot = AsyncBrainPipeline.capture(illager, "pillager", () -> PillagerSnapshot.capture(illager, level));
+            if (this.aki$snapshot == null) return;
+            final PillagerSnapshot snapshot = this.aki$snapshot;
             CompletableFuture<PillagerDiff> future = AsyncBrainExecutor.runSync(() -> {
-                return PillagerCpuCalculator.runCpuOnly(illager, aki$snapshot);
+                return PillagerCpuCalculator.runCpuOnly(snapshot);
             }, cached_timeoutMicros, TimeUnit.MICROSECONDS);
             PillagerDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(
                 future, cached_timeoutMicros, TimeUnit.MICROSECONDS, () -> new PillagerDiff()
@@ -47,7 +59,9 @@ public abstract class PillagerFamilyTickMixin {
             if (diff != null && diff.hasChanges()) {
                 diff.applyTo(illager, level);
             }
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            AsyncBrainPipeline.reportError("pillager", e);
+        }
     }
     @Unique
     private static synchronized void aki$init() {
@@ -8,9 +8,11 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.universal.UniversalAiCpuCalculator;
 import org.virgil.akiasync.mixin.brain.universal.UniversalAiDiff;
 import org.virgil.akiasync.mixin.brain.universal.UniversalAiSnapshot;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
 import org.virgil.akiasync.mixin.optimization.cache.BlockPosIterationCache;
 
 import net.minecraft.server.level.ServerLevel;
@@ -28,6 +30,7 @@ public abstract class UniversalAiFamilyTickMixin {
     @Unique private static long protectionCount = 0;
     @Unique private static long totalChecks = 0;
     @Unique private UniversalAiSnapshot aki$snap;
+    @Unique private AsyncBrainPipeline.BrainJob<UniversalAiDiff> aki$job;
     @Unique private long aki$next = 0;
     @Unique private Vec3 aki$lastPos;
     @Unique private int aki$stillTicks = 0;
@@ -35,30 +38,48 @@ public abstract class UniversalAiFamilyTickMixin {
     private void aki$universal(CallbackInfo ci) {
         if (!init) { aki$init(); }
         if (!enabled) return;
-        String entityType = ((Mob)(Object)this).getType().toString();
-        if (enabledEntities != null && !enabledEntities.contains(entityType)) {
-            return;
-        }
         Mob mob = (Mob) (Object) this;
-        ServerLevel level = (ServerLevel) mob.level();
-        if (level == null) return;
+        long hookStart = HookProfiler.begin();
+        try {
+            String entityType = mob.getType().toString();
+            if (enabledEntities != null && !enabledEntities.contains(entityType)) {
+                return;
+            }
+            ServerLevel level = (ServerLevel) mob.level();
+            if (level == null) return;
         
-        boolean isNewEntity = aki$next == 0;
-        boolean inDanger = mob.isInLava() || mob.isOnFire() || mob.getHealth() < mob.getMaxHealth() || mob.hurtTime > 0;
+            boolean isNewEntity = aki$next == 0;
+            boolean inDanger = mob.isInLava() || mob.isOnFire() || mob.getHealth() < mob.getMaxHealth() || mob.hurtTime > 0;
         
-        if (!isNewEntity && !inDanger && level.getGameTime() < aki$next) return;
+            if (!isNewEntity && !inDanger && level.getGameTime() < aki$next) return;
         
-        aki$next = level.getGameTime() + 3;
-        if (respectBrainThrottle && !inDanger && aki$shouldSkipDueToStill(mob)) {
-            return;
+            aki$next = level.getGameTime() + 3;
+            if (respectBrainThrottle && !inDanger && aki$shouldSkipDueToStill(mob)) {
+                HookProfiler.recordSaved(HookProfiler.Hook.UNIVERSAL_AI, mob.getType());
+                return;
+            }
+            if (AsyncBrainPipeline.isEnabled()) {
+                if (AsyncBrainPipeline.isBusy(aki$job)) return;
+                aki$job = AsyncBrainPipeline.captureAndSubmit(mob, "universal", () -> UniversalAiSnapshot.capture(mob, level),
+                    UniversalAiCpuCalculator::runCpuOnly, diff -> {
+                        if (diff.hasChanges()) diff.applyTo(mob, level);
+                    });
+                return;
+            }
+            try {
+                aki$snap = AsyncBrainPipeline.capture(mob, "universal", () -> UniversalAiSnapshot.capture(mob, level));
+                if (aki$snap == null) return;
+                final UniversalAiSnapshot snap = aki$snap;
+                CompletableFuture<UniversalAiDiff> future = AsyncBrainExecutor.runSync(() -> 
+                    UniversalAiCpuCalculator.runCpuOnly(snap), timeout, TimeUnit.MICROSECONDS);
+                UniversalAiDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new UniversalAiDiff());
+                if (diff != null && diff.hasChanges()) diff.applyTo(mob, level);
+            } catch (Exception e) {
+                AsyncBrainPipeline.reportError("universal", e);
+            }
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.UNIVERSAL_AI, mob.getType(), hookStart);
         }
-        try {
-            aki$snap = UniversalAiSnapshot.capture(mob, level);
-            CompletableFuture<UniversalAiDiff> future = AsyncBrainExecutor.runSync(() -> 
-                UniversalAiCpuCalculator.runCpuOnly(mob, aki$snap), timeout, TimeUnit.MICROSECONDS);
-            UniversalAiDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new UniversalAiDiff());
-            if (diff != null && diff.hasChanges()) diff.applyTo(mob, level);
-        } catch (Exception ignored) {}
     }
     @Unique
     private boolean aki$shouldSkipDueToStill(Mob mob) {
@@ -81,7 +102,10 @@ public abstract class UniversalAiFamilyTickMixin {
         if (!mob.isInWater() && !mob.isInLava() && mob.onGround() && dist2 < 1.0E-4) {
             aki$stillTicks++;
             if (aki$stillTicks >= 10) {
-                if (aki$shouldProtectAI(mob)) {
+                long protectStart = HookProfiler.begin();
+                boolean protect = aki$shouldProtectAI(mob);
+                HookProfiler.end(HookProfiler.Hook.UNIVERSAL_AI_PROTECT, mob.getType(), protectStart);
+                if (protect) {
                     return false;
                 }
                 return true;
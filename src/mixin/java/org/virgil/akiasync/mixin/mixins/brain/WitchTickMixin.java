@@ -5,6 +5,7 @@ import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.*;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.virgil.akiasync.mixin.brain.core.AsyncBrainExecutor;
+import org.virgil.akiasync.mixin.brain.core.AsyncBrainPipeline;
 import org.virgil.akiasync.mixin.brain.witch.*;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Mob;
@@ -17,6 +18,7 @@ public abstract class WitchTickMixin {
     @Unique private static volatile long timeout;
     @Unique private static volatile boolean init = false;
     @Unique private WitchSnapshot aki$snap;
+    @Unique private AsyncBrainPipeline.BrainJob<WitchDiff> aki$job;
     @Unique private long aki$next = 0;
     @Inject(method = "tick", at = @At("TAIL"))
     private void aki$witch(CallbackInfo ci) {
@@ -27,13 +29,25 @@ public abstract class WitchTickMixin {
         ServerLevel level = (ServerLevel) witch.level();
         if (level == null || level.getGameTime() < aki$next) return;
         aki$next = level.getGameTime() + 3;
+        if (AsyncBrainPipeline.isEnabled()) {
+            if (AsyncBrainPipeline.isBusy(aki$job)) return;
+            aki$job = AsyncBrainPipeline.captureAndSubmit(witch, "witch", () -> WitchSnapshot.capture(witch, level),
+                WitchCpuCalculator::runCpuOnly, diff -> {
+                    if (diff.hasChanges()) diff.applyTo(witch, level);
+                });
+            return;
+        }
         try {
-            aki$snap = WitchSnapshot.capture(witch, level);
+            aki$snap = AsyncBrainPipeline.capture(witch, "witch", () -> WitchSnapshot.capture(witch, level));
+            if (aki$snap == null) return;
+            final WitchSnapshot snap = aki$snap;
             CompletableFuture<WitchDiff> future = AsyncBrainExecutor.runSync(() -> 
-                WitchCpuCalculator.runCpuOnly(witch, aki$snap), timeout, TimeUnit.MICROSECONDS);
+                WitchCpuCalculator.runCpuOnly(snap), timeout, TimeUnit.MICROSECONDS);
             WitchDiff diff = AsyncBrainExecutor.getWithTimeoutOrRunSync(future, timeout, TimeUnit.MICROSECONDS, () -> new WitchDiff());
             if (diff != null && diff.hasChanges()) diff.applyTo(witch, level);
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            AsyncBrainPipeline.reportError("witch", e);
+        }
     }
     @Unique private static synchronized void aki$init() {
         if (init) return;
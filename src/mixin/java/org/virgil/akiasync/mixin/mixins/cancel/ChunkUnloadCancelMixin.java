@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.mixins.cancel;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.cancel.CancellationRegistry;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+@SuppressWarnings("unused")
+@Mixin(ServerLevel.class)
+public abstract class ChunkUnloadCancelMixin {
+
+    @Inject(method = "unload", at = @At("HEAD"), require = 0)
+    private void aki$cancelPendingWork(LevelChunk chunk, CallbackInfo ci) {
+        ChunkPos pos = chunk.getPos();
+        CancellationRegistry.cancelChunk((ServerLevel) (Object) this, pos.x, pos.z);
+    }
+}
@@ -0,0 +1,19 @@
+package org.virgil.akiasync.mixin.mixins.cancel;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.async.cancel.CancellationRegistry;
+
+import net.minecraft.world.entity.Entity;
+
+@SuppressWarnings("unused")
+@Mixin(Entity.class)
+public abstract class EntityRemovalCancelMixin {
+
+    @Inject(method = "setRemoved", at = @At("HEAD"), require = 0)
+    private void aki$cancelPendingWork(CallbackInfo ci) {
+        CancellationRegistry.cancelEntity(((Entity) (Object) this).getId());
+    }
+}
@@ -13,10 +13,12 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import org.virgil.akiasync.mixin.async.apply.ApplySubsystem;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Set;
 import java.util.HashSet;
@@ -37,9 +39,6 @@ public abstract class ServerLevelTickBlockMixin {
     @Unique
     private static final int MAX_PENDING_TASKS = 50;
 
-    @Unique
-    private static final int MAX_QUEUE_SIZE = 4096;
-
     @Unique
     private static long totalTasksSubmitted = 0;
     @Unique
@@ -176,33 +175,8 @@ public abstract class ServerLevelTickBlockMixin {
     }
 
     @Unique
-    private static volatile ExecutorService executorService;
-
-    @Unique
-    private static synchronized ExecutorService getExecutor() {
-        if (executorService == null) {
-            int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
-            executorService = new ThreadPoolExecutor(
-                    poolSize,
-                    poolSize,
-                    30L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(MAX_QUEUE_SIZE),
-                    r -> {
-                        Thread t = new Thread(r, "AkiAsync-Pool");
-                        t.setDaemon(true);
-                        return t;
-                    },
-                    (r, executor) -> {
-                        totalTasksRejected++;
-                        if (totalTasksRejected % 100 == 0) {
-                            LOGGER.warn("线程池队列已满，已拒绝 {} 个任务，回退到主线程执行", totalTasksRejected);
-                        }
-                    }
-            );
-            LOGGER.info("[AkiAsync] 线程池已初始化: 线程数={}, 队列大小={}, 最大待处理任务={}",
-                    poolSize, MAX_QUEUE_SIZE, MAX_PENDING_TASKS);
-        }
-        return executorService;
+    private static LaneExecutor getExecutor() {
+        return AkiScheduler.lane(SchedulerLane.TICK_CRITICAL);
     }
 
     @Inject(method = "tickBlock", at = @At("HEAD"), cancellable = true)
@@ -240,21 +214,27 @@ public abstract class ServerLevelTickBlockMixin {
         final BlockPos taskPos = pos;
         final BlockState taskState = blockState;
 
-        try {
-            getExecutor().execute(() -> {
-                try {
-                    taskState.tick(taskLevel, taskPos, taskLevel.random);
-                } catch (Throwable t) {
-                    handleAsyncError(taskLevel, taskPos, block, t);
-                } finally {
-                    pendingTasks.decrementAndGet();
-                }
-            });
+        LaneExecutor.Admission admission = getExecutor().admit("chunk-tick", java.util.Map.entry(taskLevel, taskPos.asLong()), org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.CHUNK_TICK, null, taskPos.getX() >> 4, taskPos.getZ() >> 4, () -> {
+            try {
+                taskState.tick(taskLevel, taskPos, taskLevel.random);
+            } catch (Throwable t) {
+                handleAsyncError(taskLevel, taskPos, block, t);
+            } finally {
+                pendingTasks.decrementAndGet();
+            }
+        }));
 
+        if (admission == LaneExecutor.Admission.ACCEPTED || admission == LaneExecutor.Admission.DEFERRED) {
             ci.cancel();
-        } catch (Exception e) {
+        } else if (admission == LaneExecutor.Admission.COALESCED) {
             pendingTasks.decrementAndGet();
-            LOGGER.warn("任务提交失败，回退到同步执行: {}", e.getMessage());
+            ci.cancel();
+        } else {
+            pendingTasks.decrementAndGet();
+            totalTasksRejected++;
+            org.virgil.akiasync.mixin.metrics.jfr.AkiJfr.fallback("chunk_tick", "rejected", null, taskPos.getX() >> 4, taskPos.getZ() >> 4);
+            org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.rejected(org.virgil.akiasync.mixin.metrics.MetricSubsystem.CHUNK_TICK,
+                admission.name().toLowerCase(java.util.Locale.ROOT), getExecutor().isShutdown());
         }
     }
 
@@ -287,7 +267,7 @@ public abstract class ServerLevelTickBlockMixin {
             }
             LOGGER.warn("检测到不安全的异步方块tick，已加入动态黑名单: {}", blockName);
 
-            level.getServer().execute(() -> {
+            MainThreadApplyQueue.submit(ApplySubsystem.CHUNK_TICK, () -> {
                 try {
                     BlockState current = level.getBlockState(pos);
                     if (current.is(block)) {
@@ -5,6 +5,8 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
@@ -21,18 +23,27 @@ public abstract class EntityLookupCacheMixin {
     private void cacheGetEntities(Entity except, AABB box, Predicate<? super Entity> predicate, CallbackInfoReturnable<List<Entity>> cir) {
         if (!initialized) { akiasync$initLookupCache(); }
         if (!enabled) return;
-        long now = System.currentTimeMillis();
-        if (cachedEntities != null && 
-            cachedBox != null && 
-            cachedBox.equals(box) && 
-            now - cacheTime < cacheDuration) {
-            List<Entity> filtered = new java.util.ArrayList<>();
-            for (Entity entity : cachedEntities) {
-                if (entity != except && (predicate == null || predicate.test(entity))) {
-                    filtered.add(entity);
+        long hookStart = HookProfiler.begin();
+        try {
+            long now = System.currentTimeMillis();
+            if (cachedEntities != null && 
+                cachedBox != null && 
+                cachedBox.equals(box) && 
+                now - cacheTime < cacheDuration) {
+                List<Entity> filtered = new java.util.ArrayList<>();
+                for (Entity entity : cachedEntities) {
+                    if (entity != except && (predicate == null || predicate.test(entity))) {
+                        filtered.add(entity);
+                    }
                 }
+                cir.setReturnValue(filtered);
+                HookProfiler.recordSaved(HookProfiler.Hook.ENTITY_LOOKUP_CACHE, except != null ? except.getType() : null);
+                AkiJfr.cache("entity-lookup", true);
+            } else {
+                AkiJfr.cache("entity-lookup", false);
             }
-            cir.setReturnValue(filtered);
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.ENTITY_LOOKUP_CACHE, except != null ? except.getType() : null, hookStart);
         }
     }
     @Inject(method = "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/function/Predicate;)Ljava/util/List;", at = @At("RETURN"))
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -19,9 +20,9 @@ public abstract class EntityTickChunkParallelMixin {
     private static volatile int minEntities;
     private static volatile int batchSize;
     private static volatile boolean initialized = false;
+    private static volatile int configGeneration = -1;
     private static volatile java.util.concurrent.ExecutorService dedicatedPool;
     private static int executionCount = 0;
-    private static long lastMspt = 20;
     private static final java.lang.reflect.Field ACTIVE_FIELD_CACHE;
     static {
         java.lang.reflect.Field tempField = null;
@@ -53,8 +54,9 @@ public abstract class EntityTickChunkParallelMixin {
     private long lastCacheTick;
     @Inject(method = "forEach", at = @At("HEAD"), cancellable = true)
     private void entityBatchedParallel(Consumer<EntityAccess> action, CallbackInfo ci) {
-        if (!initialized) { akiasync$initEntityTickParallel(); }
+        if (!initialized || configGeneration != org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration()) { akiasync$initEntityTickParallel(); }
         if (!enabled) return;
+        long startBytes = org.virgil.akiasync.mixin.metrics.AllocationTracker.begin();
         if (cachedList == null || System.currentTimeMillis() - lastCacheTick > 50) {
             cachedList = getActiveEntities();
             lastCacheTick = System.currentTimeMillis();
@@ -63,18 +65,19 @@ public abstract class EntityTickChunkParallelMixin {
         ci.cancel();
         executionCount++;
         List<List<EntityAccess>> batches = partition(cachedList, batchSize);
-        long adaptiveTimeout = calculateAdaptiveTimeout(lastMspt);
+        org.virgil.akiasync.mixin.metrics.AllocationTracker.end(org.virgil.akiasync.mixin.metrics.MetricSubsystem.ENTITY_TICK, startBytes);
+        long adaptiveTimeout = calculateAdaptiveTimeout(org.virgil.akiasync.mixin.metrics.TickTimeService.getAverageMspt());
+        List<org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.Probe> probes = new ArrayList<>(batches.size());
+        List<AtomicBoolean> claims = new ArrayList<>(batches.size());
         try {
-            List<java.util.concurrent.CompletableFuture<Void>> futures = batches.stream()
-                .map(batch -> java.util.concurrent.CompletableFuture.runAsync(() -> {
-                    batch.forEach(entity -> {
-                        try {
-                            action.accept(entity);
-                        } catch (Throwable t) {
-                        }
-                    });
-                }, dedicatedPool != null ? dedicatedPool : ForkJoinPool.commonPool()))
-                .collect(java.util.stream.Collectors.toList());
+            List<java.util.concurrent.CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
+            for (List<EntityAccess> batch : batches) {
+                org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.Probe probe = org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.probe(org.virgil.akiasync.mixin.metrics.MetricSubsystem.ENTITY_TICK);
+                probes.add(probe);
+                AtomicBoolean claim = new AtomicBoolean(false);
+                claims.add(claim);
+                futures.add(submitBatch(batch, action, probe, claim));
+            }
             java.util.concurrent.CompletableFuture.allOf(futures.toArray(java.util.concurrent.CompletableFuture[]::new))
                 .get(adaptiveTimeout, java.util.concurrent.TimeUnit.MILLISECONDS);
             if (executionCount % 100 == 0) {
@@ -87,13 +90,63 @@ public abstract class EntityTickChunkParallelMixin {
                 }
             }
         } catch (Throwable t) {
+            if (t instanceof java.util.concurrent.TimeoutException) {
+                for (org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.Probe probe : probes) {
+                    if (!probe.isFinished()) {
+                        org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.timeout(probe, adaptiveTimeout * 1_000_000L);
+                    }
+                }
+            } else {
+                org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.failure(org.virgil.akiasync.mixin.metrics.MetricSubsystem.ENTITY_TICK, t,
+                    dedicatedPool != null && dedicatedPool.isShutdown());
+            }
             if (executionCount <= 3) {
                 System.err.println("[AkiAsync-Parallel] Timeout/Error, fallback to sequential: " + t.getMessage());
             }
-            for (EntityAccess entity : cachedList) {
-                try { action.accept(entity); } catch (Throwable ignored) {}
+            for (int i = 0; i < claims.size(); i++) {
+                if (!claims.get(i).compareAndSet(false, true)) {
+                    continue;
+                }
+                for (EntityAccess entity : batches.get(i)) {
+                    try { action.accept(entity); } catch (Throwable ignored) {}
+                }
+            }
+        }
+    }
+    private java.util.concurrent.CompletableFuture<Void> submitBatch(List<EntityAccess> batch, Consumer<EntityAccess> action,
+                                                                     org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.Probe probe,
+                                                                     AtomicBoolean claim) {
+        Runnable timed = org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.ENTITY_TICK, () -> {
+            probe.started();
+            try {
+                batch.forEach(entity -> {
+                    try {
+                        action.accept(entity);
+                    } catch (Throwable t) {
+                    }
+                });
+            } finally {
+                probe.finished();
+            }
+        });
+        Runnable work = () -> {
+            if (claim.compareAndSet(false, true)) {
+                timed.run();
+            }
+        };
+        java.util.concurrent.ExecutorService pool = dedicatedPool;
+        if (pool instanceof org.virgil.akiasync.mixin.async.scheduler.LaneExecutor lane) {
+            java.util.concurrent.CompletableFuture<Void> future = new java.util.concurrent.CompletableFuture<>();
+            if (lane.admit("entity-tick", null, () -> {
+                work.run();
+                future.complete(null);
+            }).isAdmitted()) {
+                return future;
             }
+            work.run();
+            return java.util.concurrent.CompletableFuture.completedFuture(null);
         }
+        return java.util.concurrent.CompletableFuture.runAsync(work, pool != null ? pool : ForkJoinPool.commonPool());
     }
     private List<List<EntityAccess>> partition(List<EntityAccess> list, int size) {
         List<List<EntityAccess>> result = new ArrayList<>();
@@ -102,7 +155,7 @@ public abstract class EntityTickChunkParallelMixin {
         }
         return result;
     }
-    private long calculateAdaptiveTimeout(long mspt) {
+    private long calculateAdaptiveTimeout(double mspt) {
         if (mspt < 20) return 100;
         if (mspt <= 30) return 50;
         return 25;
@@ -120,7 +173,8 @@ public abstract class EntityTickChunkParallelMixin {
         return null;
     }
     private static synchronized void akiasync$initEntityTickParallel() {
-        if (initialized) return;
+        int generation = org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration();
+        if (initialized && configGeneration == generation) return;
         org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (bridge != null) {
             enabled = bridge.isEntityTickParallel();
@@ -135,6 +189,7 @@ public abstract class EntityTickChunkParallelMixin {
             batchSize = 8;
             dedicatedPool = null;
         }
+        configGeneration = generation;
         initialized = true;
         if (bridge != null) {
             bridge.debugLog("[AkiAsync] EntityTickParallelMixin initialized (entity-batched): enabled=" + enabled + 
@@ -16,6 +16,7 @@ public abstract class EntityTrackerMixin {
     private static volatile boolean cached_enabled;
     private static volatile java.util.concurrent.ExecutorService cached_executor;
     private static volatile boolean initialized = false;
+    private static volatile int configGeneration = -1;
     private static int asyncTaskCount = 0;
     private static final java.util.concurrent.ConcurrentLinkedQueue<Runnable> BATCH_QUEUE = 
         new java.util.concurrent.ConcurrentLinkedQueue<>();
@@ -29,7 +30,7 @@ public abstract class EntityTrackerMixin {
     private volatile long lastAsyncUpdate = 0;
     @Inject(method = "updatePlayer", at = @At("HEAD"), cancellable = true)
     private void preUpdatePlayer(ServerPlayer player, CallbackInfo ci) {
-        if (!initialized) { akiasync$initEntityTracker(); }
+        if (!initialized || configGeneration != org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration()) { akiasync$initEntityTracker(); }
         if (!cached_enabled || cached_executor == null || entity instanceof ServerPlayer) return;
         if (entity.getDeltaMovement().lengthSqr() < 1.0E-7 && 
             !entity.isPassenger() && 
@@ -74,7 +75,7 @@ public abstract class EntityTrackerMixin {
                     batch.add(task);
                 }
                 final int batchSize = batch.size();
-                cached_executor.execute(() -> {
+                Runnable batchTask = () -> {
                     try {
                         if (asyncTaskCount <= 2) {
                             org.virgil.akiasync.mixin.bridge.Bridge debugBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
@@ -97,12 +98,24 @@ public abstract class EntityTrackerMixin {
                     } finally {
                         batchSubmitted.set(false);
                     }
-                });
+                };
+                if (cached_executor instanceof org.virgil.akiasync.mixin.async.scheduler.LaneExecutor lane) {
+                    if (!lane.admit("entity-tracker", null, org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.TRACKER, batchTask)).isAdmitted()) {
+                        batchSubmitted.set(false);
+                    }
+                } else {
+                    try {
+                        cached_executor.execute(org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.TRACKER, batchTask));
+                    } catch (java.util.concurrent.RejectedExecutionException e) {
+                        batchSubmitted.set(false);
+                    }
+                }
             }
         }
     }
     private static synchronized void akiasync$initEntityTracker() {
-        if (initialized) return;
+        int generation = org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration();
+        if (initialized && configGeneration == generation) return;
         org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (bridge != null) {
             cached_enabled = bridge.isEntityTrackerEnabled();
@@ -111,6 +124,7 @@ public abstract class EntityTrackerMixin {
             cached_enabled = false;
             cached_executor = null;
         }
+        configGeneration = generation;
         initialized = true;
         if (bridge != null) {
             bridge.debugLog("[AkiAsync] EntityTrackerMixin initialized: enabled=" + cached_enabled + ", executor=" + (cached_executor != null));
@@ -28,13 +28,12 @@ public class TNTExplosionMixin {
             return;
         }
         
-        ci.cancel();
-        
         Vec3 center = tnt.position();
         boolean inWater = tnt.isInWater() || !sl.getFluidState(BlockPos.containing(center)).isEmpty();
         
         if (inWater) {
-            sl.getServer().execute(() -> {
+            ci.cancel();
+            org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue.submit(org.virgil.akiasync.mixin.async.apply.ApplySubsystem.TNT, () -> {
                 try {
                     sl.explode(
                         tnt,
@@ -52,23 +51,42 @@ public class TNTExplosionMixin {
                         bridge.debugLog("[AkiAsync-TNT] Water explosion completed at " + center);
                     }
                 } catch (Exception ex) {
-                    System.err.println("[AkiAsync-TNT] Error in water explosion: " + ex.getMessage());
+                    bridge.errorLog("[AkiAsync-TNT] Error in water explosion: " + ex.getMessage());
                 }
             });
             tnt.discard();
             return;
         }
         
+        long snapshotBytes = org.virgil.akiasync.mixin.metrics.AllocationTracker.begin();
         org.virgil.akiasync.mixin.async.explosion.ExplosionSnapshot snapshot = 
             new org.virgil.akiasync.mixin.async.explosion.ExplosionSnapshot(sl, center, 4.0F, false);
+        org.virgil.akiasync.mixin.metrics.AllocationTracker.end(org.virgil.akiasync.mixin.metrics.MetricSubsystem.EXPLOSION, snapshotBytes);
+        
+        int chunkX = net.minecraft.core.SectionPos.blockToSectionCoord(center.x);
+        int chunkZ = net.minecraft.core.SectionPos.blockToSectionCoord(center.z);
+        org.virgil.akiasync.mixin.async.cancel.CancellationToken token = org.virgil.akiasync.mixin.async.cancel.CancellationRegistry
+            .forChunk(sl, chunkX, chunkZ);
         
-        org.virgil.akiasync.mixin.async.TNTThreadPool.getExecutor().execute(() -> {
+        if (token.isCancelled()) {
+            return;
+        }
+        
+        org.virgil.akiasync.mixin.async.scheduler.LaneExecutor.Admission admission = org.virgil.akiasync.mixin.async.TNTThreadPool.getExecutor().admit("tnt", null, org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.EXPLOSION, tnt.getType(), chunkX, chunkZ, () -> {
             try {
+                if (org.virgil.akiasync.mixin.async.cancel.CancellationRegistry.skipIfCancelled(token, "tnt")) {
+                    explodeOnMainThread(sl, tnt, center, bridge);
+                    return;
+                }
                 org.virgil.akiasync.mixin.async.explosion.ExplosionCalculator calculator = 
-                    new org.virgil.akiasync.mixin.async.explosion.ExplosionCalculator(snapshot);
+                    new org.virgil.akiasync.mixin.async.explosion.ExplosionCalculator(snapshot, token);
                 org.virgil.akiasync.mixin.async.explosion.ExplosionResult result = calculator.calculate();
+                if (result == null || org.virgil.akiasync.mixin.async.cancel.CancellationRegistry.skipIfCancelled(token, "tnt")) {
+                    explodeOnMainThread(sl, tnt, center, bridge);
+                    return;
+                }
                 
-                sl.getServer().execute(() -> {
+                org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue.submit(org.virgil.akiasync.mixin.async.apply.ApplySubsystem.TNT, () -> {
                     try {
                         net.minecraft.world.level.ServerExplosion explosion = new net.minecraft.world.level.ServerExplosion(
                             sl, tnt, null, null, center, 4.0F, false, 
@@ -81,26 +99,46 @@ public class TNTExplosionMixin {
                             bridge.debugLog("[AkiAsync-TNT] Async explosion completed at " + center);
                         }
                     } catch (Exception ex) {
-                        System.err.println("[AkiAsync-TNT] Error applying explosion results: " + ex.getMessage());
+                        bridge.errorLog("[AkiAsync-TNT] Error applying explosion results: " + ex.getMessage());
                     }
                 });
             } catch (Exception ex) {
-                System.err.println("[AkiAsync-TNT] Error in async explosion calculation: " + ex.getMessage());
-                sl.getServer().execute(() -> {
-                    try {
-                        net.minecraft.world.level.ServerExplosion explosion = new net.minecraft.world.level.ServerExplosion(
-                            sl, tnt, null, null, center, 4.0F, false, 
-                            net.minecraft.world.level.Explosion.BlockInteraction.DESTROY_WITH_DECAY
-                    );
-                        explosion.explode();
-                    } catch (Exception fallbackEx) {
-                        System.err.println("[AkiAsync-TNT] Fallback explosion failed: " + fallbackEx.getMessage());
-                    }
-                });
+                bridge.errorLog("[AkiAsync-TNT] Error in async explosion calculation: " + ex.getMessage());
+                org.virgil.akiasync.mixin.metrics.jfr.AkiJfr.fallback("explosion", "error", tnt.getType(), chunkX, chunkZ);
+                org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.failure(org.virgil.akiasync.mixin.metrics.MetricSubsystem.EXPLOSION, ex, false);
+                explodeOnMainThread(sl, tnt, center, bridge);
             }
-        });
+        }));
         
-        tnt.discard();
+        switch (admission) {
+            case ACCEPTED, COALESCED, DEFERRED -> {
+                ci.cancel();
+                tnt.discard();
+            }
+            default -> {
+                org.virgil.akiasync.mixin.metrics.jfr.AkiJfr.fallback("explosion", admission.name().toLowerCase(java.util.Locale.ROOT), tnt.getType(), chunkX, chunkZ);
+                org.virgil.akiasync.mixin.metrics.FallbackDiagnostics.rejected(org.virgil.akiasync.mixin.metrics.MetricSubsystem.EXPLOSION,
+                    admission.name().toLowerCase(java.util.Locale.ROOT), org.virgil.akiasync.mixin.async.TNTThreadPool.getExecutor().isShutdown());
+                if (bridge.isTNTDebugEnabled()) {
+                    bridge.debugLog("[AkiAsync-TNT] TNT lane refused explosion at " + center + ", exploding inline");
+                }
+            }
+        }
+    }
+    
+    // The entity is already discarded once the lane accepts it, so any later failure must still detonate
+    private static void explodeOnMainThread(ServerLevel sl, PrimedTnt tnt, Vec3 center, org.virgil.akiasync.mixin.bridge.Bridge bridge) {
+        org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue.submit(org.virgil.akiasync.mixin.async.apply.ApplySubsystem.TNT, () -> {
+            try {
+                net.minecraft.world.level.ServerExplosion explosion = new net.minecraft.world.level.ServerExplosion(
+                    sl, tnt, null, null, center, 4.0F, false, 
+                    net.minecraft.world.level.Explosion.BlockInteraction.DESTROY_WITH_DECAY
+                );
+                explosion.explode();
+            } catch (Exception fallbackEx) {
+                bridge.errorLog("[AkiAsync-TNT] Fallback explosion failed: " + fallbackEx.getMessage());
+            }
+        });
     }
     
     private static void applyExplosionResults(ServerLevel level, 
@@ -257,7 +295,10 @@ public class TNTExplosionMixin {
             
             
         } catch (Exception ex) {
-            System.err.println("[AkiAsync-TNT] Error in applyExplosionResults: " + ex.getMessage());
+            org.virgil.akiasync.mixin.bridge.Bridge errorBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (errorBridge != null) {
+                errorBridge.errorLog("[AkiAsync-TNT] Error in applyExplosionResults: " + ex.getMessage());
+            }
         }
     }
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ public abstract class LightEngineAsyncMixin {
     private static volatile boolean dynamicAdjustmentEnabled = true;
     private static volatile boolean advancedStatsEnabled = false;
     private static volatile boolean initialized = false;
+    private static volatile int configGeneration = -1;
     @SuppressWarnings("unchecked")
     private static final Queue<BlockPos>[] LAYERED_QUEUES = new Queue[16];
     private static final AtomicInteger[] layerSizes = new AtomicInteger[16];
@@ -46,7 +47,7 @@ public abstract class LightEngineAsyncMixin {
     }
     @Inject(method = "checkBlock", at = @At("HEAD"), cancellable = true)
     private void batchLightUpdate(BlockPos pos, CallbackInfo ci) {
-        if (!initialized) { akiasync$initLightEngine(); }
+        if (!initialized || configGeneration != org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration()) { akiasync$initLightEngine(); }
         if (!enabled || processing) return;
         
         try {
@@ -84,13 +85,13 @@ public abstract class LightEngineAsyncMixin {
                     }
                 }
                 if (lightingExecutor != null) {
-                    CompletableFuture.runAsync(() -> {
+                    CompletableFuture.runAsync(org.virgil.akiasync.mixin.metrics.AsyncMetrics.timed(org.virgil.akiasync.mixin.metrics.MetricSubsystem.LIGHTING, () -> {
                         if (useLayeredQueue) {
                             processLayeredBatch();
                         } else {
                             processBatch();
                         }
-                    }, lightingExecutor).orTimeout(1000, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
+                    }), lightingExecutor).orTimeout(1000, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
                         processing = false;
                         if (ex != null && batchCount <= 3) {
                             org.virgil.akiasync.mixin.bridge.Bridge errorBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
@@ -195,7 +196,7 @@ public abstract class LightEngineAsyncMixin {
         }
         lastAdjustmentTime = currentTime;
         try {
-            double tps = getApproximateTPS();
+            double tps = org.virgil.akiasync.mixin.metrics.TickTimeService.getTps();
             if (tps < 18.0) {
                 batchThreshold = Math.min(baseBatchThreshold * 3, 64);
             } else if (tps < 19.0) {
@@ -209,9 +210,6 @@ public abstract class LightEngineAsyncMixin {
             batchThreshold = baseBatchThreshold;
         }
     }
-    private double getApproximateTPS() {
-        return 20.0;
-    }
     private int getTotalQueueSize() {
         if (useLayeredQueue) {
             int total = 0;
@@ -255,7 +253,8 @@ public abstract class LightEngineAsyncMixin {
         }
     }
     private static synchronized void akiasync$initLightEngine() {
-        if (initialized) return;
+        int generation = org.virgil.akiasync.mixin.bridge.BridgeManager.getConfigGeneration();
+        if (initialized && configGeneration == generation) return;
         org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (bridge != null) {
             enabled = bridge.isAsyncLightingEnabled();
@@ -277,6 +276,7 @@ public abstract class LightEngineAsyncMixin {
             advancedStatsEnabled = false;
         }
         baseBatchThreshold = batchThreshold;
+        configGeneration = generation;
         initialized = true;
         org.virgil.akiasync.mixin.bridge.Bridge initBridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
         if (initBridge != null) {
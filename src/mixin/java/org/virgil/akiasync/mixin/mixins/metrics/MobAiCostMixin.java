@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.mixins.metrics;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+import net.minecraft.world.entity.Mob;
+@SuppressWarnings("unused")
+@Mixin(Mob.class)
+public abstract class MobAiCostMixin {
+    @Unique private long aki$aiCostStart;
+    @Inject(method = "serverAiStep", at = @At("HEAD"), require = 0)
+    private void aki$aiStart(CallbackInfo ci) {
+        aki$aiCostStart = AiCostLeaderboard.begin();
+    }
+    @Inject(method = "serverAiStep", at = @At("RETURN"), require = 0)
+    private void aki$aiEnd(CallbackInfo ci) {
+        AiCostLeaderboard.end(AiCostLeaderboard.Metric.AI_TICK, (Mob) (Object) this, aki$aiCostStart);
+        aki$aiCostStart = 0L;
+    }
+}
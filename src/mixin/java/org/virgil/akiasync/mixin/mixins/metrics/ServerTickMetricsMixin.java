@@ -0,0 +1,22 @@
+package org.virgil.akiasync.mixin.mixins.metrics;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.virgil.akiasync.mixin.metrics.TickTimeService;
+import org.virgil.akiasync.mixin.metrics.TickTimeline;
+import net.minecraft.server.MinecraftServer;
+@SuppressWarnings("unused")
+@Mixin(MinecraftServer.class)
+public abstract class ServerTickMetricsMixin {
+    @Inject(method = "tickServer", at = @At("HEAD"), require = 0)
+    private void aki$tickStart(CallbackInfo ci) {
+        TickTimeService.onTickStart();
+        TickTimeline.onTickStart();
+    }
+    @Inject(method = "tickServer", at = @At("RETURN"), require = 0)
+    private void aki$tickEnd(CallbackInfo ci) {
+        TickTimeService.onTickEnd();
+        TickTimeline.onTickEnd();
+    }
+}
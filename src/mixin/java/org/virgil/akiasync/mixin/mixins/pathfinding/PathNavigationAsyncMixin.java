@@ -6,8 +6,17 @@ import java.util.concurrent.CompletableFuture;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.virgil.akiasync.mixin.async.cancel.CancellationRegistry;
+import org.virgil.akiasync.mixin.async.cancel.CancellationToken;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+import org.virgil.akiasync.mixin.metrics.AiCostLeaderboard;
+import org.virgil.akiasync.mixin.metrics.AsyncMetrics;
+import org.virgil.akiasync.mixin.metrics.FallbackDiagnostics;
+import org.virgil.akiasync.mixin.metrics.MetricSubsystem;
+import org.virgil.akiasync.mixin.metrics.jfr.AkiJfr;
 import org.virgil.akiasync.mixin.optimization.cache.BlockPosIterationCache;
-import org.virgil.akiasync.mixin.optimization.thread.VirtualThreadService;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
@@ -21,9 +30,6 @@ public class PathNavigationAsyncMixin {
     private static java.lang.reflect.Method cachedFindPathMethod;
     private static boolean reflectionInitialized = false;
     
-    private static VirtualThreadService.VirtualThreadExecutor virtualExecutor;
-    private static boolean virtualThreadInitialized = false;
-    
     @Redirect(
         method = "tick",
         at = @At(
@@ -49,60 +55,49 @@ public class PathNavigationAsyncMixin {
             return invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
         }
         
-        long chunkKey = getChunkKey(mob.blockPosition());
         CompletableFuture<Path> future = new CompletableFuture<>();
+        CancellationToken token = CancellationRegistry.forEntity(mob);
+        FallbackDiagnostics.Probe probe = FallbackDiagnostics.probe(MetricSubsystem.PATH);
         
-        try {
-            if (!virtualThreadInitialized) {
-                initializeVirtualThread();
+        LaneExecutor.Admission admission = AkiScheduler.lane(SchedulerLane.AI).admit("pathfinding", mob.getUUID(), token, AsyncMetrics.timed(MetricSubsystem.PATH, mob.getType(), mob.chunkPosition().x, mob.chunkPosition().z, () -> {
+            if (future.isDone()) {
+                return;
             }
-            
-            if (virtualExecutor != null) {
-                virtualExecutor.execute(() -> {
-                    Path result = invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
-                    future.complete(result);
-                });
-            } else {
-                Object level = mob.level();
-                java.lang.reflect.Method getSchedulerMethod = 
-                    level.getClass().getMethod("moonrise$getChunkTaskScheduler");
-                Object scheduler = getSchedulerMethod.invoke(level);
-                
-                java.lang.reflect.Field radiusSchedulerField = 
-                    scheduler.getClass().getDeclaredField("radiusAwareScheduler");
-                radiusSchedulerField.setAccessible(true);
-                Object radiusScheduler = radiusSchedulerField.get(scheduler);
-                
-                if (radiusScheduler == null) {
-                    return invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
-                }
-                
-                java.lang.reflect.Method executeMethod = radiusScheduler.getClass().getMethod("execute",
-                    Object.class, long.class, Runnable.class);
-                
-                executeMethod.invoke(radiusScheduler, level, chunkKey, (Runnable) () -> {
-                    Path result = invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
-                    future.complete(result);
-                });
+            probe.started();
+            try {
+                Path result = invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
+                future.complete(result);
+            } finally {
+                probe.finished();
             }
-            
-        } catch (Exception e) {
+        }));
+        if (admission == LaneExecutor.Admission.CANCELLED) {
+            return null;
+        }
+        if (admission == LaneExecutor.Admission.REJECTED || admission == LaneExecutor.Admission.COALESCED) {
+            AkiJfr.fallback(MetricSubsystem.PATH.getMetricName(), admission.name().toLowerCase(java.util.Locale.ROOT), mob.getType(), mob.chunkPosition().x, mob.chunkPosition().z);
+            FallbackDiagnostics.rejected(MetricSubsystem.PATH, admission.name().toLowerCase(java.util.Locale.ROOT), AkiScheduler.lane(SchedulerLane.AI).isShutdown());
             return invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
         }
         
         try {
             return future.get(50, java.util.concurrent.TimeUnit.MICROSECONDS);
         } catch (Exception e) {
+            future.cancel(false);
+            if (e instanceof java.util.concurrent.TimeoutException) {
+                FallbackDiagnostics.timeout(probe, 50_000L);
+            } else {
+                FallbackDiagnostics.failure(MetricSubsystem.PATH, e, false);
+            }
+            AkiJfr.timeout(MetricSubsystem.PATH.getMetricName(), mob.getType(), 50_000L);
+            AkiJfr.fallback(MetricSubsystem.PATH.getMetricName(), "timeout", mob.getType(), mob.chunkPosition().x, mob.chunkPosition().z);
             return invokeFindPathSafely(finder, region, mob, targets, maxRange, accuracy, depth);
         }
     }
     
-    private long getChunkKey(BlockPos pos) {
-        return ((long)(pos.getX() >> 4) << 32) | ((pos.getZ() >> 4) & 0xFFFFFFFFL);
-    }
-    
     private Path invokeFindPathSafely(PathFinder finder, Object region, Mob mob, 
                                      Set<BlockPos> targets, float maxRange, int accuracy, float depth) {
+        long costStart = AiCostLeaderboard.begin();
         try {
             if (!reflectionInitialized) {
                 initializeReflection();
@@ -115,6 +110,8 @@ public class PathNavigationAsyncMixin {
             if (System.currentTimeMillis() % 10000 < 100) {
                 System.err.println("[AkiAsync-PathNav] Reflection error: " + e.getMessage());
             }
+        } finally {
+            AiCostLeaderboard.end(AiCostLeaderboard.Metric.PATHFINDING, mob, costStart);
         }
         return null;
     }
@@ -134,30 +131,4 @@ public class PathNavigationAsyncMixin {
         
         reflectionInitialized = true;
     }
-    
-    private static synchronized void initializeVirtualThread() {
-        if (virtualThreadInitialized) return;
-        
-        try {
-            virtualExecutor = VirtualThreadService.VirtualThreadExecutor.create();
-            if (virtualExecutor != null) {
-                org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                if (bridge != null) {
-                    bridge.debugLog("[AkiAsync-PathNav] Virtual Thread support enabled (Java " + 
-                        VirtualThreadService.getJavaMajorVersion() + ")");
-                }
-            } else {
-                org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
-                if (bridge != null) {
-                    bridge.debugLog("[AkiAsync-PathNav] Virtual Thread not supported, using traditional threads");
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("[AkiAsync-PathNav] Failed to initialize Virtual Thread: " + e.getMessage());
-            virtualExecutor = null;
-        }
-        
-        virtualThreadInitialized = true;
-    }
 }
-
@@ -2,6 +2,7 @@ package org.virgil.akiasync.mixin.mixins.spawning;
 import java.util.List;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.virgil.akiasync.mixin.metrics.HookProfiler;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.minecraft.core.BlockPos;
@@ -53,6 +54,7 @@ public abstract class MobSpawningMixin {
         return ok;
     }
     private static boolean isChunkOverDensity(ServerLevel level, MobCategory category, BlockPos pos) {
+        long hookStart = HookProfiler.begin();
         try {
             int cx = (pos.getX() >> 4) << 4;
             int cz = (pos.getZ() >> 4) << 4;
@@ -60,9 +62,15 @@ public abstract class MobSpawningMixin {
             int maxY = minY + level.dimensionType().height();
             AABB box = new AABB(cx, minY, cz, cx + 16, maxY, cz + 16);
             int mobCount = level.getEntitiesOfClass(Mob.class, box, m -> m.getType().getCategory() == category).size();
-            return cached_maxPerChunk > 0 && mobCount >= cached_maxPerChunk;
+            boolean overDensity = cached_maxPerChunk > 0 && mobCount >= cached_maxPerChunk;
+            if (overDensity) {
+                HookProfiler.recordSaved(HookProfiler.Hook.MOB_SPAWN_DENSITY, category);
+            }
+            return overDensity;
         } catch (Throwable ignored) {
             return false;
+        } finally {
+            HookProfiler.end(HookProfiler.Hook.MOB_SPAWN_DENSITY, category, hookStart);
         }
     }
     private static synchronized void akiasync$initMobSpawning() {
@@ -1,165 +1,340 @@
 package org.virgil.akiasync.mixin.optimization.scheduler;
 
-import java.util.concurrent.*;
+import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.virgil.akiasync.mixin.async.apply.ApplySubsystem;
+import org.virgil.akiasync.mixin.async.apply.MainThreadApplyQueue;
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.LaneExecutor;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
 
 public class WorkStealingTaskScheduler {
-    
-    private final int parallelism;
-    private final ExecutorService executor;
-    private final AtomicInteger taskIndex = new AtomicInteger();
-    private final AtomicInteger finishedTasks = new AtomicInteger();
-    private final ConcurrentLinkedQueue<Runnable> mainThreadTasks = new ConcurrentLinkedQueue<>();
-    
+
+    private static final long JOIN_PARK_NANOS = 50_000L;
+
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong inlineJobs = new AtomicLong();
+    private final AtomicLong executedChunks = new AtomicLong();
+    private final AtomicLong stolenChunks = new AtomicLong();
+
     private static final WorkStealingTaskScheduler INSTANCE = new WorkStealingTaskScheduler();
-    
+
     public static WorkStealingTaskScheduler getInstance() {
         return INSTANCE;
     }
-    
+
     private WorkStealingTaskScheduler() {
-        this.parallelism = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
-        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
-            Thread t = new Thread(r, "AkiAsync-WorkStealing-" + System.currentTimeMillis());
-            t.setDaemon(true);
-            t.setPriority(Thread.NORM_PRIORITY - 1);
-            return t;
+    }
+
+    // Looked up per call: a plugin reload shuts the lanes down and builds new ones
+    private static LaneExecutor lane() {
+        return AkiScheduler.lane(SchedulerLane.TICK_CRITICAL);
+    }
+
+    @FunctionalInterface
+    public interface RangeBody {
+        void run(int from, int to);
+    }
+
+    @FunctionalInterface
+    public interface RangeMapper<R> {
+        R map(int from, int to);
+    }
+
+    public JobHandle fork(int start, int end, int grain, RangeBody body) {
+        int length = Math.max(0, end - start);
+        int chunkSize = Math.max(1, grain);
+        int chunks = (length + chunkSize - 1) / chunkSize;
+        LaneExecutor executor = lane();
+        int helpers = Math.min(executor.getThreadCount(), chunks - 1);
+        JobHandle job = new JobHandle(start, end, chunkSize, chunks, Math.max(0, helpers) + 1, body);
+        if (chunks == 0) {
+            job.done = true;
+            return job;
+        }
+        activeJobs.incrementAndGet();
+        if (helpers <= 0) {
+            inlineJobs.incrementAndGet();
+            return job;
+        }
+        for (int i = 0; i < helpers; i++) {
+            if (!executor.admit("work-stealing", null, job::help).isAdmitted()) {
+                break;
+            }
+        }
+        return job;
+    }
+
+    public void parallelFor(int start, int end, int grain, RangeBody body) {
+        fork(start, end, grain, body).join();
+    }
+
+    public void parallelFor(int start, int end, int grain, IntConsumer body) {
+        parallelFor(start, end, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                body.accept(i);
+            }
         });
     }
-    
+
+    public <R> R parallelReduce(int start, int end, int grain, R identity, RangeMapper<R> mapper, BinaryOperator<R> combiner) {
+        int chunkSize = Math.max(1, grain);
+        int chunks = (Math.max(0, end - start) + chunkSize - 1) / chunkSize;
+        AtomicReferenceArray<R> partials = new AtomicReferenceArray<>(chunks);
+        parallelFor(start, end, chunkSize, (from, to) -> partials.set((from - start) / chunkSize, mapper.map(from, to)));
+        R result = identity;
+        for (int i = 0; i < chunks; i++) {
+            R partial = partials.get(i);
+            if (partial != null) {
+                result = combiner.apply(result, partial);
+            }
+        }
+        return result;
+    }
+
     public <T> void processBatch(T[] items, Consumer<T> processor, int batchSize) {
         if (items == null || items.length == 0) {
             return;
         }
-        
-        taskIndex.set(0);
-        finishedTasks.set(0);
-        
-        for (int i = 0; i < parallelism; i++) {
-            executor.execute(() -> processWorkStealingTasks(items, processor, batchSize));
-        }
-        
-        while (taskIndex.get() < items.length) {
-            runMainThreadTasks();
-            handleBatchTasks(items, processor, Math.min(batchSize, 5));
-        }
-        
-        while (finishedTasks.get() != parallelism) {
-            runMainThreadTasks();
-        }
-        
-        runMainThreadTasks();
-    }
-    
-    private <T> void processWorkStealingTasks(T[] items, Consumer<T> processor, int batchSize) {
-        try {
-            while (handleBatchTasks(items, processor, batchSize)) {
-            }
-        } finally {
-            finishedTasks.incrementAndGet();
-        }
-    }
-    
-    private <T> boolean handleBatchTasks(T[] items, Consumer<T> processor, int batchSize) {
-        int startIndex = taskIndex.getAndAdd(batchSize);
-        
-        if (startIndex >= items.length) {
-            return false;
-        }
-        
-        int endIndex = Math.min(startIndex + batchSize, items.length);
-        
-        for (int i = startIndex; i < endIndex; i++) {
-            if (items[i] != null) {
+        parallelFor(0, items.length, batchSize, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                T item = items[i];
+                if (item == null) {
+                    continue;
+                }
                 try {
-                    processor.accept(items[i]);
+                    processor.accept(item);
                 } catch (Exception e) {
-                    scheduleMainThreadTask(() -> {
-                        System.err.println("[AkiAsync-WorkStealing] Task processing error: " + e.getMessage());
-                    });
+                    org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+                    if (bridge != null) {
+                        bridge.errorLog("[AkiAsync-WorkStealing] Task processing error: " + e.getMessage());
+                    }
                 }
             }
-        }
-        
-        return true;
+        });
     }
-    
+
     public void scheduleMainThreadTask(Runnable task) {
-        mainThreadTasks.offer(task);
-    }
-    
-    private void runMainThreadTasks() {
-        Runnable task;
-        int processed = 0;
-        
-        while ((task = mainThreadTasks.poll()) != null && processed < 10) {
-            try {
-                task.run();
-                processed++;
-            } catch (Exception e) {
-                System.err.println("[AkiAsync-WorkStealing] Main thread task error: " + e.getMessage());
-            }
-        }
+        MainThreadApplyQueue.submit(ApplySubsystem.WORK_STEALING, task);
     }
-    
+
     public <T> void processAdaptiveBatch(T[] items, Consumer<T> processor) {
         if (items == null || items.length == 0) {
             return;
         }
-        
-        int optimalBatchSize = Math.max(1, items.length / (parallelism * 4));
-        optimalBatchSize = Math.min(optimalBatchSize, 50);
-        
-        processBatch(items, processor, optimalBatchSize);
+        processBatch(items, processor, adaptiveGrain(items.length));
     }
-    
+
     public <T> void parallelForEach(T[] items, Consumer<T> processor) {
         processAdaptiveBatch(items, processor);
     }
-    
+
+    public <T> void parallelForEach(List<T> items, Consumer<T> processor) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        parallelFor(0, items.size(), adaptiveGrain(items.size()), i -> processor.accept(items.get(i)));
+    }
+
+    public int adaptiveGrain(int size) {
+        int grain = Math.max(1, size / ((lane().getThreadCount() + 1) * 4));
+        return Math.min(grain, 50);
+    }
+
     public SchedulerStats getStats() {
+        LaneExecutor executor = lane();
         return new SchedulerStats(
-            parallelism,
-            taskIndex.get(),
-            finishedTasks.get(),
-            mainThreadTasks.size(),
+            executor.getThreadCount(),
+            activeJobs.get(),
+            completedJobs.get(),
+            inlineJobs.get(),
+            executedChunks.get(),
+            stolenChunks.get(),
+            MainThreadApplyQueue.getDepth(ApplySubsystem.WORK_STEALING),
             !executor.isShutdown()
         );
     }
-    
+
     public void shutdown() {
-        executor.shutdown();
-        try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
+    }
+
+    public final class JobHandle {
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final int slots;
+        private final RangeBody body;
+        private final AtomicLongArray ranges;
+        private final AtomicInteger nextSlot = new AtomicInteger(1);
+        private final AtomicInteger remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile Thread waiter;
+        private volatile boolean done;
+
+        private JobHandle(int start, int end, int chunkSize, int chunks, int slots, RangeBody body) {
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.slots = slots;
+            this.body = body;
+            this.remaining = new AtomicInteger(chunks);
+            this.ranges = new AtomicLongArray(slots);
+            for (int slot = 0; slot < slots; slot++) {
+                long lo = (long) chunks * slot / slots;
+                long hi = (long) chunks * (slot + 1) / slots;
+                ranges.set(slot, pack((int) lo, (int) hi));
+            }
+        }
+
+        private void help() {
+            int slot = nextSlot.getAndIncrement();
+            if (slot < slots) {
+                work(slot);
             }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
-            Thread.currentThread().interrupt();
         }
+
+        private void work(int slot) {
+            int chunk;
+            while (!done && (chunk = popOwn(slot)) >= 0) {
+                runChunk(chunk);
+            }
+            boolean found = true;
+            while (!done && found) {
+                found = false;
+                for (int i = 1; i < slots && !done; i++) {
+                    int victim = (slot + i) % slots;
+                    while ((chunk = steal(victim)) >= 0) {
+                        stolenChunks.incrementAndGet();
+                        runChunk(chunk);
+                        found = true;
+                    }
+                }
+            }
+        }
+
+        private int popOwn(int slot) {
+            while (true) {
+                long range = ranges.get(slot);
+                int lo = low(range);
+                int hi = high(range);
+                if (lo >= hi) {
+                    return -1;
+                }
+                if (ranges.compareAndSet(slot, range, pack(lo, hi - 1))) {
+                    return hi - 1;
+                }
+            }
+        }
+
+        private int steal(int slot) {
+            while (true) {
+                long range = ranges.get(slot);
+                int lo = low(range);
+                int hi = high(range);
+                if (lo >= hi) {
+                    return -1;
+                }
+                if (ranges.compareAndSet(slot, range, pack(lo + 1, hi))) {
+                    return lo;
+                }
+            }
+        }
+
+        private void runChunk(int chunk) {
+            int from = start + chunk * chunkSize;
+            int to = Math.min(end, from + chunkSize);
+            try {
+                if (failure.get() == null) {
+                    body.run(from, to);
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                executedChunks.incrementAndGet();
+                if (remaining.decrementAndGet() == 0) {
+                    done = true;
+                    activeJobs.decrementAndGet();
+                    completedJobs.incrementAndGet();
+                    Thread w = waiter;
+                    if (w != null) {
+                        LockSupport.unpark(w);
+                    }
+                }
+            }
+        }
+
+        public void join() {
+            if (!done) {
+                waiter = Thread.currentThread();
+                work(0);
+                while (!done) {
+                    LockSupport.parkNanos(this, JOIN_PARK_NANOS);
+                }
+            }
+            Throwable t = failure.get();
+            if (t != null) {
+                throw t instanceof RuntimeException re ? re : new CompletionException(t);
+            }
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public int getRemainingChunks() {
+            return remaining.get();
+        }
+    }
+
+    private static long pack(int lo, int hi) {
+        return ((long) lo << 32) | (hi & 0xFFFFFFFFL);
+    }
+
+    private static int low(long range) {
+        return (int) (range >>> 32);
     }
-    
+
+    private static int high(long range) {
+        return (int) range;
+    }
+
     public static class SchedulerStats {
         public final int parallelism;
-        public final int currentTaskIndex;
-        public final int finishedTasks;
+        public final int activeJobs;
+        public final long completedJobs;
+        public final long inlineJobs;
+        public final long executedChunks;
+        public final long stolenChunks;
         public final int pendingMainThreadTasks;
         public final boolean isActive;
-        
-        public SchedulerStats(int parallelism, int currentTaskIndex, int finishedTasks, 
-                            int pendingMainThreadTasks, boolean isActive) {
+
+        public SchedulerStats(int parallelism, int activeJobs, long completedJobs, long inlineJobs,
+                            long executedChunks, long stolenChunks, int pendingMainThreadTasks, boolean isActive) {
             this.parallelism = parallelism;
-            this.currentTaskIndex = currentTaskIndex;
-            this.finishedTasks = finishedTasks;
+            this.activeJobs = activeJobs;
+            this.completedJobs = completedJobs;
+            this.inlineJobs = inlineJobs;
+            this.executedChunks = executedChunks;
+            this.stolenChunks = stolenChunks;
             this.pendingMainThreadTasks = pendingMainThreadTasks;
             this.isActive = isActive;
         }
-        
+
         @Override
         public String toString() {
-            return String.format("SchedulerStats{parallelism=%d, taskIndex=%d, finished=%d, pending=%d, active=%s}",
-                parallelism, currentTaskIndex, finishedTasks, pendingMainThreadTasks, isActive);
+            return String.format("SchedulerStats{parallelism=%d, activeJobs=%d, completed=%d, inline=%d, chunks=%d, stolen=%d, pending=%d, active=%s}",
+                parallelism, activeJobs, completedJobs, inlineJobs, executedChunks, stolenChunks, pendingMainThreadTasks, isActive);
         }
     }
 }
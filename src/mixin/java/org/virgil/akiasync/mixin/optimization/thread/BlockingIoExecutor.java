@@ -0,0 +1,191 @@
+package org.virgil.akiasync.mixin.optimization.thread;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.virgil.akiasync.mixin.async.scheduler.AkiScheduler;
+import org.virgil.akiasync.mixin.async.scheduler.SchedulerLane;
+
+public final class BlockingIoExecutor implements Executor {
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 32;
+    private static final BlockingIoExecutor INSTANCE = new BlockingIoExecutor();
+
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    private final AtomicInteger activeWorkers = new AtomicInteger(0);
+    private final AtomicLong submittedCount = new AtomicLong(0);
+    private final AtomicLong completedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final ResizableSemaphore permits = new ResizableSemaphore(DEFAULT_MAX_CONCURRENCY);
+    private volatile int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private volatile int peakWorkers = 0;
+    private volatile ThreadFactory factory;
+    private volatile boolean configured = false;
+
+    private BlockingIoExecutor() {
+    }
+
+    public static BlockingIoExecutor get() {
+        return INSTANCE;
+    }
+
+    public synchronized void configure(boolean virtualThreads, int maxConcurrency, boolean pinningDetector, long pinningThresholdMs) {
+        int target = Math.max(1, maxConcurrency);
+        int delta = target - this.maxConcurrency;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reduce(-delta);
+        }
+        this.maxConcurrency = target;
+
+        VirtualThreadService service = virtualThreads ? VirtualThreadService.get() : null;
+        ThreadFactory virtualFactory = null;
+        if (service != null) {
+            try {
+                virtualFactory = service.createFactory();
+            } catch (Throwable ignored) {
+            }
+        }
+        this.factory = virtualFactory;
+        this.configured = true;
+
+        if (virtualFactory != null && pinningDetector) {
+            VirtualThreadPinningDetector.start(pinningThresholdMs);
+        } else {
+            VirtualThreadPinningDetector.stop();
+        }
+
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null) {
+            bridge.debugLog("[AkiAsync-BlockingIO] " + (virtualFactory != null ? "Virtual threads" : "Platform IO lane") +
+                ", max concurrency " + target + ", pinning detector " + VirtualThreadPinningDetector.isRunning());
+        }
+    }
+
+    public boolean isVirtual() {
+        return factory != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        ThreadFactory threadFactory = factory;
+        if (threadFactory == null) {
+            if (!configured) {
+                configure(true, maxConcurrency, false, 0);
+                threadFactory = factory;
+            }
+            if (threadFactory == null) {
+                submittedCount.incrementAndGet();
+                AkiScheduler.lane(SchedulerLane.IO).execute(() -> runTask(task));
+                return;
+            }
+        }
+        submittedCount.incrementAndGet();
+        pending.offer(task);
+        pendingCount.incrementAndGet();
+        if (permits.tryAcquire()) {
+            startWorker(threadFactory);
+        }
+    }
+
+    private void startWorker(ThreadFactory threadFactory) {
+        try {
+            Thread worker = threadFactory.newThread(this::drain);
+            worker.setName("AkiAsync-BlockingIO");
+            worker.start();
+        } catch (Throwable t) {
+            permits.release();
+            Runnable task;
+            while ((task = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                Runnable queued = task;
+                AkiScheduler.lane(SchedulerLane.IO).execute(() -> runTask(queued));
+            }
+        }
+    }
+
+    private void drain() {
+        int workers = activeWorkers.incrementAndGet();
+        if (workers > peakWorkers) {
+            peakWorkers = workers;
+        }
+        try {
+            while (true) {
+                Runnable task;
+                while ((task = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    runTask(task);
+                }
+                permits.release();
+                if (pending.isEmpty() || !permits.tryAcquire()) {
+                    return;
+                }
+            }
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+            completedCount.incrementAndGet();
+        } catch (Throwable t) {
+            failedCount.incrementAndGet();
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.errorLog("[AkiAsync-BlockingIO] Task failed: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+            }
+        }
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers.get();
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public String getStatistics() {
+        return String.format(
+            "BlockingIO[%s | Active: %d/%d (peak %d) | Pending: %d | Submitted: %d | Completed: %d | Failed: %d | Pinned: %d (top: %s)]",
+            isVirtual() ? "virtual" : "platform",
+            activeWorkers.get(), maxConcurrency, peakWorkers, pendingCount.get(),
+            submittedCount.get(), completedCount.get(), failedCount.get(),
+            VirtualThreadPinningDetector.getPinnedCount(), VirtualThreadPinningDetector.getTopSite()
+        );
+    }
+
+    public void resetStatistics() {
+        submittedCount.set(0);
+        completedCount.set(0);
+        failedCount.set(0);
+        peakWorkers = activeWorkers.get();
+        VirtualThreadPinningDetector.resetStatistics();
+    }
+
+    public void shutdown() {
+        VirtualThreadPinningDetector.stop();
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+        private ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        private void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.virgil.akiasync.mixin.optimization.thread;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+final class VirtualThreadPinningDetector {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final long WARN_INTERVAL_MS = 60_000L;
+    private static final int MAX_SITES = 64;
+
+    private static final AtomicLong pinnedCount = new AtomicLong(0);
+    private static final Map<String, AtomicLong> pinnedSites = new ConcurrentHashMap<>();
+    private static volatile long lastWarnMillis = 0;
+    private static RecordingStream stream;
+
+    private VirtualThreadPinningDetector() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static synchronized void start(long thresholdMs) {
+        stop();
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(Math.max(1, thresholdMs))).withStackTrace();
+            recording.setMaxAge(Duration.ofSeconds(30));
+            recording.onEvent(PINNED_EVENT, VirtualThreadPinningDetector::onPinned);
+            recording.startAsync();
+            stream = recording;
+        } catch (Throwable t) {
+            stream = null;
+            org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+            if (bridge != null) {
+                bridge.debugLog("[AkiAsync-BlockingIO] Pinning detector unavailable: " + t.getMessage());
+            }
+        }
+    }
+
+    static synchronized void stop() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Throwable ignored) {
+            }
+            stream = null;
+        }
+    }
+
+    static synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private static void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        String site = describeSite(event.getStackTrace());
+        AtomicLong counter = pinnedSites.get(site);
+        if (counter == null && pinnedSites.size() < MAX_SITES) {
+            counter = pinnedSites.computeIfAbsent(site, k -> new AtomicLong());
+        }
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastWarnMillis < WARN_INTERVAL_MS) {
+            return;
+        }
+        lastWarnMillis = now;
+        org.virgil.akiasync.mixin.bridge.Bridge bridge = org.virgil.akiasync.mixin.bridge.BridgeManager.getBridge();
+        if (bridge != null) {
+            bridge.errorLog("[AkiAsync-BlockingIO] Virtual thread pinned its carrier for " +
+                event.getDuration().toMillis() + "ms at " + site + " (total pinned: " + pinnedCount.get() + ")");
+        }
+    }
+
+    private static String describeSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame first = null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (first == null) {
+                first = frame;
+            }
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return first != null ? first.getMethod().getType().getName() + "." + first.getMethod().getName() : "unknown";
+    }
+
+    static long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    static String getTopSite() {
+        String top = null;
+        long topCount = 0;
+        for (Map.Entry<String, AtomicLong> entry : pinnedSites.entrySet()) {
+            long count = entry.getValue().get();
+            if (count > topCount) {
+                top = entry.getKey();
+                topCount = count;
+            }
+        }
+        return top != null ? top + " x" + topCount : "none";
+    }
+
+    static void resetStatistics() {
+        pinnedCount.set(0);
+        pinnedSites.clear();
+    }
+}
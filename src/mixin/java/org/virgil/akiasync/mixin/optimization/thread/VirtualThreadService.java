@@ -118,26 +118,4 @@ public abstract class VirtualThreadService {
             }
         }
     }
-    
-    public static class VirtualThreadExecutor implements java.util.concurrent.Executor {
-        
-        private final VirtualThreadService service;
-        
-        public VirtualThreadExecutor(VirtualThreadService service) {
-            this.service = service;
-        }
-        
-        @Override
-        public void execute(Runnable command) {
-            service.start(command);
-        }
-        
-        public static VirtualThreadExecutor create() {
-            VirtualThreadService service = VirtualThreadService.get();
-            if (service != null) {
-                return new VirtualThreadExecutor(service);
-            }
-            return null;
-        }
-    }
 }